@@ -0,0 +1,13 @@
+-- Current comment creation: an atomic counter increment that also returns the author's
+-- name, then the comment insert.
+\set comment_id random(1, 9000000000000000000)
+BEGIN;
+UPDATE feedback
+SET comments = comments + 1,
+    updated_at = now()
+FROM "user" u
+WHERE feedback.id = 920000000000000001 AND u.id = 900000000000000001
+RETURNING u.name;
+INSERT INTO comment (id, text, feedback_id, author_id, created_at, updated_at, is_developer_response, upvotes)
+VALUES (:comment_id, 'Benchmark comment', 920000000000000001, 900000000000000001, now(), now(), false, 0);
+COMMIT;
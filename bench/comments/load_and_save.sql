@@ -0,0 +1,13 @@
+-- Former comment creation: load the feedback and the author, insert the comment, then
+-- write back the comment counter read at the start. Concurrent comments overwrite each
+-- other's counter.
+\set comment_id random(1, 9000000000000000000)
+BEGIN;
+SELECT * FROM feedback WHERE id = 920000000000000001 \gset
+SELECT * FROM "user" WHERE id = 900000000000000001;
+INSERT INTO comment (id, text, feedback_id, author_id, created_at, updated_at, is_developer_response, upvotes)
+VALUES (:comment_id, 'Benchmark comment', 920000000000000001, 900000000000000001, now(), now(), false, 0);
+UPDATE feedback
+SET comments = :comments + 1, updated_at = now()
+WHERE id = 920000000000000001;
+COMMIT;
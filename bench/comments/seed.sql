@@ -0,0 +1,20 @@
+-- Data set for the comment creation benchmark: a single busy feedback item that every
+-- client comments on, with no comments yet.
+BEGIN;
+
+INSERT INTO "user" (id, username, email, discord_id, discord_username, name, created_at, updated_at)
+VALUES (900000000000000001, 'bench.commenter', 'bench.commenter@example.com', 900000000000000001,
+        'BenchCommenter#0', 'Bench Commenter', now(), now())
+ON CONFLICT DO NOTHING;
+
+INSERT INTO feedback (id, title, description, status, author_id, category_id, sentiment,
+                      upvotes, downvotes, comments, created_at, updated_at, archived)
+VALUES (920000000000000001, 'Busy feedback', 'Feedback item receiving every benchmark comment', 'PENDING',
+        900000000000000001, (SELECT id FROM category ORDER BY id LIMIT 1), 'neutral',
+        0, 0, 0, now(), now(), false)
+ON CONFLICT DO NOTHING;
+
+DELETE FROM comment WHERE feedback_id = 920000000000000001;
+UPDATE feedback SET comments = 0 WHERE id = 920000000000000001;
+
+COMMIT;
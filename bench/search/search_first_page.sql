@@ -0,0 +1,14 @@
+-- First page of a search, as issued by GET /feedback?search=...&pageSize=20
+\set term random(1, 6)
+SELECT f.id, f.title, f.description, f.sentiment, f.upvotes, f.downvotes, f.comments,
+       CAST(f.status AS text) AS status, f.category_id, c.name AS category_name,
+       f.author_id, u.name AS author_name, f.created_at, f.archived,
+       ts_rank(f.search_vector, q) AS search_rank
+FROM feedback f
+LEFT JOIN category c ON c.id = f.category_id
+LEFT JOIN "user" u ON u.id = f.author_id
+CROSS JOIN websearch_to_tsquery('english',
+        (ARRAY['dark mode', 'api latency', 'webhook', '"session timeout"', 'export -csv', 'accessibility or theme'])[:term]) AS q
+WHERE f.search_vector @@ q
+ORDER BY ts_rank(f.search_vector, q) DESC, f.id DESC
+LIMIT 21;
@@ -0,0 +1,39 @@
+-- Synthetic data set for the full-text search benchmark: 1M feedback rows whose titles and
+-- descriptions are drawn from a small vocabulary, so common terms match a large share of rows
+-- and rare terms match only a few.
+BEGIN;
+
+INSERT INTO "user" (id, username, email, discord_id, discord_username, name, created_at, updated_at)
+SELECT 900000000000000000 + g, 'bench.user' || g, 'bench.user' || g || '@example.com',
+       900000000000000000 + g, 'BenchUser#' || g, 'Bench User ' || g, now(), now()
+FROM generate_series(1, 1000) AS g
+ON CONFLICT DO NOTHING;
+
+WITH vocabulary(words) AS (
+    SELECT ARRAY['login', 'mobile', 'dark', 'mode', 'api', 'slow', 'search', 'export', 'email',
+                 'dashboard', 'cache', 'database', 'backup', 'session', 'timeout', 'upload',
+                 'keyboard', 'shortcut', 'webhook', 'analytics', 'translation', 'pagination',
+                 'notification', 'password', 'profile', 'crash', 'latency', 'browser', 'theme',
+                 'accessibility', 'sync', 'offline', 'import', 'report', 'chart', 'filter']
+)
+INSERT INTO feedback (id, title, description, status, author_id, category_id, sentiment,
+                      upvotes, downvotes, comments, created_at, updated_at, archived)
+SELECT 910000000000000000 + g,
+       initcap(w[1 + (g * 7) % n] || ' ' || w[1 + (g * 13) % n] || ' ' || w[1 + (g * 31) % n]),
+       'The ' || w[1 + (g * 3) % n] || ' ' || w[1 + (g * 11) % n] || ' is affected when using the '
+           || w[1 + (g * 17) % n] || ' together with ' || w[1 + (g * 23) % n] || ' on ' || w[1 + (g * 29) % n] || '.',
+       'PENDING',
+       900000000000000000 + 1 + g % 1000,
+       (SELECT id FROM category ORDER BY id LIMIT 1),
+       'neutral',
+       g % 50, g % 7, g % 11,
+       now() - make_interval(secs => g * 30),
+       now() - make_interval(secs => g * 30),
+       g % 20 = 0
+FROM generate_series(1, 1000000) AS g,
+     vocabulary AS v(w),
+     LATERAL (SELECT array_length(w, 1)) AS len(n);
+
+COMMIT;
+
+ANALYZE feedback;
@@ -0,0 +1,20 @@
+-- A vote in the direct counter mode, as issued by FeedbackRepository.recordVote: the ledger
+-- upsert and the counter update of the hot feedback row in one statement. Each client votes
+-- as its own user and picks a random direction, so most votes change the counters.
+\set voter 900000000000000100 + :client_id
+\set direction random(-1, 1)
+WITH vote AS (
+    INSERT INTO feedback_vote (feedback_id, user_id, direction, created_at, updated_at)
+    VALUES (920000000000000000, :voter, :direction, now(), now())
+    ON CONFLICT (feedback_id, user_id) DO UPDATE
+    SET previous_direction = feedback_vote.direction,
+        direction = EXCLUDED.direction,
+        updated_at = now()
+    RETURNING direction, previous_direction
+)
+UPDATE feedback
+SET upvotes = GREATEST(upvotes + CAST(vote.direction = 1 AS int) - CAST(vote.previous_direction = 1 AS int), 0),
+    downvotes = GREATEST(downvotes + CAST(vote.direction = -1 AS int) - CAST(vote.previous_direction = -1 AS int), 0),
+    updated_at = now()
+FROM vote
+WHERE feedback.id = 920000000000000000;
@@ -0,0 +1,21 @@
+#!/bin/sh
+# Vote counter benchmark: runs the direct and the sharded vote statement for 60 seconds each
+# at 64 concurrent clients against a freshly seeded hot item, and prints one line per mode:
+#
+#   direct   tps=<transactions per second>  latency_ms=<average latency>
+#   sharded  tps=<transactions per second>  latency_ms=<average latency>
+#
+# Usage: bench/votes/run.sh [database]    (defaults to agora_feedback)
+set -eu
+
+db=${1:-agora_feedback}
+dir=$(dirname "$0")
+
+for mode in direct sharded; do
+    psql -q -d "$db" -f "$dir/seed.sql"
+    pgbench -d "$db" -n -c 64 -j 8 -T 60 -f "$dir/$mode.sql" 2>/dev/null |
+        awk -v mode="$mode" '
+            /^latency average/ { latency = $4 }
+            /^tps/ && !tps     { tps = $3 }
+            END                { printf "%-8s tps=%s  latency_ms=%s\n", mode, tps, latency }'
+done
@@ -0,0 +1,27 @@
+-- Data set for the vote counter benchmark: a single hot feedback item that every client
+-- votes on, one voter per pgbench client (up to 64), and no votes or counter shards yet.
+BEGIN;
+
+INSERT INTO "user" (id, username, email, discord_id, discord_username, name, created_at, updated_at)
+VALUES (900000000000000000, 'bench.voter', 'bench.voter@example.com', 900000000000000000,
+        'BenchVoter#0', 'Bench Voter', now(), now())
+ON CONFLICT DO NOTHING;
+
+INSERT INTO "user" (id, username, email, discord_id, discord_username, name, created_at, updated_at)
+SELECT 900000000000000100 + n, 'bench.voter' || n, 'bench.voter' || n || '@example.com',
+       900000000000000100 + n, 'BenchVoter#' || n, 'Bench Voter ' || n, now(), now()
+FROM generate_series(0, 63) AS n
+ON CONFLICT DO NOTHING;
+
+INSERT INTO feedback (id, title, description, status, author_id, category_id, sentiment,
+                      upvotes, downvotes, comments, created_at, updated_at, archived)
+VALUES (920000000000000000, 'Hot feedback', 'Feedback item receiving every benchmark vote', 'PENDING',
+        900000000000000000, (SELECT id FROM category ORDER BY id LIMIT 1), 'neutral',
+        0, 0, 0, now(), now(), false)
+ON CONFLICT DO NOTHING;
+
+DELETE FROM feedback_vote WHERE feedback_id = 920000000000000000;
+DELETE FROM feedback_counter_shard WHERE feedback_id = 920000000000000000;
+UPDATE feedback SET upvotes = 0, downvotes = 0 WHERE id = 920000000000000000;
+
+COMMIT;
@@ -0,0 +1,26 @@
+-- A vote in the sharded counter mode (agora.feedback.votes.shards.count = 8), as issued by
+-- FeedbackRepository.recordShardedVote: the ledger upsert and an increment of one of the
+-- item's shard rows, picked at random, in one statement. Each client votes as its own user
+-- and picks a random direction, so most votes change the counters.
+\set voter 900000000000000100 + :client_id
+\set direction random(-1, 1)
+\set slot random(0, 7)
+WITH vote AS (
+    INSERT INTO feedback_vote (feedback_id, user_id, direction, created_at, updated_at)
+    VALUES (920000000000000000, :voter, :direction, now(), now())
+    ON CONFLICT (feedback_id, user_id) DO UPDATE
+    SET previous_direction = feedback_vote.direction,
+        direction = EXCLUDED.direction,
+        updated_at = now()
+    RETURNING direction, previous_direction
+), delta AS (
+    SELECT CAST(direction = 1 AS int) - CAST(previous_direction = 1 AS int) AS up,
+           CAST(direction = -1 AS int) - CAST(previous_direction = -1 AS int) AS down
+    FROM vote
+)
+INSERT INTO feedback_counter_shard (feedback_id, slot, upvotes, downvotes)
+SELECT 920000000000000000, :slot, up, down FROM delta
+WHERE up <> 0 OR down <> 0
+ON CONFLICT (feedback_id, slot) DO UPDATE
+SET upvotes = feedback_counter_shard.upvotes + EXCLUDED.upvotes,
+    downvotes = feedback_counter_shard.downvotes + EXCLUDED.downvotes;
@@ -30,6 +30,8 @@ dependencies {
     implementation("io.quarkus:quarkus-jdbc-postgresql")
     implementation("io.quarkus:quarkus-flyway")
     implementation("io.quarkus:quarkus-hibernate-validator")
+    implementation("io.quarkus:quarkus-scheduler")
+    implementation("io.quarkus:quarkus-micrometer-registry-prometheus")
     implementation("io.hypersistence:hypersistence-utils-hibernate-71:3.12.0")
 
     implementation("io.quarkus:quarkus-smallrye-jwt")
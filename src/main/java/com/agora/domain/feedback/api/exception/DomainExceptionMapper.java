@@ -3,6 +3,7 @@ package com.agora.domain.feedback.api.exception;
 import com.agora.domain.feedback.exception.CategoryNotFoundException;
 import com.agora.domain.feedback.exception.DomainException;
 import com.agora.domain.feedback.exception.FeedbackNotFoundException;
+import com.agora.domain.feedback.exception.InvalidCursorException;
 import com.agora.domain.feedback.exception.UnauthorizedException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
@@ -15,6 +16,7 @@ import org.jboss.logging.Logger;
  * Maps domain-specific exceptions from the feedback domain to appropriate HTTP responses.
  * Handles specific not-found exceptions (FeedbackNotFoundException, CategoryNotFoundException)
  * by returning 404 status, authorization exceptions by returning 403 status,
+ * malformed pagination cursors by returning 400 status,
  * and generic domain exceptions by returning 500 status.
  * </p>
  *
@@ -42,6 +44,8 @@ public class DomainExceptionMapper implements ExceptionMapper<DomainException> {
             status = Response.Status.NOT_FOUND.getStatusCode();
         } else if (exception instanceof UnauthorizedException) {
             status = Response.Status.FORBIDDEN.getStatusCode();
+        } else if (exception instanceof InvalidCursorException) {
+            status = Response.Status.BAD_REQUEST.getStatusCode();
         } else {
             // Log server errors for monitoring
             LOGGER.error("Unhandled domain exception", exception);
@@ -0,0 +1,108 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.dto.CategoryResponse;
+import com.agora.domain.feedback.model.entity.FeedbackCategory;
+import com.agora.domain.feedback.model.event.CategoriesChangedEvent;
+import com.agora.domain.feedback.model.repository.CategoryRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory registry of feedback categories.
+ * <p>
+ * The category table is tiny and almost never changes, so it is loaded once at startup
+ * into an immutable snapshot. Validation, name lookups and the category listing are then
+ * served without any database I/O. The snapshot is rebuilt after every committed category
+ * write, signalled by {@link CategoriesChangedEvent}.
+ * </p>
+ * <p>
+ * Writes made by another application instance (or directly in the database) are only
+ * picked up on that instance's next refresh or restart.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class CategoryRegistry {
+    private static final Logger LOGGER = Logger.getLogger(CategoryRegistry.class);
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), List.of());
+
+    @Inject
+    public CategoryRegistry(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        refresh();
+    }
+
+    void onCategoriesChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) CategoriesChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * Reloads all categories from the database and atomically swaps in the new snapshot.
+     */
+    public void refresh() {
+        List<FeedbackCategory> categories = QuarkusTransaction.requiringNew()
+                .call(() -> categoryRepository.listAll(Sort.by("id")));
+
+        Map<Long, String> names = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(FeedbackCategory::getId, FeedbackCategory::getName));
+
+        List<CategoryResponse> responses = categories.stream()
+                .map(category -> new CategoryResponse(IdHelper.toString(category.getId()), category.getName()))
+                .toList();
+
+        snapshot = new Snapshot(names, responses);
+        LOGGER.debugf("Loaded %d feedback categories", names.size());
+    }
+
+    /**
+     * Checks whether a category with the given ID exists.
+     *
+     * @param id The category ID
+     * @return True if the category exists
+     */
+    public boolean contains(Long id) {
+        return snapshot.names().containsKey(id);
+    }
+
+    /**
+     * Looks up the name of a category.
+     *
+     * @param id The category ID
+     * @return The category name, or empty if the category does not exist
+     */
+    public Optional<String> nameOf(Long id) {
+        return Optional.ofNullable(snapshot.names().get(id));
+    }
+
+    /**
+     * Returns all categories ordered by ID.
+     *
+     * @return Immutable list of category responses
+     */
+    public List<CategoryResponse> findAll() {
+        return snapshot.responses();
+    }
+
+    private record Snapshot(Map<Long, String> names, List<CategoryResponse> responses) {
+    }
+}
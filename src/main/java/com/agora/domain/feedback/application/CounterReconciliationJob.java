@@ -0,0 +1,110 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.model.VoteCounterMode;
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Scheduled job that repairs drift in the denormalized feedback counters.
+ * <p>
+ * Walks the feedback table in id order, in chunks that each run in their own short
+ * transaction: the chunk's rows are locked (skipping rows already locked by a vote), their
+ * upvotes, downvotes and comments are recounted from the vote ledger and comment table in
+ * one statement, and only rows that differ are written. The job pauses between chunks and
+ * uses a single connection at a time, so it never holds locks for long or crowds out
+ * request traffic.
+ * </p>
+ * <p>
+ * Vote counters are only recounted for feedback created after the vote ledger was
+ * introduced; older feedback may hold votes the ledger never saw, so only its comment
+ * count is reconciled. In the write-behind counter mode, vote deltas waiting in memory
+ * are not visible to the recount, so only comment counts are reconciled. Comment upvotes
+ * are not covered: comment votes have no ledger to recount them from.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class CounterReconciliationJob {
+    private static final Logger LOGGER = Logger.getLogger(CounterReconciliationJob.class);
+
+    private final FeedbackRepository feedbackRepository;
+    private final VoteCounterMode voteCounterMode;
+    private final int chunkSize;
+    private final Duration pause;
+
+    @Inject
+    public CounterReconciliationJob(FeedbackRepository feedbackRepository,
+                                    @ConfigProperty(name = "agora.feedback.votes.counter-mode") VoteCounterMode voteCounterMode,
+                                    @ConfigProperty(name = "agora.feedback.reconciliation.chunk-size") int chunkSize,
+                                    @ConfigProperty(name = "agora.feedback.reconciliation.pause") Duration pause) {
+        this.feedbackRepository = feedbackRepository;
+        this.voteCounterMode = voteCounterMode;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(every = "{agora.feedback.reconciliation.every}",
+            delayed = "{agora.feedback.reconciliation.every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledReconcile() {
+        reconcile(0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reconciles the counters of all feedback with an id in the given range.
+     *
+     * @param fromId Lowest id to include
+     * @param toId Highest id to include
+     * @return Number of feedback rows whose counters were fixed
+     */
+    public int reconcile(long fromId, long toId) {
+        boolean includeVotes = voteCounterMode != VoteCounterMode.WRITE_BEHIND;
+        long afterId = fromId - 1;
+        int chunks = 0;
+        int fixed = 0;
+        while (true) {
+            long from = afterId;
+            ChunkResult result = QuarkusTransaction.requiringNew().call(() -> {
+                List<Long> ids = feedbackRepository.lockCounterChunk(from, toId, chunkSize);
+                return new ChunkResult(ids.isEmpty() ? null : ids.getLast(),
+                        feedbackRepository.reconcileCounters(ids, includeVotes));
+            });
+            if (result.lastId() == null) {
+                break;
+            }
+            afterId = result.lastId();
+            chunks++;
+            fixed += result.fixed();
+            if (!throttle()) {
+                break;
+            }
+        }
+        if (fixed > 0) {
+            LOGGER.infof("Reconciled counters of %d feedback items in %d chunks", fixed, chunks);
+        }
+        return fixed;
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ChunkResult(Long lastId, int fixed) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Scheduled job that rolls sharded vote counters up into the feedback table.
+ * <p>
+ * In the sharded counter mode votes only write counter shard rows; list and detail reads
+ * use the {@code upvotes}/{@code downvotes} columns of the feedback row, which this job
+ * refreshes by folding the shards into them. Each batch commits on its own. The job also
+ * runs in the other modes, where it finds nothing to do unless the mode was just switched
+ * away from sharded counters.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class CounterShardRollupJob {
+    private static final Logger LOGGER = Logger.getLogger(CounterShardRollupJob.class);
+
+    private final FeedbackRepository feedbackRepository;
+    private final int batchSize;
+
+    @Inject
+    public CounterShardRollupJob(FeedbackRepository feedbackRepository,
+                                 @ConfigProperty(name = "agora.feedback.votes.shards.rollup-batch-size") int batchSize) {
+        this.feedbackRepository = feedbackRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(every = "{agora.feedback.votes.shards.rollup-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRollUp() {
+        rollUp();
+    }
+
+    /**
+     * Folds all counter shards into their feedback rows.
+     * <p>
+     * Stops after the first batch that is not full, so shards written continuously during
+     * the run are left for the next one.
+     * </p>
+     *
+     * @return Number of shard rows folded
+     */
+    public int rollUp() {
+        int total = 0;
+        int folded;
+        do {
+            folded = QuarkusTransaction.requiringNew().call(() -> feedbackRepository.rollUpCounterShards(batchSize));
+            total += folded;
+        } while (folded == batchSize);
+        if (total > 0) {
+            LOGGER.debugf("Rolled up %d vote counter shards", total);
+        }
+        return total;
+    }
+}
@@ -3,29 +3,50 @@ package com.agora.domain.feedback.application;
 import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
 import com.agora.domain.feedback.application.dto.UpdateFeedbackCommand;
 import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.common.PageCursor;
+import com.agora.domain.feedback.common.TotalCount;
 import com.agora.domain.feedback.exception.CategoryNotFoundException;
 import com.agora.domain.feedback.exception.FeedbackNotFoundException;
+import com.agora.domain.feedback.exception.InvalidCursorException;
 import com.agora.domain.feedback.exception.UnauthorizedException;
 import com.agora.domain.feedback.model.dto.*;
 import com.agora.domain.feedback.model.entity.Comment;
 import com.agora.domain.feedback.model.entity.Feedback;
 import com.agora.domain.feedback.model.entity.FeedbackCategory;
+import com.agora.domain.feedback.model.entity.FeedbackStatus;
+import com.agora.domain.feedback.model.CommentSort;
+import com.agora.domain.feedback.model.ExportFormat;
+import com.agora.domain.feedback.model.FeedbackSort;
+import com.agora.domain.feedback.model.VoteCounterMode;
 import com.agora.domain.feedback.model.VoteDirection;
 import com.agora.domain.feedback.model.repository.CategoryRepository;
 import com.agora.domain.feedback.model.repository.CommentRepository;
 import com.agora.domain.feedback.model.repository.FeedbackRepository;
 import com.agora.domain.user.exception.UserNotFoundException;
+import com.agora.domain.user.model.ReputationEventType;
 import com.agora.domain.user.model.User;
+import com.agora.domain.user.model.repository.ReputationEventRepository;
 import com.agora.domain.user.model.repository.UserRepository;
-import io.quarkus.panache.common.Page;
-import io.quarkus.panache.common.Sort;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Application service for feedback management operations.
@@ -40,20 +61,49 @@ import java.util.List;
  */
 @ApplicationScoped
 public class FeedbackApplicationService {
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final String TRENDING_CURSOR_KEY = "trending";
+    private static final int TAG_FACET_LIMIT = 20;
+    /** Reputation a feedback author gains per upvote and loses per downvote received. */
+    private static final int FEEDBACK_UPVOTE_POINTS = 10;
+    private static final int FEEDBACK_DOWNVOTE_POINTS = -2;
+    /** Reputation gained for posting a comment or reply. */
+    private static final int COMMENT_POSTED_POINTS = 2;
+    private static final String CSV_HEADER =
+            "id,title,description,sentiment,upvotes,comments,status,categoryName,authorName,createdAt,archived,tags\n";
+
     private final FeedbackRepository feedbackRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ObjectMapper objectMapper;
+    private final VoteAggregationBuffer voteBuffer;
+    private final VoteCounterMode voteCounterMode;
+    private final int voteCounterShards;
+    private final ReputationEventRepository reputationEventRepository;
 
     @Inject
     public FeedbackApplicationService(FeedbackRepository feedbackRepository,
                                        CategoryRepository categoryRepository,
                                        UserRepository userRepository,
-                                       CommentRepository commentRepository) {
+                                       CommentRepository commentRepository,
+                                       CategoryRegistry categoryRegistry,
+                                       ObjectMapper objectMapper,
+                                       VoteAggregationBuffer voteBuffer,
+                                       @ConfigProperty(name = "agora.feedback.votes.counter-mode") VoteCounterMode voteCounterMode,
+                                       @ConfigProperty(name = "agora.feedback.votes.shards.count") int voteCounterShards,
+                                       ReputationEventRepository reputationEventRepository) {
         this.feedbackRepository = feedbackRepository;
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
         this.commentRepository = commentRepository;
+        this.categoryRegistry = categoryRegistry;
+        this.objectMapper = objectMapper;
+        this.voteBuffer = voteBuffer;
+        this.voteCounterMode = voteCounterMode;
+        this.voteCounterShards = voteCounterShards;
+        this.reputationEventRepository = reputationEventRepository;
     }
 
     /**
@@ -72,11 +122,7 @@ public class FeedbackApplicationService {
         );
 
         if (command.categoryId() != null) {
-            FeedbackCategory category = categoryRepository.findById(IdHelper.toLong(command.categoryId()));
-            if (category == null) {
-                throw new CategoryNotFoundException(IdHelper.toLong(command.categoryId()));
-            }
-            feedback.setCategory(category);
+            feedback.setCategory(categoryReference(IdHelper.toLong(command.categoryId())));
         }
 
 
@@ -91,9 +137,7 @@ public class FeedbackApplicationService {
 //            feedback.setSentiment(command.sentiment());
 //        }
 
-//        if (command.tags() != null) {
-//            feedback.setTags(command.tags());
-//        }
+        feedback.changeTags(command.tags());
 
         feedbackRepository.persist(feedback);
         return toResponse(feedback);
@@ -111,37 +155,19 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public FeedbackResponse updateFeedback(@NotNull Long id, @Valid @NotNull UpdateFeedbackCommand command) {
-        Feedback feedback = feedbackRepository.findById(id);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(id);
-        }
+        Feedback feedback = feedbackRepository.findByIdWithAuthor(id)
+                .orElseThrow(() -> new FeedbackNotFoundException(id));
 
+        FeedbackStatus previousStatus = feedback.getStatus();
         feedback.setTitle(command.title());
         feedback.setDescription(command.description());
         feedback.setStatus(command.status());
+        recordStatusChange(feedback, previousStatus);
 
-        if (command.categoryId() != null) {
-            FeedbackCategory category = categoryRepository.findById(command.categoryId());
-            if (category == null) {
-                throw new CategoryNotFoundException(command.categoryId());
-            }
-            feedback.setCategory(category);
-        } else {
-            feedback.setCategory(null);
-        }
-
-        if (command.authorId() != null) {
-            User author = userRepository.findById(command.authorId());
-            if (author == null) {
-                throw new UserNotFoundException(command.authorId());
-            }
-            feedback.setAuthor(author);
-        } else {
-            feedback.setAuthor(null);
-        }
+        applyCategoryAndAuthor(feedback, command);
 
         feedback.setSentiment(command.sentiment());
-        feedback.setTags(command.tags());
+        feedback.changeTags(command.tags());
 
         feedbackRepository.persist(feedback);
         return toResponse(feedback);
@@ -164,10 +190,8 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public FeedbackResponse updateFeedback(@NotNull Long id, @Valid @NotNull UpdateFeedbackCommand command, @NotNull Long currentUserId) {
-        Feedback feedback = feedbackRepository.findById(id);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(id);
-        }
+        Feedback feedback = feedbackRepository.findByIdWithAuthor(id)
+                .orElseThrow(() -> new FeedbackNotFoundException(id));
 
         // Check authorization: only author or admin can update
         User currentUser = userRepository.findById(currentUserId);
@@ -182,35 +206,80 @@ public class FeedbackApplicationService {
             throw new UnauthorizedException("Only the feedback author or an admin can update this feedback");
         }
 
+        FeedbackStatus previousStatus = feedback.getStatus();
         feedback.setTitle(command.title());
         feedback.setDescription(command.description());
         feedback.setStatus(command.status());
+        recordStatusChange(feedback, previousStatus);
 
-        if (command.categoryId() != null) {
-            FeedbackCategory category = categoryRepository.findById(command.categoryId());
-            if (category == null) {
-                throw new CategoryNotFoundException(command.categoryId());
-            }
-            feedback.setCategory(category);
-        } else {
-            feedback.setCategory(null);
+        applyCategoryAndAuthor(feedback, command);
+
+        feedback.setSentiment(command.sentiment());
+        feedback.changeTags(command.tags());
+
+        feedbackRepository.persist(feedback);
+        return toResponse(feedback);
+    }
+
+    /**
+     * Appends the reputation event for a status change of a feedback item to its author's
+     * ledger. The change is the difference between the points of the two statuses, so
+     * moving a status back undoes the reputation it earned.
+     */
+    private void recordStatusChange(Feedback feedback, FeedbackStatus previousStatus) {
+        if (feedback.getAuthor() == null || feedback.getStatus() == previousStatus) {
+            return;
+        }
+        reputationEventRepository.record(feedback.getAuthor().getId(), ReputationEventType.FEEDBACK_STATUS,
+                statusPoints(feedback.getStatus()) - statusPoints(previousStatus), feedback.getId(), null, null);
+    }
+
+    /** Reputation a feedback author holds for an item in the given status. */
+    private static int statusPoints(FeedbackStatus status) {
+        if (status == null) {
+            return 0;
         }
+        return switch (status) {
+            case PENDING -> 0;
+            case ACKNOWLEDGED -> 2;
+            case IN_PROGRESS -> 5;
+            case COMPLETED -> 25;
+        };
+    }
 
-        if (command.authorId() != null) {
+    /**
+     * Sets the category and author named by an update command.
+     * <p>
+     * The category is validated against the {@link CategoryRegistry} and set as an
+     * unloaded reference. An author already loaded through the
+     * {@link Feedback#GRAPH_WITH_AUTHOR} graph is kept when the id is unchanged,
+     * so unchanged fields cost no extra select.
+     * </p>
+     */
+    private void applyCategoryAndAuthor(Feedback feedback, UpdateFeedbackCommand command) {
+        feedback.setCategory(command.categoryId() != null ? categoryReference(command.categoryId()) : null);
+
+        if (command.authorId() == null) {
+            feedback.setAuthor(null);
+        } else if (feedback.getAuthor() == null || !command.authorId().equals(feedback.getAuthor().getId())) {
             User author = userRepository.findById(command.authorId());
             if (author == null) {
                 throw new UserNotFoundException(command.authorId());
             }
             feedback.setAuthor(author);
-        } else {
-            feedback.setAuthor(null);
         }
+    }
 
-        feedback.setSentiment(command.sentiment());
-        feedback.setTags(command.tags());
-
-        feedbackRepository.persist(feedback);
-        return toResponse(feedback);
+    /**
+     * Returns an unloaded reference to a category after validating it against the registry.
+     *
+     * @throws CategoryNotFoundException if the category does not exist
+     */
+    private FeedbackCategory categoryReference(Long categoryId) {
+        if (!categoryRegistry.contains(categoryId)) {
+            throw new CategoryNotFoundException(categoryId);
+        }
+        return categoryRepository.getEntityManager().getReference(FeedbackCategory.class, categoryId);
     }
 
     /**
@@ -222,44 +291,200 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public FeedbackResponse getFeedback(@NotNull Long id) {
-        Feedback feedback = feedbackRepository.findById(id);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(id);
-        }
-        return toResponse(feedback);
+        return feedbackRepository.findViewById(id)
+                .map(this::toResponse)
+                .orElseThrow(() -> new FeedbackNotFoundException(id));
+    }
+
+    /**
+     * Adds the given user's vote to a feedback response.
+     *
+     * @param response The feedback response
+     * @param userId The ID of the authenticated user
+     * @return The response carrying the user's vote
+     */
+    @Transactional
+    public FeedbackResponse withUserVote(@NotNull FeedbackResponse response, @NotNull Long userId) {
+        return withUserVotes(List.of(response), userId).getFirst();
+    }
+
+    /**
+     * Adds the given user's votes to every item of a feedback page.
+     * <p>
+     * All votes of the page are read in one query, however many items it holds.
+     * </p>
+     *
+     * @param response The feedback page
+     * @param userId The ID of the authenticated user
+     * @return The page with every item carrying the user's vote
+     */
+    @Transactional
+    public PaginatedFeedbackResponse withUserVotes(@NotNull PaginatedFeedbackResponse response, @NotNull Long userId) {
+        return response.withItems(withUserVotes(response.items(), userId));
+    }
+
+    private List<FeedbackResponse> withUserVotes(List<FeedbackResponse> items, Long userId) {
+        Map<Long, VoteDirection> votes = feedbackRepository.findVoteDirections(userId,
+                items.stream().map(item -> IdHelper.toLong(item.id())).toList());
+        return items.stream()
+                .map(item -> item.withUserVote(
+                        votes.getOrDefault(IdHelper.toLong(item.id()), VoteDirection.NONE).getValue()))
+                .toList();
     }
 
     /**
      * Retrieves all feedbacks with pagination and optional sorting.
+     * <p>
+     * The response carries a {@code next} cursor when more items follow, so clients can
+     * switch to {@link #getFeedbacksAfterCursor(String, int, String, FeedbackFilter, boolean)} for deeper pages.
+     * </p>
      *
      * @param pageNumber The page number (1-indexed). Defaults to 1 if less than 1.
      * @param pageSize The number of items per page (1-100). Defaults to 10 if less than 1, capped at 100.
-     * @param sortOrder Sort order: "oldest" for ascending, any other value for descending (default)
+     * @param sortOrder Sort order: "oldest", "trending", or "newest" (default for any other value)
+     * @param filter Filters pushed down into the query
+     * @param includeTotal True to compute an exact total; otherwise large tables report an estimate
      * @return PaginatedFeedbackResponse containing paginated feedback items with metadata
      */
     @Transactional
-    public PaginatedFeedbackResponse getAllFeedbacksPaginated(int pageNumber, int pageSize, String sortOrder) {
+    public PaginatedFeedbackResponse getAllFeedbacksPaginated(int pageNumber, int pageSize, String sortOrder,
+                                                              @NotNull FeedbackFilter filter, boolean includeTotal) {
         // Validate inputs
         int page = Math.max(1, pageNumber);
         int size = Math.max(1, Math.min(pageSize, 100)); // Max 100 items per page
 
-        // Determine sort direction based on sortOrder parameter
-        Sort.Direction direction = "oldest".equalsIgnoreCase(sortOrder)
-                ? Sort.Direction.Ascending
-                : Sort.Direction.Descending;
+        FeedbackSort sort = FeedbackSort.fromString(sortOrder);
+
+        // Get paginated results ordered by (sort key, id) so they match the keyset cursor,
+        // fetching one extra row to learn whether another page follows
+        List<FeedbackView> rows = feedbackRepository.findViewPage(filter, sort, (page - 1) * size, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<FeedbackView> pageResult = hasNext ? rows.subList(0, size) : rows;
+
+        TotalCount total = countFeedbacks(filter, includeTotal);
+
+        List<FeedbackResponse> items = pageResult.stream()
+                .map(this::toResponse)
+                .toList();
+
+        String next = hasNext ? nextCursor(pageResult, sort) : null;
+        return new PaginatedFeedbackResponse(items, page, size, total.value(), total.pages(size), total.approximate(), next);
+    }
+
+    /**
+     * Retrieves the page of feedbacks following a keyset cursor.
+     * <p>
+     * Seeks on {@code (created_at, id)} or {@code (hot_score, id)} instead of using an offset,
+     * so every page costs the same regardless of its depth. Page number is reported as 0 in
+     * cursor mode.
+     * </p>
+     *
+     * @param cursor Opaque cursor from a previous response's {@code next} field
+     * @param pageSize The number of items per page (1-100). Defaults to 10 if less than 1, capped at 100.
+     * @param sortOrder Sort order: "oldest", "trending", or "newest" (default for any other value)
+     * @param filter Filters pushed down into the query; must match those of the previous page
+     * @param includeTotal True to compute an exact total; otherwise large tables report an estimate
+     * @return PaginatedFeedbackResponse containing the next page and its own {@code next} cursor, if any
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another sort order
+     */
+    @Transactional
+    public PaginatedFeedbackResponse getFeedbacksAfterCursor(@NotNull String cursor, int pageSize, String sortOrder,
+                                                             @NotNull FeedbackFilter filter, boolean includeTotal) {
+        int size = Math.max(1, Math.min(pageSize, 100)); // Max 100 items per page
+
+        FeedbackSort sort = FeedbackSort.fromString(sortOrder);
+        PageCursor after = PageCursor.decode(cursor);
+        if (sort == FeedbackSort.TRENDING) {
+            // The key holds the order's name and the last row's hot score
+            String[] key = after.key().split(":", 2);
+            if (key.length != 2 || !TRENDING_CURSOR_KEY.equals(key[0])) {
+                throw new InvalidCursorException(cursor);
+            }
+            after = new PageCursor(key[1], after.id());
+        }
 
-        Sort sort = Sort.by("createdAt", direction);
+        // Fetch one extra row to learn whether another page follows
+        List<FeedbackView> rows = feedbackRepository.findViewPageAfter(filter, after, sort, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<FeedbackView> pageResult = hasNext ? rows.subList(0, size) : rows;
 
-        // Get paginated results
-        var pageResult = feedbackRepository.findAll(sort).page(Page.of(page - 1, size)).list();
-        long totalItems = feedbackRepository.count();
-        int totalPages = (int) Math.ceil((double) totalItems / size);
+        TotalCount total = countFeedbacks(filter, includeTotal);
 
         List<FeedbackResponse> items = pageResult.stream()
                 .map(this::toResponse)
                 .toList();
 
-        return new PaginatedFeedbackResponse(items, page, size, totalItems, totalPages);
+        String next = hasNext ? nextCursor(pageResult, sort) : null;
+        return new PaginatedFeedbackResponse(items, 0, size, total.value(), total.pages(size), total.approximate(), next);
+    }
+
+    /**
+     * Searches feedbacks by title and description, best match first.
+     * <p>
+     * Results are ordered by full-text rank and paged with a cursor bound to the search
+     * terms; {@code pageNumber} is only used when no cursor is given. Totals have no planner
+     * estimate here, so unless an exact total is requested counting stops at
+     * {@link TotalCount#EXACT_COUNT_THRESHOLD} matches.
+     * </p>
+     *
+     * @param search The search terms, in web search syntax
+     * @param cursor Opaque cursor from a previous search response's {@code next} field, or null
+     * @param pageNumber The page number (1-indexed) used when no cursor is given
+     * @param pageSize The number of items per page (1-100). Defaults to 10 if less than 1, capped at 100.
+     * @param filter Filters the matches must also satisfy
+     * @param includeTotal True to count every match
+     * @return PaginatedFeedbackResponse containing the matching page and its {@code next} cursor, if any
+     * @throws InvalidCursorException if the cursor is malformed or belongs to other search terms
+     */
+    @Transactional
+    public PaginatedFeedbackResponse searchFeedbacks(@NotNull String search, String cursor, int pageNumber, int pageSize,
+                                                     @NotNull FeedbackFilter filter, boolean includeTotal) {
+        int page = cursor != null ? 0 : Math.max(1, pageNumber);
+        int size = Math.max(1, Math.min(pageSize, 100)); // Max 100 items per page
+
+        Float afterRank = null;
+        Long afterId = null;
+        if (cursor != null) {
+            PageCursor after = PageCursor.decode(cursor);
+            // The key holds the last rank and the search terms the cursor is bound to
+            String[] key = after.key().split(":", 2);
+            if (key.length != 2 || !key[1].equals(search)) {
+                throw new InvalidCursorException(cursor);
+            }
+            afterRank = parseRank(key[0], cursor);
+            afterId = after.id();
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        List<FeedbackSearchHit> rows = feedbackRepository.searchViews(search, filter, afterRank, afterId,
+                Math.max(0, (page - 1) * size), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<FeedbackSearchHit> pageResult = hasNext ? rows.subList(0, size) : rows;
+
+        TotalCount total = TotalCount.bounded(includeTotal, limit -> feedbackRepository.countMatching(search, filter, limit));
+
+        List<FeedbackResponse> items = pageResult.stream()
+                .map(hit -> toResponse(hit.view()))
+                .toList();
+
+        String next = null;
+        if (hasNext) {
+            FeedbackSearchHit last = pageResult.getLast();
+            next = new PageCursor(last.rank() + ":" + search, last.view().id()).encode();
+        }
+        return new PaginatedFeedbackResponse(items, page, size, total.value(), total.pages(size), total.approximate(), next);
+    }
+
+    /**
+     * Counts the most frequent tags among feedbacks matching a filter and optional search.
+     *
+     * @param search The search terms, or null to facet the plain list
+     * @param filter Filters the feedbacks must match
+     * @return Up to {@value #TAG_FACET_LIMIT} tag facet counts, most frequent first
+     */
+    @Transactional
+    public List<TagFacet> getTagFacets(String search, @NotNull FeedbackFilter filter) {
+        return feedbackRepository.countTags(search, filter, TAG_FACET_LIMIT);
     }
 
     /**
@@ -269,12 +494,73 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public List<FeedbackResponse> getAllFeedbacks() {
-        return feedbackRepository.findAll()
+        return feedbackRepository.listAllViews()
                 .stream()
                 .map(this::toResponse)
                 .toList();
     }
 
+    /**
+     * Writes every feedback item to the given stream in the requested format.
+     * <p>
+     * Rows are pulled through a database cursor and written one at a time, flushing the
+     * output every {@value #EXPORT_FETCH_SIZE} rows. Projections are never attached to the
+     * persistence context, so heap use stays flat regardless of the number of rows.
+     * </p>
+     *
+     * @param format The export format (NDJSON or CSV)
+     * @param output The stream to write to; it is flushed but not closed
+     * @throws IOException if writing to the output fails
+     */
+    @Transactional
+    public void exportFeedbacks(@NotNull ExportFormat format, @NotNull OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        try (Stream<FeedbackView> rows = feedbackRepository.streamAllViews(EXPORT_FETCH_SIZE)) {
+            Iterator<FeedbackView> iterator = rows.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                FeedbackResponse response = toResponse(iterator.next());
+                writer.write(format == ExportFormat.CSV ? toCsvLine(response) : objectMapper.writeValueAsString(response));
+                writer.write('\n');
+                if (++written % EXPORT_FETCH_SIZE == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private static String toCsvLine(FeedbackResponse response) {
+        return Stream.of(response.id(),
+                        response.title(),
+                        response.description(),
+                        response.sentiment(),
+                        String.valueOf(response.upvotes()),
+                        String.valueOf(response.comments()),
+                        String.valueOf(response.status()),
+                        response.categoryName(),
+                        response.authorName(),
+                        String.valueOf(response.createdAt()),
+                        String.valueOf(response.archived()),
+                        String.join(",", response.tags()))
+                .map(FeedbackApplicationService::escapeCsv)
+                .collect(Collectors.joining(","));
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
     /**
      * Deletes a feedback item by its ID.
      *
@@ -283,11 +569,9 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public void deleteFeedback(@NotNull Long id) {
-        Feedback feedback = feedbackRepository.findById(id);
-        if (feedback == null) {
+        if (!feedbackRepository.deleteById(id)) {
             throw new FeedbackNotFoundException(id);
         }
-        feedbackRepository.deleteById(id);
     }
 
     /**
@@ -299,10 +583,8 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public FeedbackResponse archiveFeedback(@NotNull String id) {
-        var feedback = feedbackRepository.findById(IdHelper.toLong(id));
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(id);
-        }
+        var feedback = feedbackRepository.findByIdWithAuthor(IdHelper.toLong(id))
+                .orElseThrow(() -> new FeedbackNotFoundException(id));
         feedback.archive();
         feedbackRepository.persist(feedback);
         return toResponse(feedback);
@@ -317,43 +599,95 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public FeedbackResponse reopenFeedback(@NotNull Long id) {
-        Feedback feedback = feedbackRepository.findById(id);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(id);
-        }
+        Feedback feedback = feedbackRepository.findByIdWithAuthor(id)
+                .orElseThrow(() -> new FeedbackNotFoundException(id));
+        FeedbackStatus previousStatus = feedback.getStatus();
         feedback.reopen();
+        recordStatusChange(feedback, previousStatus);
         feedbackRepository.persist(feedback);
         return toResponse(feedback);
     }
 
     /**
-     * Adds a new comment to an existing feedback item.
+     * Adds a new comment, or a reply to an existing comment, to a feedback item.
+     * <p>
+     * The feedback's comment counter is incremented atomically in the database, which also
+     * locks the feedback row for the rest of the transaction and confirms the author exists.
+     * For a reply, the parent's reply counter is incremented the same way, returning the
+     * parent's path and depth. The comment is then inserted with references to the
+     * feedback, the author and the parent, so none of them is loaded. The author's
+     * reputation for posting is appended to the reputation ledger.
+     * </p>
      *
      * @param feedbackId The feedback ID to comment on
-     * @param request The comment creation request containing text and author details
+     * @param authorId The ID of the comment author
+     * @param request The comment creation request containing the text and optional parent comment
      * @return CommentResponse containing the newly created comment
      * @throws FeedbackNotFoundException if feedback with given ID does not exist
      * @throws UserNotFoundException if the comment author does not exist
+     * @throws IllegalArgumentException if the parent comment does not exist on this feedback, or the
+     *         reply would be nested deeper than {@link Comment#MAX_DEPTH}
      */
     @Transactional
-    public CommentResponse addComment(@NotNull Long feedbackId, @Valid @NotNull CreateCommentRequest request) {
-        Feedback feedback = feedbackRepository.findById(feedbackId);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(feedbackId);
+    public CommentResponse addComment(@NotNull Long feedbackId, @NotNull Long authorId,
+                                      @Valid @NotNull CreateCommentRequest request) {
+        String authorName = feedbackRepository.incrementComments(feedbackId, authorId).orElseThrow(() -> {
+            if (feedbackRepository.count("id", feedbackId) == 0) {
+                return new FeedbackNotFoundException(feedbackId);
+            }
+            return new UserNotFoundException(authorId);
+        });
+
+        Feedback feedback = feedbackRepository.getEntityManager().getReference(Feedback.class, feedbackId);
+        User author = userRepository.getEntityManager().getReference(User.class, authorId);
+        Comment comment;
+        if (request.parentId() == null) {
+            comment = new Comment(request.text(), feedback, author);
+        } else {
+            Long parentId = IdHelper.toLong(request.parentId());
+            // Only look the parent up on the error path
+            ThreadPosition parent = commentRepository.incrementReplies(feedbackId, parentId)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            commentRepository.count("id = ?1 and feedback.id = ?2", parentId, feedbackId) == 0
+                                    ? "Parent comment not found on this feedback: " + request.parentId()
+                                    : "Replies cannot be nested more than " + Comment.MAX_DEPTH + " levels deep"));
+            comment = new Comment(request.text(), feedback, author,
+                    commentRepository.getEntityManager().getReference(Comment.class, parentId),
+                    parent.path(), parent.depth());
         }
+        commentRepository.persist(comment);
+        reputationEventRepository.record(authorId, ReputationEventType.COMMENT_POSTED, COMMENT_POSTED_POINTS,
+                feedbackId, comment.getId(), authorId);
 
-        User author = userRepository.findById(117457749108987389L); //request.authorId()
-        if (author == null) {
-            throw new UserNotFoundException(1L);
-        }
+        return toCommentResponse(comment, authorName);
+    }
 
-        Comment comment = new Comment(request.text(), feedback, author);
-        commentRepository.persist(comment);
+    private static float parseRank(String key, String token) {
+        try {
+            return Float.parseFloat(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
 
-        feedback.setComments(feedback.getComments() + 1);
-        feedbackRepository.persist(feedback);
+    private TotalCount countFeedbacks(FeedbackFilter filter, boolean includeTotal) {
+        if (filter.isEmpty()) {
+            return TotalCount.resolve(includeTotal, feedbackRepository::estimateCount, feedbackRepository::count);
+        }
+        // The table-wide planner estimate says nothing about a filtered subset
+        return TotalCount.bounded(includeTotal, limit -> feedbackRepository.countMatching(null, filter, limit));
+    }
 
-        return toCommentResponse(comment);
+    private static String nextCursor(List<FeedbackView> page, FeedbackSort sort) {
+        if (page.isEmpty()) {
+            return null;
+        }
+        FeedbackView last = page.getLast();
+        // Hot scores keep changing, so trending cursors carry the score the page was served with
+        PageCursor cursor = sort == FeedbackSort.TRENDING
+                ? new PageCursor(TRENDING_CURSOR_KEY + ":" + last.hotScore(), last.id())
+                : PageCursor.of(last.createdAt(), last.id());
+        return cursor.encode();
     }
 
     private FeedbackResponse toResponse(Feedback feedback) {
@@ -364,15 +698,38 @@ public class FeedbackApplicationService {
                 feedback.getUpvotes(),
                 feedback.getComments(),
                 feedback.getStatus(),
-                feedback.getCategory() != null ? feedback.getCategory().getName() : null,
+                feedback.getCategory() != null ? categoryRegistry.nameOf(feedback.getCategory().getId()).orElse(null) : null,
                 feedback.getAuthor() != null ? feedback.getAuthor().getName() : null,
                 feedback.getCreatedAt(),
-                feedback.isArchived()
+                feedback.isArchived(),
+                List.copyOf(feedback.getTags()),
+                null
+        );
+    }
+
+    private FeedbackResponse toResponse(FeedbackView view) {
+        return new FeedbackResponse(IdHelper.toString(view.id()),
+                view.title(),
+                view.description(),
+                view.sentiment(),
+                view.upvotes(),
+                view.comments(),
+                FeedbackStatus.valueOf(view.status()),
+                view.categoryName(),
+                view.authorName(),
+                view.createdAt(),
+                view.archived(),
+                view.tags() == null ? List.of() : List.of(view.tags()),
+                null
         );
     }
 
     /**
-     * Retrieves all comments for a specific feedback item.
+     * Retrieves all comments for a specific feedback item, oldest first.
+     * <p>
+     * Comments, their authors and the existence of the feedback item are read with a
+     * single statement, without loading entities.
+     * </p>
      *
      * @param feedbackId The feedback ID to retrieve comments for
      * @return List of CommentResponse items for the feedback
@@ -380,20 +737,109 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public List<CommentResponse> getCommentsByFeedbackId(@NotNull Long feedbackId) {
-        Feedback feedback = feedbackRepository.findById(feedbackId);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(feedbackId);
+        return commentRepository.findViewsByFeedbackId(feedbackId, CommentFilter.NONE, null, CommentSort.OLDEST, 0)
+                .orElseThrow(() -> new FeedbackNotFoundException(feedbackId))
+                .stream()
+                .map(this::toCommentResponse)
+                .toList();
+    }
+
+    /**
+     * Retrieves one page of the comments of a feedback item using keyset pagination.
+     * <p>
+     * Comments are listed in conversation order ({@code created_at, id}), by upvotes for
+     * {@code top}, or depth-first for {@code thread}, where every reply follows the comment
+     * it answers. Each page is a bounded index range scan, so long threads load page by
+     * page at constant cost. With {@code maxDepth}, deeper replies are left out; their
+     * parents' reply counts tell clients which subtrees to offer for expansion.
+     * </p>
+     *
+     * @param feedbackId The feedback ID to retrieve comments for
+     * @param cursor Opaque cursor from a previous response's {@code next} field, or null for the first page
+     * @param pageSize The number of comments per page, clamped to 1-100
+     * @param sortOrder Sort order: "top", "thread", or "oldest" (default for any other value)
+     * @param maxDepth Only comments nested at most this deep (0 for top-level only), or null for all
+     * @return PaginatedCommentResponse containing the page and its {@code next} cursor, if any
+     * @throws FeedbackNotFoundException if feedback with given ID does not exist
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another sort order
+     */
+    @Transactional
+    public PaginatedCommentResponse getComments(@NotNull Long feedbackId, String cursor, int pageSize, String sortOrder,
+                                                Integer maxDepth) {
+        return listComments(feedbackId, new CommentFilter(null, maxDepth), cursor, pageSize,
+                CommentSort.fromString(sortOrder));
+    }
+
+    /**
+     * Retrieves one page of the replies below a comment, at any depth, in thread order.
+     * <p>
+     * The whole subtree is a single range of the {@code (feedback_id, path)} index, so
+     * expanding a collapsed subtree costs one bounded query however large the thread is.
+     * </p>
+     *
+     * @param feedbackId The feedback ID the comment belongs to
+     * @param commentId The ID of the comment whose replies to retrieve
+     * @param cursor Opaque cursor from a previous response's {@code next} field, or null for the first page
+     * @param pageSize The number of replies per page, clamped to 1-100
+     * @param maxDepth Only replies nested at most this deep, or null for all
+     * @return PaginatedCommentResponse containing the page and its {@code next} cursor, if any
+     * @throws FeedbackNotFoundException if feedback with given ID does not exist
+     * @throws IllegalArgumentException if the comment does not exist on this feedback
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another listing order
+     */
+    @Transactional
+    public PaginatedCommentResponse getReplies(@NotNull Long feedbackId, @NotNull Long commentId, String cursor,
+                                               int pageSize, Integer maxDepth) {
+        return listComments(feedbackId, new CommentFilter(commentId, maxDepth), cursor, pageSize, CommentSort.THREAD);
+    }
+
+    private PaginatedCommentResponse listComments(Long feedbackId, CommentFilter filter, String cursor, int pageSize,
+                                                  CommentSort sort) {
+        int size = Math.max(1, Math.min(pageSize, 100)); // Max 100 items per page
+
+        PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
+        if (after != null && sort != CommentSort.OLDEST) {
+            // The key holds the order's name and the last row's upvotes or thread path
+            String[] key = after.key().split(":", 2);
+            if (key.length != 2 || !key[0].equals(sort.getValue())) {
+                throw new InvalidCursorException(cursor);
+            }
+            after = new PageCursor(key[1], after.id());
         }
 
-        return commentRepository.findByFeedbackId(feedbackId)
-                .stream()
+        // Fetch one extra row to learn whether another page follows
+        List<CommentView> rows = commentRepository.findViewsByFeedbackId(feedbackId, filter, after, sort, size + 1)
+                .orElseThrow(() -> {
+                    // Only look the feedback and comment up on the error path
+                    if (filter.rootId() == null || feedbackRepository.count("id", feedbackId) == 0) {
+                        return new FeedbackNotFoundException(feedbackId);
+                    }
+                    return new IllegalArgumentException("Comment not found on this feedback: "
+                            + IdHelper.toString(filter.rootId()));
+                });
+        boolean hasNext = rows.size() > size;
+        List<CommentView> pageResult = hasNext ? rows.subList(0, size) : rows;
+
+        List<CommentResponse> items = pageResult.stream()
                 .map(this::toCommentResponse)
                 .toList();
+
+        String next = null;
+        if (hasNext) {
+            CommentView last = pageResult.getLast();
+            PageCursor nextCursor = switch (sort) {
+                case OLDEST -> PageCursor.of(last.createdAt(), last.id());
+                case TOP -> new PageCursor(sort.getValue() + ":" + last.upvotes(), last.id());
+                case THREAD -> new PageCursor(sort.getValue() + ":" + last.path(), last.id());
+            };
+            next = nextCursor.encode();
+        }
+        return new PaginatedCommentResponse(items, size, next);
     }
 
-    private CommentResponse toCommentResponse(Comment comment) {
+    private CommentResponse toCommentResponse(Comment comment, String authorName) {
         CommentAuthorResponse author = new CommentAuthorResponse(IdHelper.toString(comment.getAuthor().getId()),
-                comment.getAuthor().getName()
+                authorName
         );
 
         return new CommentResponse(
@@ -402,53 +848,99 @@ public class FeedbackApplicationService {
                 comment.getText(),
                 comment.isDeveloperResponse(),
                 comment.getUpvotes(),
+                comment.getParent() != null ? IdHelper.toString(comment.getParent().getId()) : null,
+                comment.getDepth(),
+                comment.getReplies(),
                 comment.getCreatedAt(),
                 comment.getUpdatedAt()
         );
     }
 
+    private CommentResponse toCommentResponse(CommentView view) {
+        CommentAuthorResponse author = new CommentAuthorResponse(IdHelper.toString(view.authorId()), view.authorName());
+
+        return new CommentResponse(
+                IdHelper.toString(view.id()),
+                author,
+                view.text(),
+                view.isDeveloperResponse(),
+                view.upvotes(),
+                view.parentId() != null ? IdHelper.toString(view.parentId()) : null,
+                view.depth(),
+                view.replies(),
+                view.createdAt(),
+                view.updatedAt()
+        );
+    }
+
     /**
-     * Records a vote on feedback.
+     * Records a user's vote on feedback.
      * <p>
      * Supports upvoting, downvoting, or removing votes based on direction.
-     * Only one vote per user is allowed (prevents double voting).
+     * Each user holds at most one vote per feedback item: a new direction replaces the
+     * previous one, and repeating the same vote leaves the counters unchanged, so clients
+     * can safely retry. How the counters are written depends on the configured
+     * {@link VoteCounterMode}; in every mode the response includes this vote. The change
+     * to the feedback author's reputation is appended to the reputation ledger by the
+     * same statement that records the vote.
      * </p>
      *
      * @param id The feedback ID to vote on
+     * @param userId The ID of the voting user
      * @param direction The vote direction (up, down, none)
      * @return Updated FeedbackResponse with vote count
      * @throws FeedbackNotFoundException if feedback does not exist
+     * @throws UserNotFoundException if the voting user does not exist
      * @throws IllegalArgumentException if vote direction is invalid
      */
     @Transactional
-    public FeedbackResponse voteFeedback(@NotNull Long id, @NotNull String direction) {
-        Feedback feedback = feedbackRepository.findById(id);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(id);
-        }
-
+    public FeedbackResponse voteFeedback(@NotNull Long id, @NotNull Long userId, @NotNull String direction) {
         // Parse vote direction
         VoteDirection voteDir = VoteDirection.fromString(direction);
 
-        // Apply the vote
-        switch (voteDir) {
-            case UP -> feedback.upvote();
-            case DOWN -> feedback.downvote();
-            case NONE -> {
-                // Remove votes (simple approach: reset both)
-                feedback.removeUpvote();
-                feedback.removeDownvote();
+        FeedbackView updated = switch (voteCounterMode) {
+            // Record the vote and move the counters in one statement
+            case DIRECT -> feedbackRepository.recordVote(id, userId, voteDir, FEEDBACK_UPVOTE_POINTS, FEEDBACK_DOWNVOTE_POINTS)
+                    .orElseThrow(() -> voteNotRecorded(id, userId));
+            // Record the vote and add its counter change to a random counter shard
+            case SHARDED -> feedbackRepository.recordShardedVote(id, userId, voteDir, voteCounterShards,
+                            FEEDBACK_UPVOTE_POINTS, FEEDBACK_DOWNVOTE_POINTS)
+                    .orElseThrow(() -> voteNotRecorded(id, userId));
+            // Record the vote only; the counters are written behind in batches
+            case WRITE_BEHIND -> {
+                VoteDelta delta = feedbackRepository.upsertVote(id, userId, voteDir,
+                                FEEDBACK_UPVOTE_POINTS, FEEDBACK_DOWNVOTE_POINTS)
+                        .orElseThrow(() -> voteNotRecorded(id, userId));
+                voteBuffer.addAfterCommit(id, delta);
+                yield feedbackRepository.findViewById(id)
+                        .orElseThrow(() -> new FeedbackNotFoundException(id))
+                        .withVotes(voteBuffer.pending(id).plus(delta));
             }
-        }
+        };
 
-        feedbackRepository.persist(feedback);
-        return toResponse(feedback);
+        return toResponse(updated).withUserVote(voteDir.getValue());
+    }
+
+    /**
+     * Explains why a vote was not recorded, looking the feedback up only on this error path.
+     *
+     * @param id The feedback ID voted on
+     * @param userId The ID of the voting user
+     * @return The exception to throw
+     */
+    private RuntimeException voteNotRecorded(Long id, Long userId) {
+        if (feedbackRepository.count("id", id) == 0) {
+            return new FeedbackNotFoundException(id);
+        }
+        return new UserNotFoundException(userId);
     }
 
     /**
      * Records a vote on a comment.
      * <p>
-     * Supports upvoting or removing upvotes based on direction.
+     * Supports upvoting or removing upvotes based on direction. Comment votes are anonymous
+     * and not recorded per voter, so nothing stops the same caller from voting repeatedly;
+     * they therefore earn the comment author no reputation.
      * </p>
      *
      * @param feedbackId The feedback ID containing the comment
@@ -460,35 +952,35 @@ public class FeedbackApplicationService {
      */
     @Transactional
     public CommentResponse voteComment(@NotNull Long feedbackId, @NotNull Long commentId, @NotNull String direction) {
-        Feedback feedback = feedbackRepository.findById(feedbackId);
-        if (feedback == null) {
-            throw new FeedbackNotFoundException(feedbackId);
-        }
-
-        Comment comment = commentRepository.findById(commentId);
-        if (comment == null) {
-            throw new IllegalArgumentException("Comment not found: " + commentId);
-        }
-
-        // Verify if a comment belongs to the feedback
-        if (!comment.getFeedback().getId().equals(feedbackId)) {
-            throw new IllegalArgumentException("Comment does not belong to this feedback");
-        }
-
         // Parse vote direction
         VoteDirection voteDir = VoteDirection.fromString(direction);
 
-        // Apply the vote (comments only support upvote/none)
-        switch (voteDir) {
-            case UP -> comment.upvote();
-            case DOWN, NONE -> comment.removeUpvote();
-        }
+        // Apply the vote in one atomic statement (comments only support upvote/none)
+        Optional<CommentView> updated = switch (voteDir) {
+            case UP -> commentRepository.applyUpvote(feedbackId, commentId, 1);
+            case DOWN, NONE -> commentRepository.applyUpvote(feedbackId, commentId, -1);
+        };
 
-        commentRepository.persist(comment);
-        return toCommentResponse(comment);
+        // Only look the feedback and comment up on the error path
+        return toCommentResponse(updated.orElseThrow(() -> {
+            if (feedbackRepository.count("id", feedbackId) == 0) {
+                return new FeedbackNotFoundException(feedbackId);
+            }
+            return new IllegalArgumentException(commentRepository.count("id", commentId) == 0
+                    ? "Comment not found: " + commentId
+                    : "Comment does not belong to this feedback");
+        }));
     }
 
+    /**
+     * Lists all feedback categories.
+     * <p>
+     * Served from the in-memory {@link CategoryRegistry} without database I/O.
+     * </p>
+     *
+     * @return List of all categories
+     */
     public List<CategoryResponse> findAllCategories() {
-        return categoryRepository.findAll().stream().map( c -> new CategoryResponse(IdHelper.toString(c.getId()), c.getName())).toList();
+        return categoryRegistry.findAll();
     }
 }
@@ -0,0 +1,74 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * Scheduled job that decays the trending hot score of recent feedback.
+ * <p>
+ * The hot score depends on an item's age, so it goes stale even when nobody votes or
+ * comments. A database trigger keeps it current on every counter change; this job
+ * recomputes it for active feedback created within the configured window, in short
+ * batches that each commit on their own so no long-running transaction holds row locks.
+ * Older feedback keeps its last score, which by then is close to zero.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class TrendingDecayJob {
+    private static final Logger LOGGER = Logger.getLogger(TrendingDecayJob.class);
+
+    private final FeedbackRepository feedbackRepository;
+    private final Duration window;
+    private final int batchSize;
+
+    @Inject
+    public TrendingDecayJob(FeedbackRepository feedbackRepository,
+                            @ConfigProperty(name = "agora.feedback.trending.decay-window") Duration window,
+                            @ConfigProperty(name = "agora.feedback.trending.decay-batch-size") int batchSize) {
+        this.feedbackRepository = feedbackRepository;
+        this.window = window;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(every = "{agora.feedback.trending.decay-every}",
+            delayed = "{agora.feedback.trending.decay-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledDecay() {
+        decay();
+    }
+
+    /**
+     * Recomputes the hot score of every active feedback item created within the decay window.
+     *
+     * @return Number of batches processed
+     */
+    public int decay() {
+        OffsetDateTime createdSince = OffsetDateTime.now().minus(window);
+        long afterId = 0;
+        int batches = 0;
+        while (true) {
+            long from = afterId;
+            Optional<Long> lastId = QuarkusTransaction.requiringNew()
+                    .call(() -> feedbackRepository.decayHotScores(createdSince, from, batchSize));
+            if (lastId.isEmpty()) {
+                break;
+            }
+            afterId = lastId.get();
+            batches++;
+        }
+        LOGGER.debugf("Decayed hot scores of feedback created since %s in %d batches", createdSince, batches);
+        return batches;
+    }
+}
@@ -0,0 +1,183 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.model.dto.VoteDelta;
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for feedback vote counters.
+ * <p>
+ * In the write-behind counter mode, votes still go to the {@code feedback_vote} ledger
+ * immediately, but the resulting counter changes are coalesced per feedback item in
+ * memory and written every flush interval as one batched update. A burst of votes on a
+ * single popular item then costs one row update per interval instead of one contended
+ * row update per vote.
+ * </p>
+ * <p>
+ * Deltas are merged into a {@link ConcurrentHashMap}, which only synchronizes on the
+ * hash bin of the voted item, so votes on different items never contend. A flush
+ * removes each entry atomically before writing it, so votes arriving during a flush
+ * start a new entry for the next one. Deltas are only buffered once the ledger
+ * transaction has committed, and a failed flush puts its deltas back. The buffer is
+ * drained on shutdown; deltas are lost only if the process dies without one, and the
+ * ledger still holds every vote.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class VoteAggregationBuffer {
+    private static final Logger LOGGER = Logger.getLogger(VoteAggregationBuffer.class);
+
+    private final ConcurrentHashMap<Long, VoteDelta> pending = new ConcurrentHashMap<>();
+    private final FeedbackRepository feedbackRepository;
+    private final TransactionSynchronizationRegistry transactionRegistry;
+    private final int batchSize;
+    private final Timer flushTimer;
+
+    @Inject
+    public VoteAggregationBuffer(FeedbackRepository feedbackRepository,
+                                 TransactionSynchronizationRegistry transactionRegistry,
+                                 MeterRegistry meterRegistry,
+                                 @ConfigProperty(name = "agora.feedback.votes.write-behind.flush-batch-size") int batchSize) {
+        this.feedbackRepository = feedbackRepository;
+        this.transactionRegistry = transactionRegistry;
+        this.batchSize = batchSize;
+        meterRegistry.gaugeMapSize("agora.feedback.votes.buffer.depth", Tags.empty(), pending);
+        this.flushTimer = Timer.builder("agora.feedback.votes.flush")
+                .description("Time taken to write buffered vote counter deltas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers a counter change once the current transaction commits.
+     * <p>
+     * Outside a transaction the change is buffered right away.
+     * </p>
+     *
+     * @param feedbackId The feedback ID
+     * @param delta The change to its vote counters
+     */
+    public void addAfterCommit(Long feedbackId, VoteDelta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            add(feedbackId, delta);
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    add(feedbackId, delta);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the buffered, not yet written change to a feedback item's counters.
+     *
+     * @param feedbackId The feedback ID
+     * @return The pending delta, or {@link VoteDelta#ZERO} if none
+     */
+    public VoteDelta pending(Long feedbackId) {
+        return pending.getOrDefault(feedbackId, VoteDelta.ZERO);
+    }
+
+    @Scheduled(every = "{agora.feedback.votes.write-behind.flush-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        flush();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        int flushed = flush();
+        if (flushed > 0) {
+            LOGGER.infof("Drained buffered vote counters of %d feedback items on shutdown", flushed);
+        }
+    }
+
+    /**
+     * Writes all buffered counter changes, in batches that each commit on their own.
+     * <p>
+     * If a batch fails, it and all remaining batches are put back into the buffer for
+     * the next flush.
+     * </p>
+     *
+     * @return Number of feedback items whose counters were written
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        Map<Long, VoteDelta> drained = new TreeMap<>();
+        for (Long feedbackId : pending.keySet()) {
+            VoteDelta delta = pending.remove(feedbackId);
+            if (delta != null) {
+                drained.put(feedbackId, delta);
+            }
+        }
+
+        List<Map<Long, VoteDelta>> batches = new ArrayList<>();
+        Map<Long, VoteDelta> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, VoteDelta> entry : drained.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        Timer.Sample sample = Timer.start();
+        int flushed = 0;
+        int written = 0;
+        try {
+            for (; written < batches.size(); written++) {
+                Map<Long, VoteDelta> deltas = batches.get(written);
+                QuarkusTransaction.requiringNew().run(() -> feedbackRepository.applyVoteDeltas(deltas));
+                flushed += deltas.size();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.errorf(e, "Failed to write buffered vote counters; %d feedback items will be retried",
+                    drained.size() - flushed);
+            batches.subList(written, batches.size()).forEach(deltas -> deltas.forEach(this::add));
+        } finally {
+            sample.stop(flushTimer);
+        }
+        return flushed;
+    }
+
+    private void add(Long feedbackId, VoteDelta delta) {
+        pending.merge(feedbackId, delta, VoteDelta::plus);
+    }
+}
@@ -1,10 +1,13 @@
 package com.agora.domain.feedback.application.dto;
 
+import com.agora.domain.feedback.model.entity.Feedback;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
+import java.util.List;
+
 /**
  * Command for creating a new feedback item.
  * <p>
@@ -15,7 +18,7 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 @Schema(
     name = "CreateFeedbackCommand",
     description = "Request to create a new feedback item",
-    examples = "{\"title\": \"Dark mode support needed\", \"description\": \"Users are requesting a dark mode option for better usability in low-light environments. This would reduce eye strain and improve overall user experience.\", \"categoryId\": 117457749108987394, \"authorId\": 117457749108987388, \"sentiment\": \"POSITIVE\", \"tags\": \"ui,accessibility,enhancement\"}"
+    examples = "{\"title\": \"Dark mode support needed\", \"description\": \"Users are requesting a dark mode option for better usability in low-light environments. This would reduce eye strain and improve overall user experience.\", \"categoryId\": 117457749108987394, \"authorId\": 117457749108987388, \"sentiment\": \"POSITIVE\", \"tags\": [\"ui\", \"accessibility\", \"enhancement\"]}"
 )
 @Builder
 public record CreateFeedbackCommand(
@@ -32,7 +35,8 @@ public record CreateFeedbackCommand(
         @Schema(description = "Category ID for feedback classification", examples = "117457749108987394")
         String categoryId,
 
-        @Schema(description = "Comma-separated tags for categorization", examples = "ui,accessibility,enhancement")
-        String [] tags
+        @Schema(description = "Tags for categorization", examples = "[\"ui\", \"accessibility\", \"enhancement\"]")
+        @Size(max = Feedback.MAX_TAGS, message = "Feedback cannot have more than " + Feedback.MAX_TAGS + " tags")
+        List<String> tags
 ) {
 }
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 
+import java.util.List;
+
 @Builder
 public record UpdateFeedbackCommand(
         @NotBlank(message = "Title cannot be blank")
@@ -25,6 +27,6 @@ public record UpdateFeedbackCommand(
 
         String sentiment,
 
-        String tags
+        List<String> tags
 ) {
 }
@@ -0,0 +1,107 @@
+package com.agora.domain.feedback.common;
+
+import com.agora.domain.feedback.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor.
+ * <p>
+ * Captures the sort key and id of the last row of a page so the next page can seek
+ * past it through an index instead of skipping rows with an offset. Clients receive
+ * it as a URL-safe Base64 token and must send it back unchanged.
+ * </p>
+ *
+ * @param key The sort key of the last row, in its string form
+ * @param id  The id of the last row, used as a tie-breaker for equal sort keys
+ */
+public record PageCursor(String key, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Creates a cursor positioned after a row sorted by creation time.
+     *
+     * @param createdAt The creation timestamp of the last row
+     * @param id The id of the last row
+     * @return Cursor pointing after the given row
+     */
+    public static PageCursor of(OffsetDateTime createdAt, Long id) {
+        return new PageCursor(createdAt.toString(), id);
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token The opaque cursor token
+     * @return The decoded cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new PageCursor(raw.substring(0, separator), IdHelper.toLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe token.
+     *
+     * @return The cursor token
+     */
+    public String encode() {
+        String raw = key + SEPARATOR + IdHelper.toString(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Interprets the sort key as a creation timestamp.
+     *
+     * @return The timestamp encoded in this cursor
+     * @throws InvalidCursorException if the key is not a timestamp
+     */
+    public OffsetDateTime keyAsTimestamp() {
+        try {
+            return OffsetDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(encode());
+        }
+    }
+
+    /**
+     * Interprets the sort key as a counter value.
+     *
+     * @return The counter value encoded in this cursor
+     * @throws InvalidCursorException if the key is not an integer
+     */
+    public int keyAsInt() {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(encode());
+        }
+    }
+
+    /**
+     * Interprets the sort key as a score.
+     *
+     * @return The score encoded in this cursor
+     * @throws InvalidCursorException if the key is not a number
+     */
+    public double keyAsDouble() {
+        try {
+            return Double.parseDouble(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(encode());
+        }
+    }
+}
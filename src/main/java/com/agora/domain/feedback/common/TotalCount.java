@@ -0,0 +1,69 @@
+package com.agora.domain.feedback.common;
+
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Total row count reported alongside a paginated response.
+ * <p>
+ * Exact counts require a full scan in PostgreSQL, which on large tables costs more than
+ * the page itself. Unless the caller asks for an exact total, the planner's
+ * {@code pg_class.reltuples} estimate is used instead and flagged as approximate.
+ * Small or never-analyzed tables are always counted exactly, since that is cheap.
+ * </p>
+ *
+ * @param value The total number of rows
+ * @param approximate Whether the value is a planner estimate rather than an exact count
+ */
+public record TotalCount(long value, boolean approximate) {
+
+    /** Estimates below this size are replaced by an exact count. */
+    public static final long EXACT_COUNT_THRESHOLD = 10_000;
+
+    /**
+     * Resolves the total count using the estimate when allowed and meaningful.
+     *
+     * @param includeTotal True to always run the exact count
+     * @param estimate Supplier of the planner estimate (negative when unknown)
+     * @param exact Supplier of the exact count
+     * @return The resolved total count
+     */
+    public static TotalCount resolve(boolean includeTotal, LongSupplier estimate, LongSupplier exact) {
+        if (!includeTotal) {
+            long estimated = estimate.getAsLong();
+            if (estimated >= EXACT_COUNT_THRESHOLD) {
+                return new TotalCount(estimated, true);
+            }
+        }
+        return new TotalCount(exact.getAsLong(), false);
+    }
+
+    /**
+     * Resolves the total count of a filtered result set that has no planner estimate.
+     * <p>
+     * Unless an exact total is requested, counting stops after {@link #EXACT_COUNT_THRESHOLD}
+     * matches; a capped result is flagged as approximate and is a lower bound.
+     * </p>
+     *
+     * @param includeTotal True to count every match
+     * @param countUpTo Counts matches up to the given limit (0 for no limit)
+     * @return The resolved total count
+     */
+    public static TotalCount bounded(boolean includeTotal, LongUnaryOperator countUpTo) {
+        if (includeTotal) {
+            return new TotalCount(countUpTo.applyAsLong(0), false);
+        }
+        long counted = countUpTo.applyAsLong(EXACT_COUNT_THRESHOLD);
+        return new TotalCount(counted, counted >= EXACT_COUNT_THRESHOLD);
+    }
+
+    /**
+     * Computes the number of pages needed to show all rows.
+     *
+     * @param pageSize The number of items per page
+     * @return The total number of pages
+     */
+    public int pages(int pageSize) {
+        return (int) Math.ceil((double) value / pageSize);
+    }
+}
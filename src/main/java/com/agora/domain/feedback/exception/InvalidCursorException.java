@@ -0,0 +1,7 @@
+package com.agora.domain.feedback.exception;
+
+public class InvalidCursorException extends DomainException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,42 @@
+package com.agora.domain.feedback.model;
+
+/**
+ * Enumeration of the orders in which the comments of a feedback item can be listed.
+ * <p>
+ * - OLDEST: conversation order, least recently created first (default)
+ * - TOP: most upvoted first
+ * - THREAD: depth-first, every reply right below the comment it answers
+ * </p>
+ */
+public enum CommentSort {
+    OLDEST("oldest"),
+    TOP("top"),
+    THREAD("thread");
+
+    private final String value;
+
+    CommentSort(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Parse a string value to CommentSort enum
+     *
+     * @param value the string value (case-insensitive)
+     * @return the corresponding CommentSort, or OLDEST if the value is missing or unknown
+     */
+    public static CommentSort fromString(String value) {
+        if (value == null) {
+            return OLDEST;
+        }
+        return switch (value.toLowerCase()) {
+            case "top" -> TOP;
+            case "thread" -> THREAD;
+            default -> OLDEST;
+        };
+    }
+}
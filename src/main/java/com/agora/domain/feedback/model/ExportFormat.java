@@ -0,0 +1,47 @@
+package com.agora.domain.feedback.model;
+
+/**
+ * Enumeration of the formats supported by the feedback export.
+ * <p>
+ * - NDJSON: one JSON object per line
+ * - CSV: RFC 4180 comma-separated values with a header row
+ * </p>
+ */
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String value;
+    private final String mediaType;
+
+    ExportFormat(String value, String mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Parse a string value to ExportFormat enum
+     *
+     * @param value the string value (case-insensitive)
+     * @return the corresponding ExportFormat
+     * @throws IllegalArgumentException if value doesn't match any format
+     */
+    public static ExportFormat fromString(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Export format cannot be null or empty");
+        }
+        return switch (value.toLowerCase()) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new IllegalArgumentException("Invalid export format: " + value);
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.agora.domain.feedback.model;
+
+/**
+ * Enumeration of the orders in which the feedback list can be sorted.
+ * <p>
+ * - NEWEST: most recently created first (default)
+ * - OLDEST: least recently created first
+ * - TRENDING: highest precomputed hot score first
+ * </p>
+ */
+public enum FeedbackSort {
+    NEWEST("newest"),
+    OLDEST("oldest"),
+    TRENDING("trending");
+
+    private final String value;
+
+    FeedbackSort(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Parse a string value to FeedbackSort enum
+     *
+     * @param value the string value (case-insensitive)
+     * @return the corresponding FeedbackSort, or NEWEST if the value is missing or unknown
+     */
+    public static FeedbackSort fromString(String value) {
+        if (value == null) {
+            return NEWEST;
+        }
+        return switch (value.toLowerCase()) {
+            case "oldest" -> OLDEST;
+            case "trending" -> TRENDING;
+            default -> NEWEST;
+        };
+    }
+}
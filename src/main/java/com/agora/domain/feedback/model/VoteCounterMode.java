@@ -0,0 +1,17 @@
+package com.agora.domain.feedback.model;
+
+/**
+ * Enumeration of the strategies for writing feedback vote counters.
+ * <p>
+ * Every strategy records the vote in the {@code feedback_vote} ledger immediately; they
+ * differ in how the denormalized {@code upvotes}/{@code downvotes} columns are updated:
+ * - DIRECT: in the same statement as the ledger write, on the feedback row itself
+ * - WRITE_BEHIND: buffered in memory and written in batches
+ * - SHARDED: added to one of several counter shard rows and rolled up periodically
+ * </p>
+ */
+public enum VoteCounterMode {
+    DIRECT,
+    WRITE_BEHIND,
+    SHARDED
+}
@@ -10,20 +10,31 @@ package com.agora.domain.feedback.model;
  * </p>
  */
 public enum VoteDirection {
-    UP("up"),
-    DOWN("down"),
-    NONE("none");
+    UP("up", 1),
+    DOWN("down", -1),
+    NONE("none", 0);
 
     private final String value;
+    private final int weight;
 
-    VoteDirection(String value) {
+    VoteDirection(String value, int weight) {
         this.value = value;
+        this.weight = weight;
     }
 
     public String getValue() {
         return value;
     }
 
+    /**
+     * The value stored for this direction in the vote ledger: 1 for up, -1 for down, 0 for none.
+     *
+     * @return the stored weight of this direction
+     */
+    public int getWeight() {
+        return weight;
+    }
+
     /**
      * Parse a string value to VoteDirection enum
      *
@@ -42,4 +53,20 @@ public enum VoteDirection {
             default -> throw new IllegalArgumentException("Invalid vote direction: " + value);
         };
     }
+
+    /**
+     * Get the VoteDirection stored with the given weight in the vote ledger
+     *
+     * @param weight the stored weight: 1, -1 or 0
+     * @return the corresponding VoteDirection
+     * @throws IllegalArgumentException if weight doesn't match any direction
+     */
+    public static VoteDirection fromWeight(int weight) {
+        return switch (weight) {
+            case 1 -> UP;
+            case -1 -> DOWN;
+            case 0 -> NONE;
+            default -> throw new IllegalArgumentException("Invalid vote weight: " + weight);
+        };
+    }
 }
@@ -0,0 +1,21 @@
+package com.agora.domain.feedback.model.dto;
+
+/**
+ * Optional restrictions applied to comment listings.
+ * <p>
+ * Every field is optional; a null field does not restrict the result. Together with the
+ * depth and reply count of every comment, these let clients show a thread collapsed and
+ * expand single subtrees on demand.
+ * </p>
+ *
+ * @param rootId Only replies below this comment, at any depth
+ * @param maxDepth Only comments nested at most this deep; 0 for top-level comments only
+ */
+public record CommentFilter(
+        Long rootId,
+        Integer maxDepth
+) {
+
+    /** Filter that matches every comment of a feedback item. */
+    public static final CommentFilter NONE = new CommentFilter(null, null);
+}
@@ -16,7 +16,7 @@ import java.time.OffsetDateTime;
 @Schema(
     name = "CommentResponse",
     description = "Feedback comment details response",
-    examples = "{\"id\": \"117457749108987475\", \"author\": {\"id\": \"user-1\", \"username\": \"PlayerOne\"}, \"content\": \"Great feedback!\", \"isDeveloperResponse\": false, \"upvotes\": 5, \"createdAt\": \"2024-01-15T10:30:00Z\", \"updatedAt\": \"2024-01-15T10:30:00Z\"}"
+    examples = "{\"id\": \"117457749108987475\", \"author\": {\"id\": \"user-1\", \"username\": \"PlayerOne\"}, \"content\": \"Great feedback!\", \"isDeveloperResponse\": false, \"upvotes\": 5, \"depth\": 0, \"replies\": 2, \"createdAt\": \"2024-01-15T10:30:00Z\", \"updatedAt\": \"2024-01-15T10:30:00Z\"}"
 )
 public record CommentResponse(
         @Schema(description = "Unique comment identifier", examples = "117457749108987475")
@@ -35,6 +35,16 @@ public record CommentResponse(
         @Schema(description = "Number of upvotes on this comment", examples = "5")
         int upvotes,
 
+        @Schema(description = "Identifier of the comment this one replies to; absent for top-level comments",
+                examples = "117457749108987470")
+        String parentId,
+
+        @Schema(description = "Nesting level of this comment; 0 for top-level comments", examples = "0")
+        int depth,
+
+        @Schema(description = "Number of direct replies to this comment", examples = "2")
+        int replies,
+
         @Schema(description = "Timestamp when comment was created", examples = "2024-01-15T10:30:00Z")
         OffsetDateTime createdAt,
 
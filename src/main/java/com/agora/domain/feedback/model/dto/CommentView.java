@@ -0,0 +1,28 @@
+package com.agora.domain.feedback.model.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Flat read model of a comment.
+ * <p>
+ * Populated directly from a single SQL statement that joins the author name, so
+ * comment paths never hydrate {@code Comment} or {@code User} entities into the
+ * persistence context.
+ * </p>
+ */
+public record CommentView(
+        Long id,
+        Long feedbackId,
+        Long parentId,
+        Long authorId,
+        String authorName,
+        String text,
+        Boolean isDeveloperResponse,
+        Integer upvotes,
+        Integer depth,
+        Integer replies,
+        String path,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
@@ -7,7 +7,7 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 /**
  * Request to create a new comment on feedback.
  * <p>
- * Contains the comment text to be posted.
+ * Contains the comment text to be posted and, for a reply, the comment replied to.
  * </p>
  */
 @Schema(
@@ -24,6 +24,16 @@ public record CreateCommentRequest(
         )
         @NotBlank(message = "Comment text cannot be blank")
         @Size(min = 1, max = 5000, message = "Comment must be between 1 and 5000 characters")
-        String text
+        String text,
+
+        @Schema(
+            description = "Identifier of the comment to reply to; omit for a top-level comment",
+            examples = "117457749108987475"
+        )
+        String parentId
 ) {
+
+    public CreateCommentRequest(String text) {
+        this(text, null);
+    }
 }
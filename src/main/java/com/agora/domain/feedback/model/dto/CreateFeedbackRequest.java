@@ -2,6 +2,8 @@ package com.agora.domain.feedback.model.dto;
 
 import com.agora.domain.feedback.model.entity.FeedbackStatus;
 
+import java.util.List;
+
 public record CreateFeedbackRequest(
         String title,
         String description,
@@ -9,6 +11,6 @@ public record CreateFeedbackRequest(
         Long categoryId,
         Long authorId,
         String sentiment,
-        String tags
+        List<String> tags
 ) {
 }
@@ -0,0 +1,46 @@
+package com.agora.domain.feedback.model.dto;
+
+import com.agora.domain.feedback.model.entity.FeedbackStatus;
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Optional filters applied to feedback list and search queries.
+ * <p>
+ * Every field is optional; a null field does not restrict the result. Filters are pushed
+ * down into the SQL {@code WHERE} clause so only matching rows leave the database.
+ * </p>
+ *
+ * @param status Only feedback in this status
+ * @param categoryId Only feedback in this category
+ * @param sentiment Only feedback with this sentiment (exact match)
+ * @param archived Only archived ({@code true}) or active ({@code false}) feedback
+ * @param createdFrom Only feedback created at or after this instant
+ * @param createdTo Only feedback created before this instant
+ * @param tag Only feedback carrying this tag
+ */
+@Builder
+public record FeedbackFilter(
+        FeedbackStatus status,
+        Long categoryId,
+        String sentiment,
+        Boolean archived,
+        OffsetDateTime createdFrom,
+        OffsetDateTime createdTo,
+        String tag
+) {
+
+    /** Filter that matches every feedback item. */
+    public static final FeedbackFilter NONE = FeedbackFilter.builder().build();
+
+    /**
+     * Checks whether this filter restricts the result at all.
+     *
+     * @return True if no filter field is set
+     */
+    public boolean isEmpty() {
+        return status == null && categoryId == null && sentiment == null && archived == null
+                && createdFrom == null && createdTo == null && tag == null;
+    }
+}
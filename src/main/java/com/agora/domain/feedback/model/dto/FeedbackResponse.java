@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 /**
  * Response containing feedback item details.
@@ -17,7 +18,7 @@ import java.time.OffsetDateTime;
 @Schema(
     name = "FeedbackResponse",
     description = "Feedback item details response",
-    examples = "{\"id\": \"117457749108987399\", \"title\": \"Dark mode support needed\", \"description\": \"Users are requesting a dark mode option for better usability in low-light environments.\", \"sentiment\": \"POSITIVE\", \"upvotes\": 45, \"comments\": 8, \"status\": \"ACKNOWLEDGED\", \"categoryName\": \"Feature Request\", \"authorName\": \"Bob Smith\", \"createdAt\": \"2025-11-20T11:30:00+00:00\", \"archived\": false}"
+    examples = "{\"id\": \"117457749108987399\", \"title\": \"Dark mode support needed\", \"description\": \"Users are requesting a dark mode option for better usability in low-light environments.\", \"sentiment\": \"POSITIVE\", \"upvotes\": 45, \"comments\": 8, \"status\": \"ACKNOWLEDGED\", \"categoryName\": \"Feature Request\", \"authorName\": \"Bob Smith\", \"createdAt\": \"2025-11-20T11:30:00+00:00\", \"archived\": false, \"tags\": [\"accessibility\", \"ui\"], \"userVote\": \"up\"}"
 )
 public record FeedbackResponse(
         @Schema(description = "Unique feedback identifier", examples = "117457749108987399")
@@ -51,6 +52,23 @@ public record FeedbackResponse(
         OffsetDateTime createdAt,
 
         @Schema(description = "Whether the feedback is archived", examples = "false")
-        Boolean archived
+        Boolean archived,
+
+        @Schema(description = "Tags of the feedback, lower-case and sorted", examples = "[\"accessibility\", \"ui\"]")
+        List<String> tags,
+
+        @Schema(description = "The authenticated user's vote on this feedback: up, down or none", examples = "up")
+        String userVote
 ) {
+
+    /**
+     * Returns a copy of this response carrying the current user's vote.
+     *
+     * @param userVote The user's vote direction value
+     * @return The response with the user's vote
+     */
+    public FeedbackResponse withUserVote(String userVote) {
+        return new FeedbackResponse(id, title, description, sentiment, upvotes, comments, status, categoryName,
+                authorName, createdAt, archived, tags, userVote);
+    }
 }
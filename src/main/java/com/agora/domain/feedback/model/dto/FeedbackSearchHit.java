@@ -0,0 +1,10 @@
+package com.agora.domain.feedback.model.dto;
+
+/**
+ * A feedback item matching a full-text search, with its rank for the search terms.
+ *
+ * @param view The matching feedback
+ * @param rank The {@code ts_rank} of the feedback for the search terms
+ */
+public record FeedbackSearchHit(FeedbackView view, float rank) {
+}
@@ -0,0 +1,44 @@
+package com.agora.domain.feedback.model.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Flat read model of a feedback item.
+ * <p>
+ * Populated directly from a single SQL statement that joins the author and category
+ * names, so read paths never hydrate {@code Feedback}, {@code User} or
+ * {@code FeedbackCategory} entities into the persistence context.
+ * Tags arrive as the {@code text[]} column itself, so they need no escaping.
+ * </p>
+ */
+public record FeedbackView(
+        Long id,
+        String title,
+        String description,
+        String sentiment,
+        Integer upvotes,
+        Integer downvotes,
+        Integer comments,
+        Double hotScore,
+        String status,
+        Long categoryId,
+        String categoryName,
+        Long authorId,
+        String authorName,
+        OffsetDateTime createdAt,
+        Boolean archived,
+        String[] tags
+) {
+
+    /**
+     * Returns this view with a not yet persisted vote delta added to its counters.
+     *
+     * @param delta The pending change to the vote counters
+     * @return A view with the adjusted counters
+     */
+    public FeedbackView withVotes(VoteDelta delta) {
+        return new FeedbackView(id, title, description, sentiment,
+                Math.max(upvotes + delta.upvotes(), 0), Math.max(downvotes + delta.downvotes(), 0), comments,
+                hotScore, status, categoryId, categoryName, authorId, authorName, createdAt, archived, tags);
+    }
+}
@@ -0,0 +1,19 @@
+package com.agora.domain.feedback.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record PaginatedCommentResponse(
+        @JsonProperty("data")
+        List<CommentResponse> items,
+
+        @JsonProperty("page_size")
+        int pageSize,
+
+        @JsonProperty("next")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
+) {
+}
@@ -1,5 +1,6 @@
 package com.agora.domain.feedback.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
@@ -18,6 +19,44 @@ public record PaginatedFeedbackResponse(
         long totalItems,
 
         @JsonProperty("total_pages")
-        int totalPages
+        int totalPages,
+
+        @JsonProperty("approximate")
+        boolean approximate,
+
+        @JsonProperty("next")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor,
+
+        @JsonProperty("tag_facets")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<TagFacet> tagFacets
 ) {
+
+    public PaginatedFeedbackResponse(List<FeedbackResponse> items, int currentPage, int pageSize, long totalItems,
+                                     int totalPages, boolean approximate, String nextCursor) {
+        this(items, currentPage, pageSize, totalItems, totalPages, approximate, nextCursor, null);
+    }
+
+    /**
+     * Returns a copy of this response with its items replaced.
+     *
+     * @param items The items of this page
+     * @return The response with the given items
+     */
+    public PaginatedFeedbackResponse withItems(List<FeedbackResponse> items) {
+        return new PaginatedFeedbackResponse(items, currentPage, pageSize, totalItems, totalPages, approximate,
+                nextCursor, tagFacets);
+    }
+
+    /**
+     * Returns a copy of this response carrying the given tag facet counts.
+     *
+     * @param facets Tag counts over the whole filtered list, not just this page
+     * @return The response with facets
+     */
+    public PaginatedFeedbackResponse withTagFacets(List<TagFacet> facets) {
+        return new PaginatedFeedbackResponse(items, currentPage, pageSize, totalItems, totalPages, approximate,
+                nextCursor, facets);
+    }
 }
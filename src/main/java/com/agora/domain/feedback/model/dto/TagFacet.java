@@ -0,0 +1,10 @@
+package com.agora.domain.feedback.model.dto;
+
+/**
+ * Number of feedback items carrying a tag within a filtered list.
+ *
+ * @param tag The tag
+ * @param count Number of matching feedback items with this tag
+ */
+public record TagFacet(String tag, long count) {
+}
@@ -0,0 +1,10 @@
+package com.agora.domain.feedback.model.dto;
+
+/**
+ * Position of a comment in its thread, as needed to place a reply below it.
+ *
+ * @param path The comment's materialized path
+ * @param depth The comment's nesting level; 0 for top-level comments
+ */
+public record ThreadPosition(String path, int depth) {
+}
@@ -0,0 +1,27 @@
+package com.agora.domain.feedback.model.dto;
+
+/**
+ * Change to the upvote and downvote counters of a feedback item.
+ *
+ * @param upvotes Amount added to the upvote counter
+ * @param downvotes Amount added to the downvote counter
+ */
+public record VoteDelta(int upvotes, int downvotes) {
+
+    /** A delta that leaves both counters unchanged. */
+    public static final VoteDelta ZERO = new VoteDelta(0, 0);
+
+    /**
+     * Combines this delta with another one.
+     *
+     * @param other The delta to add
+     * @return The sum of both deltas
+     */
+    public VoteDelta plus(VoteDelta other) {
+        return new VoteDelta(upvotes + other.upvotes, downvotes + other.downvotes);
+    }
+
+    public boolean isZero() {
+        return upvotes == 0 && downvotes == 0;
+    }
+}
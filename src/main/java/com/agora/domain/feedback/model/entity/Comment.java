@@ -1,6 +1,7 @@
 package com.agora.domain.feedback.model.entity;
 
 import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.dto.CommentView;
 import com.agora.domain.user.model.User;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
@@ -14,8 +15,54 @@ import java.time.OffsetDateTime;
 @Entity
 @Table(name = "comment")
 @Setter
+@NamedEntityGraph(
+        name = Comment.GRAPH_WITH_AUTHOR,
+        attributeNodes = @NamedAttributeNode("author")
+)
+@SqlResultSetMapping(
+        name = Comment.VIEW_MAPPING,
+        classes = @ConstructorResult(
+                targetClass = CommentView.class,
+                columns = {
+                        @ColumnResult(name = "id", type = Long.class),
+                        @ColumnResult(name = "feedback_id", type = Long.class),
+                        @ColumnResult(name = "parent_id", type = Long.class),
+                        @ColumnResult(name = "author_id", type = Long.class),
+                        @ColumnResult(name = "author_name", type = String.class),
+                        @ColumnResult(name = "text", type = String.class),
+                        @ColumnResult(name = "is_developer_response", type = Boolean.class),
+                        @ColumnResult(name = "upvotes", type = Integer.class),
+                        @ColumnResult(name = "depth", type = Integer.class),
+                        @ColumnResult(name = "replies", type = Integer.class),
+                        @ColumnResult(name = "path", type = String.class),
+                        @ColumnResult(name = "created_at", type = OffsetDateTime.class),
+                        @ColumnResult(name = "updated_at", type = OffsetDateTime.class)
+                }
+        )
+)
 public class Comment extends PanacheEntityBase {
 
+    /** Result set mapping for native queries selecting {@link CommentView} rows. */
+    public static final String VIEW_MAPPING = "CommentView";
+
+    /**
+     * Fetch plan for comment listing and comment votes: the author is needed for the
+     * response, the parent feedback is only referenced by id.
+     */
+    public static final String GRAPH_WITH_AUTHOR = "Comment.withAuthor";
+
+    /** Separator between the id segments of a materialized {@link #path}. */
+    public static final String PATH_SEPARATOR = ".";
+
+    /** Width of one zero-padded id segment of a {@link #path}; enough for any positive long. */
+    private static final int PATH_SEGMENT_WIDTH = 19;
+
+    /**
+     * Deepest nesting level a reply may have. Every level adds a segment to the indexed
+     * {@link #path}, which must stay within the maximum size of a B-tree index row.
+     */
+    public static final int MAX_DEPTH = 32;
+
     @Id
     private Long id;
 
@@ -24,15 +71,34 @@ public class Comment extends PanacheEntityBase {
     private String text;
 
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "feedback_id")
     private Feedback feedback;
 
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private User author;
 
+    /** The comment this one replies to, or null for a top-level comment. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Comment parent;
+
+    /**
+     * Materialized path: the ids of all ancestors and of this comment, oldest ancestor first.
+     * Ordering by path lists a thread depth-first in display order.
+     */
+    @Column(updatable = false)
+    private String path;
+
+    /** Nesting level; 0 for top-level comments. */
+    @Column(updatable = false)
+    private int depth;
+
+    /** Number of direct replies, maintained atomically when a reply is added. */
+    private int replies;
+
     @NotNull(message = "Created timestamp cannot be null")
     @Column(name = "created_at")
     private OffsetDateTime createdAt;
@@ -54,9 +120,29 @@ public class Comment extends PanacheEntityBase {
         this.author = author;
     }
 
+    /**
+     * Creates a reply to another comment.
+     *
+     * @param text The reply text
+     * @param feedback The feedback item of the thread
+     * @param author The reply author
+     * @param parent The comment replied to
+     * @param parentPath The materialized path of the comment replied to
+     * @param parentDepth The nesting level of the comment replied to
+     */
+    public Comment(String text, Feedback feedback, User author, Comment parent, String parentPath, int parentDepth) {
+        this(text, feedback, author);
+        this.parent = parent;
+        this.path = parentPath;
+        this.depth = parentDepth + 1;
+    }
+
     @PrePersist
     public void prePersist() {
         this.id = IdHelper.generateId();
+        // Until now a reply's path holds its parent's path
+        String segment = String.format("%0" + PATH_SEGMENT_WIDTH + "d", id);
+        this.path = path == null ? segment : path + PATH_SEPARATOR + segment;
         this.createdAt = OffsetDateTime.now();
         this.updatedAt = OffsetDateTime.now();
         this.isDeveloperResponse = false;
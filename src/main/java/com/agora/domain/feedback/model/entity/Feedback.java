@@ -1,6 +1,7 @@
 package com.agora.domain.feedback.model.entity;
 
 import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.dto.FeedbackView;
 import com.agora.domain.user.model.User;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
@@ -8,16 +9,97 @@ import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.dialect.type.PostgreSQLEnumJdbcType;
+import org.hibernate.type.SqlTypes;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Getter
 @Entity
 @Table(name = "feedback")
 @Setter
+@NamedEntityGraph(
+        name = Feedback.GRAPH_WITH_AUTHOR,
+        attributeNodes = @NamedAttributeNode("author")
+)
+@SqlResultSetMapping(
+        name = Feedback.VIEW_MAPPING,
+        classes = @ConstructorResult(
+                targetClass = FeedbackView.class,
+                columns = {
+                        @ColumnResult(name = "id", type = Long.class),
+                        @ColumnResult(name = "title", type = String.class),
+                        @ColumnResult(name = "description", type = String.class),
+                        @ColumnResult(name = "sentiment", type = String.class),
+                        @ColumnResult(name = "upvotes", type = Integer.class),
+                        @ColumnResult(name = "downvotes", type = Integer.class),
+                        @ColumnResult(name = "comments", type = Integer.class),
+                        @ColumnResult(name = "hot_score", type = Double.class),
+                        @ColumnResult(name = "status", type = String.class),
+                        @ColumnResult(name = "category_id", type = Long.class),
+                        @ColumnResult(name = "category_name", type = String.class),
+                        @ColumnResult(name = "author_id", type = Long.class),
+                        @ColumnResult(name = "author_name", type = String.class),
+                        @ColumnResult(name = "created_at", type = OffsetDateTime.class),
+                        @ColumnResult(name = "archived", type = Boolean.class),
+                        @ColumnResult(name = "tags", type = String[].class)
+                }
+        )
+)
+@SqlResultSetMapping(
+        name = Feedback.SEARCH_MAPPING,
+        classes = @ConstructorResult(
+                targetClass = FeedbackView.class,
+                columns = {
+                        @ColumnResult(name = "id", type = Long.class),
+                        @ColumnResult(name = "title", type = String.class),
+                        @ColumnResult(name = "description", type = String.class),
+                        @ColumnResult(name = "sentiment", type = String.class),
+                        @ColumnResult(name = "upvotes", type = Integer.class),
+                        @ColumnResult(name = "downvotes", type = Integer.class),
+                        @ColumnResult(name = "comments", type = Integer.class),
+                        @ColumnResult(name = "hot_score", type = Double.class),
+                        @ColumnResult(name = "status", type = String.class),
+                        @ColumnResult(name = "category_id", type = Long.class),
+                        @ColumnResult(name = "category_name", type = String.class),
+                        @ColumnResult(name = "author_id", type = Long.class),
+                        @ColumnResult(name = "author_name", type = String.class),
+                        @ColumnResult(name = "created_at", type = OffsetDateTime.class),
+                        @ColumnResult(name = "archived", type = Boolean.class),
+                        @ColumnResult(name = "tags", type = String[].class)
+                }
+        ),
+        columns = @ColumnResult(name = "search_rank", type = Float.class)
+)
 public class Feedback extends PanacheEntityBase {
 
+    /** Result set mapping for native queries selecting {@link FeedbackView} rows. */
+    public static final String VIEW_MAPPING = "FeedbackView";
+
+    /**
+     * Result set mapping for native queries selecting {@link FeedbackView} rows followed by
+     * their {@code search_rank}; each row maps to a {@code FeedbackView} and its rank.
+     */
+    public static final String SEARCH_MAPPING = "FeedbackSearchHit";
+
+    /**
+     * Fetch plan for paths that return a full response from a managed entity
+     * (updates, archive/reopen and votes): the author is joined into the same select.
+     * Category names come from the in-memory category registry, so the category
+     * stays an unloaded reference.
+     */
+    public static final String GRAPH_WITH_AUTHOR = "Feedback.withAuthor";
+
+    /** Maximum number of tags on a single feedback item. */
+    public static final int MAX_TAGS = 20;
+
     @Id
     private Long id;
 
@@ -34,11 +116,11 @@ public class Feedback extends PanacheEntityBase {
     @JdbcType(value = PostgreSQLEnumJdbcType.class)
     private FeedbackStatus status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private FeedbackCategory category;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private User author;
 
@@ -49,8 +131,9 @@ public class Feedback extends PanacheEntityBase {
     private int downvotes;
     private int comments;
 
-    @Size(max = 500, message = "Tags must not exceed 500 characters")
-    private String tags;
+    @Size(max = MAX_TAGS, message = "Feedback cannot have more than " + MAX_TAGS + " tags")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private List<String> tags = new ArrayList<>();
 
     @NotNull(message = "Created timestamp cannot be null")
     @Column(name = "created_at")
@@ -100,6 +183,21 @@ public class Feedback extends PanacheEntityBase {
         this.sentiment = newSentiment;
     }
 
+    /**
+     * Replace the tags of this feedback.
+     * Tags are trimmed, lower-cased, de-duplicated and sorted;
+     * blank tags are dropped and null clears all tags.
+     */
+    public void changeTags(Collection<String> newTags) {
+        this.tags = newTags == null ? new ArrayList<>() : newTags.stream()
+                .filter(Objects::nonNull)
+                .map(tag -> tag.strip().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     /**
      * Record an upvote on this feedback.
      * Increments the upvotes counter.
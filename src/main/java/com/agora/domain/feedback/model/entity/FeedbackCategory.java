@@ -9,6 +9,7 @@ import lombok.Getter;
 @Getter
 @Entity
 @Table(name = "category")
+@EntityListeners(FeedbackCategoryListener.class)
 public class FeedbackCategory extends PanacheEntityBase {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
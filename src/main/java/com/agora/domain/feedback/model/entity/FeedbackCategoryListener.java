@@ -0,0 +1,20 @@
+package com.agora.domain.feedback.model.entity;
+
+import com.agora.domain.feedback.model.event.CategoriesChangedEvent;
+import io.quarkus.arc.Arc;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that publishes a {@link CategoriesChangedEvent} on every category write.
+ */
+public class FeedbackCategoryListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onCategoryWritten(FeedbackCategory category) {
+        Arc.container().beanManager().getEvent().fire(new CategoriesChangedEvent());
+    }
+}
@@ -0,0 +1,11 @@
+package com.agora.domain.feedback.model.event;
+
+/**
+ * CDI event fired whenever a feedback category is created, renamed or removed.
+ * <p>
+ * Observers that cache category data refresh themselves once the writing
+ * transaction has committed.
+ * </p>
+ */
+public record CategoriesChangedEvent() {
+}
@@ -1,10 +1,21 @@
 package com.agora.domain.feedback.model.repository;
 
+import com.agora.domain.feedback.common.PageCursor;
+import com.agora.domain.feedback.model.CommentSort;
+import com.agora.domain.feedback.model.dto.CommentFilter;
+import com.agora.domain.feedback.model.dto.CommentView;
+import com.agora.domain.feedback.model.dto.ThreadPosition;
 import com.agora.domain.feedback.model.entity.Comment;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Query;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.SpecHints;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Repository for Comment entity persistence operations.
@@ -20,13 +31,196 @@ import java.util.List;
  */
 @ApplicationScoped
 public class CommentRepository implements PanacheRepository<Comment> {
+
+    /** Select list of {@link CommentView} rows over a comment source {@code cm} joined to its author {@code u}. */
+    private static final String VIEW_COLUMNS = """
+            SELECT cm.id, cm.feedback_id, cm.parent_id, cm.author_id, u.name AS author_name, cm.text,
+                   cm.is_developer_response, cm.upvotes, cm.depth, cm.replies, cm.path,
+                   cm.created_at, cm.updated_at
+            """;
+
     /**
-     * Finds all comments associated with a specific feedback item.
+     * Finds comments of a feedback item as flat views, in the given order, using keyset pagination.
+     * <p>
+     * One statement serves the whole listing: the feedback row, or the root comment of a
+     * subtree, is the driving table, its comments are read through a lateral subquery
+     * that seeks past the cursor position on the {@code (feedback_id, created_at, id)},
+     * {@code (feedback_id, upvotes, id)} or {@code (feedback_id, path)} index, and author
+     * names are joined in. A driving row without comments yields a single row without a
+     * comment, so the existence check needs no separate query. The cursor's key holds
+     * the upvotes or path the last comment had when its page was served, so the seek
+     * does not depend on that comment still existing.
+     * </p>
      *
      * @param feedbackId The feedback ID to retrieve comments for
-     * @return List of comments for the feedback, or empty list if none found
+     * @param filter Restricts the listing to a subtree or to a maximum depth
+     * @param after The cursor of the last comment already seen, keyed by its creation time,
+     *              upvotes or path for the oldest, top and thread orders, or null for the first page
+     * @param sort The order of the comments
+     * @param limit Maximum number of comments to return, or 0 for all of them
+     * @return Comment views in the requested order, or empty if the feedback, or the root
+     *         comment of the filter on this feedback, does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<CommentView>> findViewsByFeedbackId(Long feedbackId, CommentFilter filter, PageCursor after,
+                                                             CommentSort sort, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("feedbackId", feedbackId);
+        String from = "feedback f";
+        String where = "f.id = :feedbackId";
+        String scope = "c.feedback_id = f.id";
+        if (filter.rootId() != null) {
+            // A subtree is the contiguous path range just after its root's path
+            from = "comment r";
+            where = "r.id = :rootId AND r.feedback_id = :feedbackId";
+            scope = "c.feedback_id = r.feedback_id AND c.path > r.path AND c.path < r.path || '/'";
+            params.put("rootId", filter.rootId());
+        }
+        if (filter.maxDepth() != null) {
+            scope += " AND c.depth <= :maxDepth";
+            params.put("maxDepth", filter.maxDepth());
+        }
+        if (after != null) {
+            params.put("afterId", after.id());
+            scope += switch (sort) {
+                case TOP -> {
+                    params.put("afterUpvotes", after.keyAsInt());
+                    yield " AND (c.upvotes, c.id) < (:afterUpvotes, :afterId)";
+                }
+                case THREAD -> {
+                    params.put("afterPath", after.key());
+                    yield " AND c.path > :afterPath";
+                }
+                case OLDEST -> {
+                    params.put("afterCreatedAt", after.keyAsTimestamp());
+                    yield " AND (c.created_at, c.id) > (:afterCreatedAt, :afterId)";
+                }
+            };
+        }
+        // Same order inside the lateral page and across the joined result; %1$s is the table alias
+        String order = switch (sort) {
+            case TOP -> "%1$s.upvotes DESC, %1$s.id DESC";
+            case THREAD -> "%1$s.path";
+            case OLDEST -> "%1$s.created_at, %1$s.id";
+        };
+        String limitClause = "";
+        if (limit > 0) {
+            limitClause = "LIMIT :limit";
+            params.put("limit", limit);
+        }
+
+        Query query = getEntityManager().createNativeQuery(VIEW_COLUMNS + """
+                FROM %s
+                LEFT JOIN LATERAL (
+                    SELECT c.* FROM comment c
+                    WHERE %s
+                    ORDER BY %s
+                    %s
+                ) cm ON true
+                LEFT JOIN "user" u ON u.id = cm.author_id
+                WHERE %s
+                ORDER BY %s
+                """.formatted(from, scope, order.formatted("c"), limitClause, where, order.formatted("cm")),
+                Comment.VIEW_MAPPING);
+        params.forEach(query::setParameter);
+        List<CommentView> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(rows.stream()
+                .filter(view -> view.id() != null)
+                .toList());
+    }
+
+    /**
+     * Counts a new reply on its parent comment and returns where the reply goes in the thread.
+     * <p>
+     * The increment is evaluated by the database under the parent's row lock, so concurrent
+     * replies are never lost, and the parent's path and depth come back in the same statement.
+     * A parent already at {@link Comment#MAX_DEPTH} takes no replies and is left unchanged.
+     * </p>
+     *
+     * @param feedbackId The feedback ID the parent comment must belong to
+     * @param parentId The ID of the comment replied to
+     * @return The parent's position in the thread, or empty if no such comment exists on this
+     *         feedback or it is nested too deep to be replied to
+     */
+    public Optional<ThreadPosition> incrementReplies(Long feedbackId, Long parentId) {
+        @SuppressWarnings("unchecked")
+        Optional<Object[]> parent = ((List<Object[]>) getEntityManager().createNativeQuery("""
+                        UPDATE comment
+                        SET replies = replies + 1
+                        WHERE id = :parentId AND feedback_id = :feedbackId AND depth < :maxDepth
+                        RETURNING path, depth
+                        """)
+                .setParameter("feedbackId", feedbackId)
+                .setParameter("parentId", parentId)
+                .setParameter("maxDepth", Comment.MAX_DEPTH)
+                .getResultList())
+                .stream()
+                .findFirst();
+        parent.ifPresent(row -> refreshIfLoaded(parentId));
+        return parent.map(row -> new ThreadPosition((String) row[0], ((Number) row[1]).intValue()));
+    }
+
+    /**
+     * Finds a comment together with its author.
+     *
+     * @param id The comment ID
+     * @return The comment with its author loaded, or empty if not found
+     */
+    public Optional<Comment> findByIdWithAuthor(Long id) {
+        return find("id", id)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, getEntityManager().getEntityGraph(Comment.GRAPH_WITH_AUTHOR))
+                .firstResultOptional();
+    }
+
+    /**
+     * Adds the given delta to the upvote counter of a comment in a single statement.
+     * <p>
+     * The increment is evaluated by the database against the current row under its row
+     * lock, so concurrent votes are never lost. The counter never drops below zero. The
+     * comment must belong to the given feedback; the updated row is returned with its
+     * author name in the same round trip.
+     * </p>
+     *
+     * @param feedbackId The feedback ID the comment must belong to
+     * @param commentId The comment ID
+     * @param upvoteDelta Amount added to the upvote counter
+     * @return The updated comment view, or empty if no such comment exists on this feedback
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<CommentView> applyUpvote(Long feedbackId, Long commentId, int upvoteDelta) {
+        Optional<CommentView> updated = ((List<CommentView>) getEntityManager().createNativeQuery("""
+                        WITH cm AS (
+                            UPDATE comment
+                            SET upvotes = GREATEST(upvotes + :upvoteDelta, 0),
+                                updated_at = now()
+                            WHERE id = :commentId AND feedback_id = :feedbackId
+                            RETURNING *
+                        )
+                        """ + VIEW_COLUMNS + """
+                        FROM cm
+                        LEFT JOIN "user" u ON u.id = cm.author_id
+                        """, Comment.VIEW_MAPPING)
+                .setParameter("feedbackId", feedbackId)
+                .setParameter("commentId", commentId)
+                .setParameter("upvoteDelta", upvoteDelta)
+                .getResultList())
+                .stream()
+                .findFirst();
+        updated.ifPresent(view -> refreshIfLoaded(commentId));
+        return updated;
+    }
+
+    /**
+     * Reloads the comment if this persistence context already holds it, so an entity
+     * loaded earlier in the transaction does not keep the state from before a native update.
      */
-    public List<Comment> findByFeedbackId(Long feedbackId) {
-        return find("feedback.id", feedbackId).list();
+    private void refreshIfLoaded(Long id) {
+        Comment loaded = getEntityManager().getReference(Comment.class, id);
+        if (Hibernate.isInitialized(loaded)) {
+            getEntityManager().refresh(loaded);
+        }
     }
 }
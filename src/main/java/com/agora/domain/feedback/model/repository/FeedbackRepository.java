@@ -1,14 +1,40 @@
 package com.agora.domain.feedback.model.repository;
 
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.common.PageCursor;
+import com.agora.domain.feedback.model.FeedbackSort;
+import com.agora.domain.feedback.model.VoteDirection;
+import com.agora.domain.feedback.model.dto.FeedbackFilter;
+import com.agora.domain.feedback.model.dto.FeedbackSearchHit;
+import com.agora.domain.feedback.model.dto.FeedbackView;
+import com.agora.domain.feedback.model.dto.TagFacet;
+import com.agora.domain.feedback.model.dto.VoteDelta;
 import com.agora.domain.feedback.model.entity.Feedback;
+import com.agora.domain.user.model.ReputationEventType;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Query;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.NativeQuery;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Repository for Feedback entity persistence operations.
  * <p>
  * Provides CRUD operations and query methods for Feedback entities using Quarkus Panache ORM.
  * Inherits standard operations like findById, persist, delete from PanacheRepository.
+ * Read paths select {@link FeedbackView} projections joined with author and category
+ * names in a single statement instead of loading entities.
  * </p>
  *
  * @author Agora Team
@@ -17,4 +43,827 @@ import jakarta.enterprise.context.ApplicationScoped;
  */
 @ApplicationScoped
 public class FeedbackRepository implements PanacheRepository<Feedback> {
+
+    private static final String VIEW_COLUMNS = """
+            SELECT f.id, f.title, f.description, f.sentiment, f.upvotes, f.downvotes, f.comments, f.hot_score,
+                   CAST(f.status AS text) AS status, f.category_id, c.name AS category_name,
+                   f.author_id, u.name AS author_name, f.created_at, f.archived, f.tags
+            """;
+
+    /** Joins for the author and category names; expects the feedback row source aliased as {@code f}. */
+    private static final String VIEW_JOINS = """
+            LEFT JOIN category c ON c.id = f.category_id
+            LEFT JOIN "user" u ON u.id = f.author_id
+            """;
+
+    private static final String VIEW_SELECT = VIEW_COLUMNS + "FROM feedback f\n" + VIEW_JOINS;
+
+    /**
+     * Upserts the {@code :userId} vote on feedback {@code :id} as {@code :direction}, keeping
+     * the replaced direction. Inserts nothing if the feedback or the voting user does not exist.
+     */
+    private static final String UPSERT_VOTE = """
+            INSERT INTO feedback_vote (feedback_id, user_id, direction, created_at, updated_at)
+            SELECT fb.id, u.id, :direction, now(), now()
+            FROM feedback fb
+            JOIN "user" u ON u.id = :userId
+            WHERE fb.id = :id
+            ON CONFLICT (feedback_id, user_id) DO UPDATE
+            SET previous_direction = feedback_vote.direction,
+                direction = EXCLUDED.direction,
+                updated_at = now()
+            """;
+
+    /**
+     * Appends the reputation event of the vote returned by CTE {@code vote}, as CTE
+     * {@code reputation}, crediting the author of feedback {@code :id} read from the row
+     * source named by the format argument. The change is derived from the vote's current
+     * and previous direction, worth {@code :upvotePoints} and {@code :downvotePoints}, so a
+     * repeated vote appends nothing; neither does a vote on one's own or author-less feedback.
+     */
+    private static final String RECORD_VOTE_REPUTATION = """
+            reputation AS (
+                INSERT INTO reputation_event (id, user_id, type, delta, feedback_id, actor_id)
+                SELECT :eventId, fa.author_id, :eventType, points.delta, fa.id, :userId
+                FROM vote
+                CROSS JOIN %s fa
+                CROSS JOIN LATERAL (
+                    SELECT (CASE vote.direction WHEN 1 THEN :upvotePoints WHEN -1 THEN :downvotePoints ELSE 0 END)
+                         - (CASE vote.previous_direction WHEN 1 THEN :upvotePoints WHEN -1 THEN :downvotePoints ELSE 0 END)
+                           AS delta
+                ) points
+                WHERE fa.id = :id AND fa.author_id <> :userId AND points.delta <> 0
+            )
+            """;
+
+    /**
+     * Selects views with their {@code search_rank}, parsing the {@code :search} parameter
+     * once per statement using web search syntax.
+     */
+    private static final String SEARCH_SELECT = VIEW_COLUMNS.stripTrailing() + ", ts_rank(f.search_vector, q) AS search_rank\n"
+            + "FROM feedback f\n" + VIEW_JOINS + """
+            CROSS JOIN websearch_to_tsquery('english', :search) AS q
+            """;
+
+    private static final String SEARCH_ORDER = "ORDER BY ts_rank(f.search_vector, q) DESC, f.id DESC";
+
+    /**
+     * Finds a feedback entity together with its author.
+     * <p>
+     * Uses the {@link Feedback#GRAPH_WITH_AUTHOR} graph so the author is joined into the
+     * same select instead of being loaded lazily afterwards.
+     * </p>
+     *
+     * @param id The feedback ID
+     * @return The feedback with its author loaded, or empty if not found
+     */
+    public Optional<Feedback> findByIdWithAuthor(Long id) {
+        return find("id", id)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, getEntityManager().getEntityGraph(Feedback.GRAPH_WITH_AUTHOR))
+                .firstResultOptional();
+    }
+
+    /**
+     * Finds a single feedback item as a flat read model.
+     *
+     * @param id The feedback ID
+     * @return The feedback view, or empty if no feedback has this ID
+     */
+    public Optional<FeedbackView> findViewById(Long id) {
+        return queryViews("WHERE f.id = :id", "", Map.of("id", id), 0, 1)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Records a user's vote on a feedback item and moves its vote counters accordingly,
+     * in a single statement.
+     * <p>
+     * The vote is upserted into the {@code feedback_vote} ledger, which keeps the user's
+     * previous direction on conflict. The counters are then moved by the difference
+     * between the previous and the new direction, so changing a vote moves it from one
+     * counter to the other and repeating the same vote changes nothing. Both writes are
+     * evaluated by the database under row locks, so concurrent votes are never lost.
+     * The change to the author's reputation is appended to the reputation ledger, and the
+     * updated row is returned as a view, with the author and category joined, in the
+     * same round trip.
+     * </p>
+     *
+     * @param id The feedback ID
+     * @param userId The ID of the voting user
+     * @param direction The user's new vote direction
+     * @param upvotePoints Reputation an upvote earns the feedback author
+     * @param downvotePoints Reputation a downvote earns the feedback author
+     * @return The updated feedback view, or empty if the feedback item or the voting user does not exist
+     */
+    public Optional<FeedbackView> recordVote(Long id, Long userId, VoteDirection direction, int upvotePoints,
+                                             int downvotePoints) {
+        Query query = getEntityManager().createNativeQuery("""
+                        WITH vote AS (
+                        """ + UPSERT_VOTE + """
+                            RETURNING direction, previous_direction
+                        ), f AS (
+                            UPDATE feedback
+                            SET upvotes = GREATEST(upvotes + CAST(vote.direction = 1 AS int)
+                                                           - CAST(vote.previous_direction = 1 AS int), 0),
+                                downvotes = GREATEST(downvotes + CAST(vote.direction = -1 AS int)
+                                                               - CAST(vote.previous_direction = -1 AS int), 0),
+                                updated_at = now()
+                            FROM vote
+                            WHERE feedback.id = :id
+                            RETURNING feedback.*
+                        ),
+                        """ + RECORD_VOTE_REPUTATION.formatted("f") + VIEW_COLUMNS + "FROM f\n" + VIEW_JOINS,
+                        Feedback.VIEW_MAPPING)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .setParameter("direction", direction.getWeight());
+        bindVoteReputation(query, upvotePoints, downvotePoints);
+        @SuppressWarnings("unchecked")
+        Optional<FeedbackView> updated = ((List<FeedbackView>) query.getResultList()).stream().findFirst();
+        updated.ifPresent(view -> refreshIfLoaded(id));
+        return updated;
+    }
+
+    /**
+     * Records a user's vote on a feedback item and adds its counter change to a random
+     * counter shard of the item, in a single statement.
+     * <p>
+     * The feedback row itself is not written, so concurrent votes on one item spread
+     * their row locks over {@code shards} shard rows. The returned view's counters are
+     * the rolled-up values plus all shards not rolled up yet, including this vote. The
+     * change to the author's reputation is appended to the reputation ledger by the same
+     * statement.
+     * </p>
+     *
+     * @param id The feedback ID
+     * @param userId The ID of the voting user
+     * @param direction The user's new vote direction
+     * @param shards Number of counter shards per feedback item
+     * @param upvotePoints Reputation an upvote earns the feedback author
+     * @param downvotePoints Reputation a downvote earns the feedback author
+     * @return The feedback view with current counters, or empty if the feedback item or the voting
+     *         user does not exist
+     */
+    public Optional<FeedbackView> recordShardedVote(Long id, Long userId, VoteDirection direction, int shards,
+                                                    int upvotePoints, int downvotePoints) {
+        Query query = getEntityManager().createNativeQuery("""
+                        WITH vote AS (
+                        """ + UPSERT_VOTE + """
+                            RETURNING direction, previous_direction
+                        ), delta AS (
+                            SELECT CAST(direction = 1 AS int) - CAST(previous_direction = 1 AS int) AS up,
+                                   CAST(direction = -1 AS int) - CAST(previous_direction = -1 AS int) AS down
+                            FROM vote
+                        ), shard AS (
+                            INSERT INTO feedback_counter_shard (feedback_id, slot, upvotes, downvotes)
+                            SELECT :id, CAST(floor(random() * :shards) AS smallint), up, down FROM delta
+                            WHERE up <> 0 OR down <> 0
+                            ON CONFLICT (feedback_id, slot) DO UPDATE
+                            SET upvotes = feedback_counter_shard.upvotes + EXCLUDED.upvotes,
+                                downvotes = feedback_counter_shard.downvotes + EXCLUDED.downvotes
+                        ), f AS (
+                            SELECT fb.id, fb.title, fb.description, fb.sentiment,
+                                   GREATEST(fb.upvotes + COALESCE(s.up, 0) + delta.up, 0) AS upvotes,
+                                   GREATEST(fb.downvotes + COALESCE(s.down, 0) + delta.down, 0) AS downvotes,
+                                   fb.comments, fb.hot_score, fb.status, fb.category_id, fb.author_id, fb.created_at,
+                                   fb.archived, fb.tags
+                            FROM feedback fb
+                            CROSS JOIN delta
+                            LEFT JOIN LATERAL (
+                                SELECT CAST(sum(upvotes) AS int) AS up, CAST(sum(downvotes) AS int) AS down
+                                FROM feedback_counter_shard
+                                WHERE feedback_id = fb.id
+                            ) s ON true
+                            WHERE fb.id = :id
+                        ),
+                        """ + RECORD_VOTE_REPUTATION.formatted("f") + VIEW_COLUMNS + "FROM f\n" + VIEW_JOINS,
+                        Feedback.VIEW_MAPPING)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .setParameter("direction", direction.getWeight())
+                .setParameter("shards", shards);
+        bindVoteReputation(query, upvotePoints, downvotePoints);
+        @SuppressWarnings("unchecked")
+        List<FeedbackView> views = query.getResultList();
+        return views.stream().findFirst();
+    }
+
+    /**
+     * Folds a batch of counter shards into the vote counters of their feedback items.
+     * <p>
+     * The shards are deleted and their sums added to {@code upvotes}/{@code downvotes} in
+     * one statement. Shards locked by an in-flight vote are skipped and picked up by a
+     * later batch; a vote waiting on a shard being folded re-creates it afterwards, so no
+     * delta is lost.
+     * </p>
+     *
+     * @param batchSize Maximum number of shard rows to fold
+     * @return Number of shard rows folded
+     */
+    public int rollUpCounterShards(int batchSize) {
+        Number folded = (Number) getEntityManager().createNativeQuery("""
+                        WITH folded AS (
+                            DELETE FROM feedback_counter_shard
+                            WHERE (feedback_id, slot) IN (
+                                SELECT feedback_id, slot FROM feedback_counter_shard
+                                ORDER BY feedback_id, slot
+                                LIMIT :batchSize
+                                FOR UPDATE SKIP LOCKED
+                            )
+                            RETURNING feedback_id, upvotes, downvotes
+                        ), totals AS (
+                            SELECT feedback_id, sum(upvotes) AS up, sum(downvotes) AS down
+                            FROM folded
+                            GROUP BY feedback_id
+                        ), updated AS (
+                            UPDATE feedback f
+                            SET upvotes = GREATEST(f.upvotes + totals.up, 0),
+                                downvotes = GREATEST(f.downvotes + totals.down, 0),
+                                updated_at = now()
+                            FROM totals
+                            WHERE f.id = totals.feedback_id
+                        )
+                        SELECT count(*) FROM folded
+                        """)
+                .setParameter("batchSize", batchSize)
+                .getSingleResult();
+        return folded.intValue();
+    }
+
+    /**
+     * Records a user's vote on a feedback item in the {@code feedback_vote} ledger only.
+     * <p>
+     * Returns the change the vote makes to the feedback's counters without applying it,
+     * for callers that aggregate counter updates and write them later through
+     * {@link #applyVoteDeltas(Map)}. The change to the author's reputation is appended to
+     * the reputation ledger by the same statement.
+     * </p>
+     *
+     * @param id The feedback ID
+     * @param userId The ID of the voting user
+     * @param direction The user's new vote direction
+     * @param upvotePoints Reputation an upvote earns the feedback author
+     * @param downvotePoints Reputation a downvote earns the feedback author
+     * @return The change to the vote counters, or empty if the feedback item or the voting user
+     *         does not exist
+     */
+    public Optional<VoteDelta> upsertVote(Long id, Long userId, VoteDirection direction, int upvotePoints,
+                                          int downvotePoints) {
+        Query query = getEntityManager().createNativeQuery("""
+                        WITH vote AS (
+                        """ + UPSERT_VOTE + """
+                            RETURNING direction, previous_direction
+                        ),
+                        """ + RECORD_VOTE_REPUTATION.formatted("feedback") + """
+                        SELECT CAST(direction = 1 AS int) - CAST(previous_direction = 1 AS int) AS upvotes,
+                               CAST(direction = -1 AS int) - CAST(previous_direction = -1 AS int) AS downvotes
+                        FROM vote
+                        """)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .setParameter("direction", direction.getWeight());
+        bindVoteReputation(query, upvotePoints, downvotePoints);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .findFirst()
+                .map(row -> new VoteDelta(((Number) row[0]).intValue(), ((Number) row[1]).intValue()));
+    }
+
+    /** Binds the parameters of {@link #RECORD_VOTE_REPUTATION} other than the feedback and voter. */
+    private static void bindVoteReputation(Query query, int upvotePoints, int downvotePoints) {
+        query.setParameter("eventId", IdHelper.generateId())
+                .setParameter("eventType", ReputationEventType.FEEDBACK_VOTE.name())
+                .setParameter("upvotePoints", upvotePoints)
+                .setParameter("downvotePoints", downvotePoints);
+    }
+
+    /**
+     * Finds a user's votes on a set of feedback items in one query.
+     * <p>
+     * The ids are bound as a single array parameter, so the statement text and plan are
+     * the same for every page size. Items the user never voted on are absent from the map.
+     * </p>
+     *
+     * @param userId The ID of the voting user
+     * @param feedbackIds The feedback IDs to look up
+     * @return The user's vote direction by feedback ID
+     */
+    public Map<Long, VoteDirection> findVoteDirections(Long userId, Collection<Long> feedbackIds) {
+        if (feedbackIds.isEmpty()) {
+            return Map.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = getEntityManager().createNativeQuery("""
+                        SELECT feedback_id, direction
+                        FROM feedback_vote
+                        WHERE user_id = :userId AND feedback_id = ANY(CAST(:ids AS bigint[]))
+                        """)
+                .setParameter("userId", userId)
+                .setParameter("ids", toArrayLiteral(feedbackIds))
+                .getResultList();
+        Map<Long, VoteDirection> directions = new HashMap<>();
+        for (Object[] row : rows) {
+            directions.put(((Number) row[0]).longValue(), VoteDirection.fromWeight(((Number) row[1]).intValue()));
+        }
+        return directions;
+    }
+
+    /**
+     * Adds aggregated deltas to the vote counters of many feedback items.
+     * <p>
+     * The rows are first locked in id order with {@code SELECT ... ORDER BY id FOR NO KEY
+     * UPDATE}, so concurrent flushes acquire their locks in the same order and cannot
+     * deadlock each other; the join order of an {@code UPDATE ... FROM} gives no such
+     * guarantee. The deltas are then joined in as a {@code VALUES} list and written in one
+     * statement. Counters never drop below zero; deltas for feedback that no longer exists
+     * are ignored. Must be called inside a transaction, which holds the locks until it ends.
+     * </p>
+     *
+     * @param deltas Counter changes by feedback ID
+     * @return Number of feedback rows updated
+     */
+    public int applyVoteDeltas(Map<Long, VoteDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        getEntityManager().createNativeQuery("""
+                        SELECT id FROM feedback
+                        WHERE id = ANY(CAST(:ids AS bigint[]))
+                        ORDER BY id
+                        FOR NO KEY UPDATE
+                        """)
+                .setParameter("ids", toArrayLiteral(deltas.keySet()))
+                .getResultList();
+
+        List<String> rows = new ArrayList<>(deltas.size());
+        Map<String, Object> params = new HashMap<>();
+        deltas.forEach((id, delta) -> {
+            int i = rows.size();
+            rows.add("(CAST(:id%1$d AS bigint), CAST(:up%1$d AS int), CAST(:down%1$d AS int))".formatted(i));
+            params.put("id" + i, id);
+            params.put("up" + i, delta.upvotes());
+            params.put("down" + i, delta.downvotes());
+        });
+        Query query = getEntityManager().createNativeQuery("""
+                UPDATE feedback f
+                SET upvotes = GREATEST(f.upvotes + v.up, 0),
+                    downvotes = GREATEST(f.downvotes + v.down, 0),
+                    updated_at = now()
+                FROM (VALUES %s) AS v(id, up, down)
+                WHERE f.id = v.id
+                """.formatted(String.join(", ", rows)));
+        params.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    /**
+     * Increments the comment counter of a feedback item for a new comment by the given author.
+     * <p>
+     * The increment is evaluated by the database under the row lock, so concurrent comments
+     * are never lost. The same statement checks that the author exists and returns their
+     * name, which the new comment's response needs, so no entity has to be loaded.
+     * </p>
+     *
+     * @param id The feedback ID
+     * @param authorId The ID of the comment author
+     * @return The author's name, or empty if the feedback item or the author does not exist
+     */
+    public Optional<String> incrementComments(Long id, Long authorId) {
+        @SuppressWarnings("unchecked")
+        Optional<String> authorName = ((List<String>) getEntityManager().createNativeQuery("""
+                        UPDATE feedback
+                        SET comments = comments + 1,
+                            updated_at = now()
+                        FROM "user" u
+                        WHERE feedback.id = :id AND u.id = :authorId
+                        RETURNING u.name
+                        """, String.class)
+                .setParameter("id", id)
+                .setParameter("authorId", authorId)
+                .getResultList())
+                .stream()
+                .findFirst();
+        authorName.ifPresent(name -> refreshIfLoaded(id));
+        return authorName;
+    }
+
+    /**
+     * Finds a page of feedback views in the given order using an offset.
+     * <p>
+     * Every order ends with the id as a tie-breaker, matching the keyset cursor.
+     * </p>
+     *
+     * @param filter Filters the rows must match
+     * @param sort The order of the rows
+     * @param offset Number of rows to skip
+     * @param limit Maximum number of rows to return
+     * @return Feedback views for the requested page
+     */
+    public List<FeedbackView> findViewPage(FeedbackFilter filter, FeedbackSort sort, int offset, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> conditions = filterConditions(filter, params);
+        return queryViews(where(conditions), orderBy(sort), params, offset, limit);
+    }
+
+    /**
+     * Finds the next page of feedback views in the given order using keyset pagination.
+     * <p>
+     * Seeks directly past the cursor position through the {@code (created_at, id)} or
+     * {@code (hot_score, id)} index, so the cost of a page does not depend on how deep
+     * into the result set it is. For the trending order the cursor's key holds the hot
+     * score the last row had when its page was served, so the seek does not depend on
+     * that row still existing or keeping its score.
+     * </p>
+     *
+     * @param filter Filters the rows must match
+     * @param after The cursor of the last row already seen, keyed by its creation time or,
+     *              for the trending order, its hot score; or null for the first page
+     * @param sort The order of the rows
+     * @param limit Maximum number of rows to return
+     * @return Feedback views following the cursor in the requested order
+     */
+    public List<FeedbackView> findViewPageAfter(FeedbackFilter filter, PageCursor after, FeedbackSort sort, int limit) {
+        if (after == null) {
+            return findViewPage(filter, sort, 0, limit);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        List<String> conditions = filterConditions(filter, params);
+        params.put("afterId", after.id());
+        if (sort == FeedbackSort.TRENDING) {
+            conditions.add("(f.hot_score, f.id) < (CAST(:afterScore AS double precision), :afterId)");
+            params.put("afterScore", after.keyAsDouble());
+        } else {
+            conditions.add("(f.created_at, f.id) " + (sort == FeedbackSort.OLDEST ? ">" : "<") + " (:afterCreatedAt, :afterId)");
+            params.put("afterCreatedAt", after.keyAsTimestamp());
+        }
+        return queryViews(where(conditions), orderBy(sort), params, 0, limit);
+    }
+
+    /**
+     * Finds feedback views matching a full-text search, best match first.
+     * <p>
+     * Matches are found through the GIN index on the generated {@code search_vector}
+     * column and ordered by {@code ts_rank}, with the id as a tie-breaker. Following
+     * pages seek past the cursor position on {@code (rank, id)}, using the rank the
+     * previous page returned, so the seek works even if the cursor row was deleted since.
+     * </p>
+     *
+     * @param search Search terms in web search syntax (quoted phrases, {@code or}, {@code -term})
+     * @param filter Filters the matches must also satisfy
+     * @param afterRank The rank of the last row already seen, or null to start from the offset
+     * @param afterId The id of the last row already seen; ignored without {@code afterRank}
+     * @param offset Number of rows to skip when no cursor position is given
+     * @param limit Maximum number of rows to return
+     * @return Matching feedback views with their ranks, in rank order
+     */
+    @SuppressWarnings("unchecked")
+    public List<FeedbackSearchHit> searchViews(String search, FeedbackFilter filter, Float afterRank, Long afterId,
+                                               int offset, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> conditions = filterConditions(filter, params);
+        conditions.add("f.search_vector @@ q");
+        params.put("search", search);
+        if (afterRank != null) {
+            conditions.add("(ts_rank(f.search_vector, q), f.id) < (CAST(:afterRank AS real), :afterId)");
+            params.put("afterRank", afterRank);
+            params.put("afterId", afterId);
+            offset = 0;
+        }
+        List<Object[]> rows = createViewQuery(SEARCH_SELECT, Feedback.SEARCH_MAPPING, where(conditions), SEARCH_ORDER,
+                params, offset, limit).getResultList();
+        return rows.stream()
+                .map(row -> new FeedbackSearchHit((FeedbackView) row[0], ((Number) row[1]).floatValue()))
+                .toList();
+    }
+
+    /**
+     * Counts feedback items matching the given filters and, optionally, a full-text search.
+     *
+     * @param search Search terms in web search syntax, or null to match every row
+     * @param filter Filters the rows must match
+     * @param limit Stop counting after this many matches, or 0 to count all of them
+     * @return Number of matches, at most {@code limit} when a limit is given
+     */
+    public long countMatching(String search, FeedbackFilter filter, long limit) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> conditions = filterConditions(filter, params);
+        if (search != null) {
+            conditions.add("f.search_vector @@ websearch_to_tsquery('english', :search)");
+            params.put("search", search);
+        }
+        if (limit > 0) {
+            params.put("limit", limit);
+        }
+
+        Query query = getEntityManager().createNativeQuery("SELECT count(*) FROM (SELECT 1 FROM feedback f "
+                + where(conditions) + (limit > 0 ? " LIMIT :limit" : "") + ") m");
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    /**
+     * Counts the most frequent tags among feedback items matching the given filters and,
+     * optionally, a full-text search.
+     * <p>
+     * Unnests the tags of every matching row, so the cost grows with the size of the
+     * filtered set rather than the page.
+     * </p>
+     *
+     * @param search Search terms in web search syntax, or null to match every row
+     * @param filter Filters the rows must match
+     * @param limit Maximum number of tags to return
+     * @return Tags with their counts, most frequent first
+     */
+    @SuppressWarnings("unchecked")
+    public List<TagFacet> countTags(String search, FeedbackFilter filter, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> conditions = filterConditions(filter, params);
+        if (search != null) {
+            conditions.add("f.search_vector @@ websearch_to_tsquery('english', :search)");
+            params.put("search", search);
+        }
+        params.put("limit", limit);
+
+        Query query = getEntityManager().createNativeQuery("""
+                SELECT t.tag, count(*) AS tag_count
+                FROM feedback f
+                CROSS JOIN LATERAL unnest(f.tags) AS t(tag)
+                """ + where(conditions) + """
+
+                GROUP BY t.tag
+                ORDER BY tag_count DESC, t.tag
+                LIMIT :limit
+                """);
+        params.forEach(query::setParameter);
+        return ((List<Object[]>) query.getResultList()).stream()
+                .map(row -> new TagFacet((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Lists every feedback item as a flat read model, newest first.
+     *
+     * @return All feedback views
+     */
+    public List<FeedbackView> listAllViews() {
+        return queryViews("", orderBy(FeedbackSort.NEWEST), Map.of(), 0, 0);
+    }
+
+    /**
+     * Streams every feedback item as a flat read model, oldest first.
+     * <p>
+     * Rows are read through a forward-only JDBC cursor fetching {@code fetchSize} rows per
+     * round trip, so memory use does not grow with the table. Must be called inside a
+     * transaction, and the returned stream must be closed to release the cursor.
+     * </p>
+     *
+     * @param fetchSize Number of rows the driver fetches per round trip
+     * @return Stream of all feedback views
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<FeedbackView> streamAllViews(int fetchSize) {
+        return getEntityManager()
+                .createNativeQuery(VIEW_SELECT + orderBy(FeedbackSort.OLDEST), Feedback.VIEW_MAPPING)
+                .unwrap(NativeQuery.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .getResultStream();
+    }
+
+    /**
+     * Recomputes the hot score of a batch of active feedback created since a given instant.
+     * <p>
+     * Walks the rows in id order, starting after {@code afterId}, so callers can decay the
+     * whole window in short batches, each in its own transaction. Only {@code hot_score}
+     * is written, so the counter trigger does not fire again.
+     * </p>
+     *
+     * @param createdSince Only feedback created at or after this instant is decayed
+     * @param afterId Id of the last row of the previous batch, or 0 to start
+     * @param batchSize Maximum number of rows to update
+     * @return Id of the last updated row, or empty if no rows were left
+     */
+    public Optional<Long> decayHotScores(OffsetDateTime createdSince, long afterId, int batchSize) {
+        Object lastId = getEntityManager().createNativeQuery("""
+                        WITH batch AS (
+                            SELECT id FROM feedback
+                            WHERE NOT archived AND created_at >= :createdSince AND id > :afterId
+                            ORDER BY id
+                            LIMIT :batchSize
+                        ), updated AS (
+                            UPDATE feedback f
+                            SET hot_score = feedback_hot_score(f.upvotes, f.downvotes, f.comments, f.created_at, now())
+                            FROM batch
+                            WHERE f.id = batch.id
+                            RETURNING f.id
+                        )
+                        SELECT max(id) FROM updated
+                        """)
+                .setParameter("createdSince", createdSince)
+                .setParameter("afterId", afterId)
+                .setParameter("batchSize", batchSize)
+                .getSingleResult();
+        return Optional.ofNullable(lastId).map(id -> ((Number) id).longValue());
+    }
+
+    /**
+     * Locks the next chunk of feedback rows in id order for counter reconciliation.
+     * <p>
+     * Rows already locked, e.g. by a vote in flight, are skipped rather than waited for;
+     * they are reconciled by a later run. The locks keep votes on the chunk from changing
+     * the counters until the reconciling transaction ends, so the recount cannot
+     * overwrite them.
+     * </p>
+     *
+     * @param afterId Id of the last row of the previous chunk, or 0 to start
+     * @param toId Highest id to include
+     * @param chunkSize Maximum number of rows to lock
+     * @return Ids of the locked rows in ascending order
+     */
+    public List<Long> lockCounterChunk(long afterId, long toId, int chunkSize) {
+        @SuppressWarnings("unchecked")
+        List<Number> ids = getEntityManager().createNativeQuery("""
+                        SELECT id FROM feedback
+                        WHERE id > :afterId AND id <= :toId
+                        ORDER BY id
+                        LIMIT :chunkSize
+                        FOR NO KEY UPDATE SKIP LOCKED
+                        """)
+                .setParameter("afterId", afterId)
+                .setParameter("toId", toId)
+                .setParameter("chunkSize", chunkSize)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    /**
+     * Recomputes the denormalized counters of a chunk of feedback and fixes the rows that differ.
+     * <p>
+     * Upvotes and downvotes are counted from the {@code feedback_vote} ledger, less any
+     * counter shards not rolled up yet; comments are counted from the comment table. All
+     * counts are computed for the whole chunk in one set-based statement, and only rows
+     * whose counters differ are written. Vote counters are only recounted for feedback
+     * created at or after the {@code feedback_vote_ledger_watermark}: older feedback may
+     * hold votes cast before the ledger existed, which a recount would drop.
+     * </p>
+     *
+     * @param ids The feedback IDs of the chunk, locked by {@link #lockCounterChunk(long, long, int)}
+     * @param includeVotes False to leave all vote counters alone and only fix comment counts
+     * @return Number of feedback rows fixed
+     */
+    public int reconcileCounters(List<Long> ids, boolean includeVotes) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return getEntityManager().createNativeQuery("""
+                        WITH actual AS (
+                            SELECT chunk.id,
+                                   :includeVotes AND fb.created_at >= w.ledgered_since AS recount_votes,
+                                   COALESCE(v.up, 0) - COALESCE(s.up, 0) AS upvotes,
+                                   COALESCE(v.down, 0) - COALESCE(s.down, 0) AS downvotes,
+                                   COALESCE(c.total, 0) AS comments
+                            FROM unnest(CAST(:ids AS bigint[])) AS chunk(id)
+                            JOIN feedback fb ON fb.id = chunk.id
+                            CROSS JOIN feedback_vote_ledger_watermark w
+                            LEFT JOIN (
+                                SELECT feedback_id,
+                                       count(*) FILTER (WHERE direction = 1) AS up,
+                                       count(*) FILTER (WHERE direction = -1) AS down
+                                FROM feedback_vote
+                                WHERE feedback_id = ANY(CAST(:ids AS bigint[]))
+                                GROUP BY feedback_id
+                            ) v ON v.feedback_id = chunk.id
+                            LEFT JOIN (
+                                SELECT feedback_id, sum(upvotes) AS up, sum(downvotes) AS down
+                                FROM feedback_counter_shard
+                                WHERE feedback_id = ANY(CAST(:ids AS bigint[]))
+                                GROUP BY feedback_id
+                            ) s ON s.feedback_id = chunk.id
+                            LEFT JOIN (
+                                SELECT feedback_id, count(*) AS total
+                                FROM comment
+                                WHERE feedback_id = ANY(CAST(:ids AS bigint[]))
+                                GROUP BY feedback_id
+                            ) c ON c.feedback_id = chunk.id
+                        )
+                        UPDATE feedback f
+                        SET upvotes = CASE WHEN actual.recount_votes THEN actual.upvotes ELSE f.upvotes END,
+                            downvotes = CASE WHEN actual.recount_votes THEN actual.downvotes ELSE f.downvotes END,
+                            comments = actual.comments
+                        FROM actual
+                        WHERE f.id = actual.id
+                          AND (f.comments <> actual.comments
+                               OR (actual.recount_votes
+                                   AND (f.upvotes <> actual.upvotes OR f.downvotes <> actual.downvotes)))
+                        """)
+                .setParameter("ids", toArrayLiteral(ids))
+                .setParameter("includeVotes", includeVotes)
+                .executeUpdate();
+    }
+
+    /**
+     * Returns the planner's row estimate for the feedback table.
+     * <p>
+     * Reads {@code pg_class.reltuples}, which is maintained by (auto)vacuum and analyze,
+     * instead of scanning the table.
+     * </p>
+     *
+     * @return Estimated number of feedback rows, or -1 if the table has not been analyzed yet
+     */
+    public long estimateCount() {
+        Number estimate = (Number) getEntityManager()
+                .createNativeQuery("SELECT reltuples::bigint FROM pg_class WHERE oid = 'feedback'::regclass")
+                .getSingleResult();
+        return estimate.longValue();
+    }
+
+    /**
+     * Translates a filter into SQL conditions, adding their parameters to {@code params}.
+     * <p>
+     * The archived flag is inlined as a literal rather than bound, so the planner can
+     * match it against the {@code WHERE NOT archived} partial indexes even for generic
+     * (cached) plans.
+     * </p>
+     */
+    private static List<String> filterConditions(FeedbackFilter filter, Map<String, Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.archived() != null) {
+            conditions.add(filter.archived() ? "f.archived" : "NOT f.archived");
+        }
+        if (filter.status() != null) {
+            conditions.add("f.status = CAST(:status AS feedback_status)");
+            params.put("status", filter.status().name());
+        }
+        if (filter.categoryId() != null) {
+            conditions.add("f.category_id = :categoryId");
+            params.put("categoryId", filter.categoryId());
+        }
+        if (filter.sentiment() != null) {
+            conditions.add("f.sentiment = :sentiment");
+            params.put("sentiment", filter.sentiment());
+        }
+        if (filter.createdFrom() != null) {
+            conditions.add("f.created_at >= :createdFrom");
+            params.put("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            conditions.add("f.created_at < :createdTo");
+            params.put("createdTo", filter.createdTo());
+        }
+        if (filter.tag() != null) {
+            conditions.add("f.tags @> ARRAY[CAST(:tag AS text)]");
+            params.put("tag", filter.tag());
+        }
+        return conditions;
+    }
+
+    /**
+     * Reloads the feedback if this persistence context already holds it, so an entity
+     * loaded earlier in the transaction does not keep the state from before a native update.
+     */
+    private void refreshIfLoaded(Long id) {
+        Feedback loaded = getEntityManager().getReference(Feedback.class, id);
+        if (Hibernate.isInitialized(loaded)) {
+            getEntityManager().refresh(loaded);
+        }
+    }
+
+    /** Renders ids as a PostgreSQL array literal, bound as a single {@code bigint[]} parameter. */
+    private static String toArrayLiteral(Collection<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String orderBy(FeedbackSort sort) {
+        return switch (sort) {
+            case NEWEST -> "ORDER BY f.created_at DESC, f.id DESC";
+            case OLDEST -> "ORDER BY f.created_at ASC, f.id ASC";
+            case TRENDING -> "ORDER BY f.hot_score DESC, f.id DESC";
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FeedbackView> queryViews(String where, String orderBy, Map<String, Object> params, int offset, int limit) {
+        return createViewQuery(VIEW_SELECT, Feedback.VIEW_MAPPING, where, orderBy, params, offset, limit).getResultList();
+    }
+
+    private Query createViewQuery(String select, String mapping, String where, String orderBy,
+                                  Map<String, Object> params, int offset, int limit) {
+        Query query = getEntityManager()
+                .createNativeQuery(select + where + " " + orderBy, mapping)
+                .setFirstResult(offset);
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        params.forEach(query::setParameter);
+        return query;
+    }
 }
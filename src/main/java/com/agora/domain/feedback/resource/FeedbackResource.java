@@ -5,17 +5,22 @@ import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
 import com.agora.domain.feedback.application.dto.UpdateFeedbackCommand;
 import com.agora.domain.feedback.common.IdHelper;
 import com.agora.domain.feedback.exception.UnauthorizedException;
+import com.agora.domain.feedback.model.ExportFormat;
 import com.agora.domain.feedback.model.dto.CategoryResponse;
 import com.agora.domain.feedback.model.dto.CommentResponse;
 import com.agora.domain.feedback.model.dto.CreateCommentRequest;
+import com.agora.domain.feedback.model.dto.FeedbackFilter;
 import com.agora.domain.feedback.model.dto.FeedbackResponse;
+import com.agora.domain.feedback.model.dto.PaginatedCommentResponse;
 import com.agora.domain.feedback.model.dto.PaginatedFeedbackResponse;
 import com.agora.domain.feedback.model.dto.VoteRequest;
+import com.agora.domain.feedback.model.entity.FeedbackStatus;
 import io.quarkus.security.Authenticated;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -26,6 +31,10 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.logging.Logger;
 
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
 @Path("/api/v1/feedback")
 @Tag(name = "Feedback", description = "Feedback submission, retrieval, and management")
 @Authenticated
@@ -45,7 +54,8 @@ public class FeedbackResource {
     @GET
     @Operation(
             summary = "List all feedback items with pagination and sorting",
-            description = "Retrieve feedback submissions with support for pagination and sorting by creation date"
+            description = "Retrieve feedback submissions with support for pagination and sorting by creation date. " +
+                    "Pass the 'next' cursor of a response to fetch the following page at constant cost."
     )
     @APIResponses({
             @APIResponse(
@@ -63,18 +73,96 @@ public class FeedbackResource {
             @QueryParam("page") Integer page,
             @Parameter(description = "Page size (default 10, max 20)", example = "10")
             @QueryParam("pageSize") Integer size,
-            @Parameter(description = "Sort order: 'newest' (default) or 'oldest'", example = "newest")
-            @QueryParam("sortBy") String sort) {
+            @Parameter(description = "Sort order: 'newest' (default), 'oldest' or 'trending'", example = "newest")
+            @QueryParam("sortBy") String sort,
+            @Parameter(description = "Opaque cursor from a previous response's 'next' field; when set, 'page' is ignored")
+            @QueryParam("cursor") String cursor,
+            @Parameter(description = "Compute an exact total instead of the planner estimate used for large tables (default false)", example = "false")
+            @QueryParam("includeTotal") Boolean includeTotal,
+            @Parameter(description = "Full-text search over title and description; results are ordered by relevance and 'sortBy' is ignored", example = "dark mode")
+            @QueryParam("search") String search,
+            @Parameter(description = "Only feedback in this status", example = "PENDING")
+            @QueryParam("status") String status,
+            @Parameter(description = "Only feedback in this category", example = "117457749108987394")
+            @QueryParam("categoryId") Long categoryId,
+            @Parameter(description = "Only feedback with this sentiment", example = "POSITIVE")
+            @QueryParam("sentiment") String sentiment,
+            @Parameter(description = "Only archived (true) or active (false) feedback; both when omitted", example = "false")
+            @QueryParam("archived") Boolean archived,
+            @Parameter(description = "Only feedback created at or after this ISO-8601 instant", example = "2025-11-01T00:00:00Z")
+            @QueryParam("from") String from,
+            @Parameter(description = "Only feedback created before this ISO-8601 instant", example = "2025-12-01T00:00:00Z")
+            @QueryParam("to") String to,
+            @Parameter(description = "Only feedback carrying this tag", example = "accessibility")
+            @QueryParam("tag") String tag,
+            @Parameter(description = "Include counts of the most frequent tags across all matching feedback (default false)", example = "false")
+            @QueryParam("facets") Boolean facets) {
         LOGGER.info("Listing feedback items with pagination and sorting");
 
         int pageNum = page != null ? page : 1;
         int pageSize = size != null ?  Math.min(size, 20) : 10;
         String sortOrder = sort != null ? sort : "newest";
+        boolean exactTotal = Boolean.TRUE.equals(includeTotal);
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        FeedbackFilter filter = toFilter(status, categoryId, sentiment, archived, from, to, tag);
+        String searchTerms = search != null && !search.isBlank() ? search.strip() : null;
 
-        PaginatedFeedbackResponse response = feedbackApplicationService.getAllFeedbacksPaginated(pageNum, pageSize, sortOrder);
+        PaginatedFeedbackResponse response;
+        if (searchTerms != null) {
+            response = feedbackApplicationService.searchFeedbacks(searchTerms, hasCursor ? cursor : null, pageNum, pageSize, filter, exactTotal);
+        } else if (hasCursor) {
+            response = feedbackApplicationService.getFeedbacksAfterCursor(cursor, pageSize, sortOrder, filter, exactTotal);
+        } else {
+            response = feedbackApplicationService.getAllFeedbacksPaginated(pageNum, pageSize, sortOrder, filter, exactTotal);
+        }
+        if (Boolean.TRUE.equals(facets)) {
+            response = response.withTagFacets(feedbackApplicationService.getTagFacets(searchTerms, filter));
+        }
+        if (jwt != null && jwt.getSubject() != null) {
+            response = feedbackApplicationService.withUserVotes(response, IdHelper.toLong(jwt.getSubject()));
+        }
         return Response.ok(response).build();
     }
 
+    @GET
+    @Path("/export")
+    @Operation(
+            summary = "Export all feedback",
+            description = "Stream every feedback item as NDJSON (one JSON object per line) or CSV. " +
+                    "Rows are read through a database cursor and written as they arrive."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Feedback export stream",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Invalid export format"
+            )
+    })
+    @Produces({"application/x-ndjson", "text/csv"})
+    public Response export(
+            @Parameter(description = "Export format: 'ndjson' (default) or 'csv'", example = "ndjson")
+            @QueryParam("format") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromString(format != null ? format : ExportFormat.NDJSON.getValue());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        LOGGER.infof("Exporting feedback items as %s", exportFormat.getValue());
+        StreamingOutput body = output -> feedbackApplicationService.exportFeedbacks(exportFormat, output);
+        return Response.ok(body, exportFormat.getMediaType())
+                .header("Content-Disposition", "attachment; filename=\"feedback." + exportFormat.getValue() + "\"")
+                .build();
+    }
+
     @GET
     @Path("/{id}")
     @Operation(
@@ -100,6 +188,9 @@ public class FeedbackResource {
             @Parameter(description = "Feedback ID", required = true)
             @PathParam("id") String id) {
         FeedbackResponse response = feedbackApplicationService.getFeedback(IdHelper.toLong(id));
+        if (jwt != null && jwt.getSubject() != null) {
+            response = feedbackApplicationService.withUserVote(response, IdHelper.toLong(jwt.getSubject()));
+        }
         return Response.ok(response).build();
     }
 
@@ -149,7 +240,7 @@ public class FeedbackResource {
             ),
             @APIResponse(
                     responseCode = "400",
-                    description = "Invalid request - validation errors"
+                    description = "Invalid request - validation errors, or parent comment not found on this feedback"
             ),
             @APIResponse(
                     responseCode = "403",
@@ -267,17 +358,22 @@ public class FeedbackResource {
     @Path("/{id}/comments")
     @Operation(
             summary = "Get comments for feedback",
-            description = "Retrieve all comments for a specific feedback item"
+            description = "Retrieve the comments of a feedback item one page at a time. " +
+                    "Pass the 'next' cursor of a response to fetch the following page at constant cost."
     )
     @APIResponses({
             @APIResponse(
                     responseCode = "200",
-                    description = "List of comments retrieved successfully",
+                    description = "Page of comments retrieved successfully",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON,
-                            schema = @Schema(implementation = CommentResponse.class)
+                            schema = @Schema(implementation = PaginatedCommentResponse.class)
                     )
             ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor"
+            ),
             @APIResponse(
                     responseCode = "404",
                     description = "Feedback not found"
@@ -285,16 +381,74 @@ public class FeedbackResource {
     })
     public Response getComments(
             @Parameter(description = "Feedback ID", required = true)
-            @PathParam("id") String id) {
-        var comments = feedbackApplicationService.getCommentsByFeedbackId(IdHelper.toLong(id));
+            @PathParam("id") String id,
+            @Parameter(description = "Page size (default 20, max 100)", example = "20")
+            @QueryParam("pageSize") Integer size,
+            @Parameter(description = "Sort order: 'oldest' (default), 'top' or 'thread' (replies below the comment they answer)", example = "oldest")
+            @QueryParam("sortBy") String sort,
+            @Parameter(description = "Opaque cursor from a previous response's 'next' field")
+            @QueryParam("cursor") String cursor,
+            @Parameter(description = "Only comments nested at most this deep (0 = top-level comments only); all when omitted", example = "0")
+            @QueryParam("maxDepth") Integer maxDepth) {
+        int pageSize = size != null ? Math.min(size, 100) : 20;
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        var comments = feedbackApplicationService.getComments(IdHelper.toLong(id), hasCursor ? cursor : null, pageSize,
+                sort, maxDepth);
         return Response.ok(comments).build();
     }
 
+    @GET
+    @Path("/{id}/comments/{commentId}/replies")
+    @Operation(
+            summary = "Get replies to a comment",
+            description = "Retrieve the replies below a comment, at any depth, in thread order. " +
+                    "Pass the 'next' cursor of a response to fetch the following page at constant cost."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Page of replies retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = PaginatedCommentResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or comment not found on this feedback"
+            ),
+            @APIResponse(
+                    responseCode = "404",
+                    description = "Feedback not found"
+            )
+    })
+    public Response getReplies(
+            @Parameter(description = "Feedback ID", required = true)
+            @PathParam("id") String id,
+            @Parameter(description = "Comment ID", required = true)
+            @PathParam("commentId") String commentId,
+            @Parameter(description = "Page size (default 20, max 100)", example = "20")
+            @QueryParam("pageSize") Integer size,
+            @Parameter(description = "Opaque cursor from a previous response's 'next' field")
+            @QueryParam("cursor") String cursor,
+            @Parameter(description = "Only replies nested at most this deep; all when omitted", example = "1")
+            @QueryParam("maxDepth") Integer maxDepth) {
+        int pageSize = size != null ? Math.min(size, 100) : 20;
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        try {
+            var replies = feedbackApplicationService.getReplies(IdHelper.toLong(id), IdHelper.toLong(commentId),
+                    hasCursor ? cursor : null, pageSize, maxDepth);
+            return Response.ok(replies).build();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
     @PUT
     @Path("/{id}/comments")
     @Operation(
             summary = "Add comment to feedback",
-            description = "Add a new comment to an existing feedback item"
+            description = "Add a new comment, or a reply to another comment, to an existing feedback item. The current user is the author. Requires authentication via JWT token."
     )
     @APIResponses({
             @APIResponse(
@@ -307,7 +461,11 @@ public class FeedbackResource {
             ),
             @APIResponse(
                     responseCode = "400",
-                    description = "Invalid request - validation errors"
+                    description = "Invalid request - validation errors, parent comment not found on this feedback, or reply nested too deep"
+            ),
+            @APIResponse(
+                    responseCode = "403",
+                    description = "Forbidden - not authenticated"
             ),
             @APIResponse(
                     responseCode = "404",
@@ -321,15 +479,28 @@ public class FeedbackResource {
             @PathParam("id") String id,
             @Parameter(description = "Comment data", required = true)
             CreateCommentRequest request) {
-        CommentResponse response = feedbackApplicationService.addComment(IdHelper.toLong(id), request);
-        return Response.status(Response.Status.CREATED).entity(response).build();
+        // Require authentication
+        if (jwt == null || jwt.getSubject() == null) {
+            throw new UnauthorizedException("Authentication required to comment on feedback");
+        }
+
+        try {
+            CommentResponse response = feedbackApplicationService.addComment(
+                IdHelper.toLong(id),
+                IdHelper.toLong(jwt.getSubject()),
+                request
+            );
+            return Response.status(Response.Status.CREATED).entity(response).build();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
     }
 
     @POST
     @Path("/{id}/upvote")
     @Operation(
             summary = "Vote on feedback",
-            description = "Upvote, downvote, or remove vote from feedback"
+            description = "Upvote, downvote, or remove the current user's vote on feedback. Each user holds one vote per feedback item; repeating the same vote has no effect. Requires authentication via JWT token."
     )
     @APIResponses({
             @APIResponse(
@@ -346,7 +517,7 @@ public class FeedbackResource {
             ),
             @APIResponse(
                     responseCode = "404",
-                    description = "Feedback not found"
+                    description = "Feedback or voting user not found"
             )
     })
     @Produces(MediaType.APPLICATION_JSON)
@@ -356,8 +527,14 @@ public class FeedbackResource {
             @PathParam("id") String id,
             @Parameter(description = "Vote data", required = true)
             VoteRequest request) {
+        // Require authentication
+        if (jwt == null || jwt.getSubject() == null) {
+            throw new UnauthorizedException("Authentication required to vote on feedback");
+        }
+
         FeedbackResponse response = feedbackApplicationService.voteFeedback(
             IdHelper.toLong(id),
+            IdHelper.toLong(jwt.getSubject()),
             request.direction()
         );
         return Response.ok(response).build();
@@ -425,5 +602,22 @@ public class FeedbackResource {
         return Response.ok(feedbackApplicationService.findAllCategories()).build();
     }
 
-
+    private static FeedbackFilter toFilter(String status, Long categoryId, String sentiment, Boolean archived,
+                                           String from, String to, String tag) {
+        try {
+            return FeedbackFilter.builder()
+                    .status(status != null && !status.isBlank() ? FeedbackStatus.valueOf(status.strip().toUpperCase()) : null)
+                    .categoryId(categoryId)
+                    .sentiment(sentiment != null && !sentiment.isBlank() ? sentiment.strip() : null)
+                    .archived(archived)
+                    .createdFrom(from != null && !from.isBlank() ? OffsetDateTime.parse(from.strip()) : null)
+                    .createdTo(to != null && !to.isBlank() ? OffsetDateTime.parse(to.strip()) : null)
+                    .tag(tag != null && !tag.isBlank() ? tag.strip().toLowerCase(Locale.ROOT) : null)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status: " + status);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid date: " + e.getParsedString());
+        }
+    }
 }
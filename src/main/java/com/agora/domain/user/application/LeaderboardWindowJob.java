@@ -0,0 +1,48 @@
+package com.agora.domain.user.application;
+
+import com.agora.domain.user.model.LeaderboardWindow;
+import com.agora.domain.user.model.repository.ReputationEventRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+/**
+ * Scheduled job that refreshes the rolling-window leaderboards.
+ * <p>
+ * Window totals are summed from the per-user daily reputation buckets, which the
+ * {@link ReputationAggregationJob} keeps current, and materialized together with each
+ * user's position, so window pages never aggregate at request time. Between refreshes
+ * the windows lag behind by up to the refresh interval; the refresh itself does not
+ * block reads.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class LeaderboardWindowJob {
+    private static final Logger LOGGER = Logger.getLogger(LeaderboardWindowJob.class);
+
+    private final ReputationEventRepository reputationEventRepository;
+
+    @Inject
+    public LeaderboardWindowJob(ReputationEventRepository reputationEventRepository) {
+        this.reputationEventRepository = reputationEventRepository;
+    }
+
+    @Scheduled(every = "{agora.users.reputation.window-refresh-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Recomputes the rolling-window leaderboards and drops daily buckets no window reads.
+     */
+    public void refresh() {
+        QuarkusTransaction.requiringNew().run(() -> reputationEventRepository.refreshWindows(LeaderboardWindow.LONGEST_DAYS));
+        LOGGER.debug("Refreshed rolling-window leaderboards");
+    }
+}
@@ -0,0 +1,199 @@
+package com.agora.domain.user.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Sorted set that also answers positional queries in O(log n).
+ * <p>
+ * Implemented as a treap whose nodes carry the size of their subtree: the position of a
+ * key is the summed size of the subtrees left of its search path, and the key at a
+ * position is found by descending on subtree sizes. Random priorities keep the tree
+ * balanced in expectation whatever the insertion order.
+ * </p>
+ * <p>
+ * Not thread-safe; callers synchronize.
+ * </p>
+ *
+ * @param <K> The key type, ordered by its natural order
+ */
+final class OrderStatisticTree<K extends Comparable<K>> {
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority;
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<K> root;
+
+    /**
+     * @return Number of keys in the tree
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @param key The key to add
+     * @return True if the key was added, false if it was already present
+     */
+    boolean add(K key) {
+        if (contains(key)) {
+            return false;
+        }
+        List<Node<K>> parts = split(root, key);
+        root = merge(merge(parts.get(0), new Node<>(key, random.nextInt())), parts.get(1));
+        return true;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The key to remove
+     * @return True if the key was removed, false if it was not present
+     */
+    boolean remove(K key) {
+        int before = size();
+        root = remove(root, key);
+        return size() < before;
+    }
+
+    boolean contains(K key) {
+        Node<K> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the keys ordered before the given key, which need not be present.
+     *
+     * @param key The key to look up
+     * @return Number of keys strictly less than {@code key}; the 0-based position of {@code key} if present
+     */
+    int countLess(K key) {
+        int count = 0;
+        Node<K> node = root;
+        while (node != null) {
+            if (node.key.compareTo(key) < 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the keys at consecutive positions.
+     *
+     * @param from 0-based position of the first key
+     * @param count Maximum number of keys to return
+     * @return Keys at positions {@code from} to {@code from + count - 1}, fewer at the end of the tree
+     */
+    List<K> range(int from, int count) {
+        int to = Math.min(size(), Math.max(from, 0) + count);
+        List<K> keys = new ArrayList<>(Math.max(0, to - from));
+        for (int index = Math.max(from, 0); index < to; index++) {
+            keys.add(get(index));
+        }
+        return keys;
+    }
+
+    private K get(int index) {
+        Node<K> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.key;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException(index);
+    }
+
+    /** Splits a subtree into the keys less than {@code key} and the keys at least {@code key}. */
+    private List<Node<K>> split(Node<K> node, K key) {
+        if (node == null) {
+            return Arrays.asList(null, null);
+        }
+        if (node.key.compareTo(key) < 0) {
+            List<Node<K>> parts = split(node.right, key);
+            node.right = parts.get(0);
+            update(node);
+            parts.set(0, node);
+            return parts;
+        }
+        List<Node<K>> parts = split(node.left, key);
+        node.left = parts.get(1);
+        update(node);
+        parts.set(1, node);
+        return parts;
+    }
+
+    /** Merges two subtrees where every key of {@code left} is less than every key of {@code right}. */
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<K> remove(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = key.compareTo(node.key);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, key);
+        } else {
+            node.right = remove(node.right, key);
+        }
+        update(node);
+        return node;
+    }
+
+    private static <K> int size(Node<K> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <K> void update(Node<K> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+}
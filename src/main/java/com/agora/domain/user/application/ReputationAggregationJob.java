@@ -0,0 +1,77 @@
+package com.agora.domain.user.application;
+
+import com.agora.domain.user.model.dto.ReputationFold;
+import com.agora.domain.user.model.event.ReputationChangedEvent;
+import com.agora.domain.user.model.repository.ReputationEventRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Scheduled job that folds the reputation ledger into user reputation scores.
+ * <p>
+ * Votes, comments and status changes only append {@code reputation_event} rows, so they
+ * never write the user row of the author they credit. This job sums the pending events
+ * per user and adds each sum with a single UPDATE, so a user's row is written once per
+ * batch no matter how many events arrived for them. Each batch commits on its own and
+ * publishes the new scores as a {@link ReputationChangedEvent}.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class ReputationAggregationJob {
+    private static final Logger LOGGER = Logger.getLogger(ReputationAggregationJob.class);
+
+    private final ReputationEventRepository reputationEventRepository;
+    private final Event<ReputationChangedEvent> reputationChanged;
+    private final int batchSize;
+
+    @Inject
+    public ReputationAggregationJob(ReputationEventRepository reputationEventRepository,
+                                    Event<ReputationChangedEvent> reputationChanged,
+                                    @ConfigProperty(name = "agora.users.reputation.aggregate-batch-size") int batchSize) {
+        this.reputationEventRepository = reputationEventRepository;
+        this.reputationChanged = reputationChanged;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(every = "{agora.users.reputation.aggregate-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledAggregate() {
+        aggregate();
+    }
+
+    /**
+     * Folds all pending reputation events into user scores.
+     * <p>
+     * Stops after the first batch that is not full, so events written continuously during
+     * the run are left for the next one.
+     * </p>
+     *
+     * @return Number of events folded
+     */
+    public int aggregate() {
+        int total = 0;
+        int folded;
+        do {
+            folded = QuarkusTransaction.requiringNew().call(() -> {
+                ReputationFold fold = reputationEventRepository.fold(batchSize);
+                if (!fold.scores().isEmpty()) {
+                    reputationChanged.fire(new ReputationChangedEvent(fold.scores()));
+                }
+                return fold.events();
+            });
+            total += folded;
+        } while (folded == batchSize);
+        if (total > 0) {
+            LOGGER.debugf("Aggregated %d reputation events", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,288 @@
+package com.agora.domain.user.application;
+
+import com.agora.domain.user.model.User;
+import com.agora.domain.user.model.dto.LeaderboardEntry;
+import com.agora.domain.user.model.event.ReputationChangedEvent;
+import com.agora.domain.user.model.event.UserChangedEvent;
+import com.agora.domain.user.model.repository.UserRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * In-memory reputation ranking of all users.
+ * <p>
+ * Users are kept in an {@link OrderStatisticTree} ordered like the leaderboard
+ * (reputation descending, ties broken by id), so a user's rank, a page at any depth and
+ * the window around a user are each answered in O(log n) per entry without a database
+ * round trip. The ranking is seeded from {@link UserRepository} at startup and then kept
+ * current by applying every committed user write, signalled by {@link UserChangedEvent},
+ * and every committed reputation fold, signalled by {@link ReputationChangedEvent}.
+ * </p>
+ * <p>
+ * Reads share a read lock and updates take the write lock, which is held only for a
+ * removal and an insertion in the tree. Bulk updates, which bypass the entity listener,
+ * and writes or reputation folds made by another application instance fire no event
+ * here, so the ranking is also rebuilt from the user table on a fixed schedule; between
+ * reloads it lags behind such writes by up to the reload interval.
+ * </p>
+ *
+ * @author Agora Team
+ * @version 1.0
+ */
+@ApplicationScoped
+public class ReputationRanking {
+    private static final Logger LOGGER = Logger.getLogger(ReputationRanking.class);
+
+    /** Leaderboard position key: higher scores first, then lower ids. */
+    private record RankKey(int score, long userId) implements Comparable<RankKey> {
+        @Override
+        public int compareTo(RankKey other) {
+            int cmp = Integer.compare(other.score, score);
+            return cmp != 0 ? cmp : Long.compare(userId, other.userId);
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private OrderStatisticTree<RankKey> tree = new OrderStatisticTree<>();
+    private Map<Long, LeaderboardEntry> entries = new HashMap<>();
+    /** Changes made while a reload reads the user table, replayed onto its result. */
+    private List<Runnable> replay;
+    private volatile boolean loaded;
+
+    @Inject
+    public ReputationRanking(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        reload();
+    }
+
+    @Scheduled(every = "{agora.users.reputation.ranking-reload-every}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the ranking from the user table.
+     * <p>
+     * The new ranking is built aside and swapped in, so reads keep being served from the
+     * previous one meanwhile. Changes applied while the user table is read are replayed
+     * onto the new ranking before the swap.
+     * </p>
+     */
+    public synchronized void reload() {
+        OrderStatisticTree<RankKey> newTree = new OrderStatisticTree<>();
+        Map<Long, LeaderboardEntry> newEntries = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        QuarkusTransaction.requiringNew().run(() -> {
+            try (Stream<User> users = userRepository.streamAll()) {
+                users.map(UserChangedEvent::written).forEach(written -> {
+                    newEntries.put(written.userId(), written.entry());
+                    newTree.add(key(written.userId(), written.entry()));
+                });
+            }
+        });
+        lock.writeLock().lock();
+        try {
+            tree = newTree;
+            entries = newEntries;
+            replay.forEach(Runnable::run);
+            loaded = true;
+        } finally {
+            replay = null;
+            lock.writeLock().unlock();
+        }
+        LOGGER.infof("Loaded reputation ranking of %d users", newEntries.size());
+    }
+
+    void onUserChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserChangedEvent event) {
+        update(() -> {
+            // Scores only change by folding the ledger, so a profile write keeps the ranked score
+            LeaderboardEntry current = entries.get(event.userId());
+            LeaderboardEntry entry = event.entry();
+            apply(event.userId(), current != null && entry != null
+                    ? entry.withReputationScore(current.reputationScore())
+                    : entry);
+        });
+    }
+
+    void onReputationChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ReputationChangedEvent event) {
+        update(() -> event.scores().forEach((userId, score) -> {
+            LeaderboardEntry entry = entries.get(userId);
+            if (entry != null) {
+                apply(userId, entry.withReputationScore(score));
+            }
+        }));
+    }
+
+    /**
+     * @return Number of ranked users
+     */
+    public int size() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get a user's leaderboard entry with their current rank
+     *
+     * @param userId The user ID
+     * @return The ranked entry, or empty if the user is unknown
+     */
+    public Optional<LeaderboardEntry> find(Long userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entries.get(userId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            return Optional.of(entry.withRank(tree.countLess(key(userId, entry)) + 1L));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get consecutive leaderboard entries
+     *
+     * @param offset Number of ranked users to skip
+     * @param limit Maximum number of entries to return
+     * @return Entries in leaderboard order, with their ranks
+     */
+    public List<LeaderboardEntry> page(int offset, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return slice(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the leaderboard entries ranked right after a given position
+     * <p>
+     * The position need not be occupied anymore, so a cursor stays valid after the user
+     * it was taken from changes score.
+     * </p>
+     *
+     * @param afterScore Reputation score of the last entry already seen
+     * @param afterId ID of the last user already seen
+     * @param limit Maximum number of entries to return
+     * @return Entries in leaderboard order, with their ranks
+     */
+    public List<LeaderboardEntry> pageAfter(int afterScore, Long afterId, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            RankKey after = new RankKey(afterScore, afterId);
+            int offset = tree.countLess(after) + (tree.contains(after) ? 1 : 0);
+            return slice(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the leaderboard window centered on a user
+     *
+     * @param userId The user ID
+     * @param radius Number of entries to include above and below the user
+     * @return Entries in leaderboard order, with their ranks, or empty if the user is unknown
+     */
+    public Optional<List<LeaderboardEntry>> around(Long userId, int radius) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entries.get(userId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            int position = tree.countLess(key(userId, entry));
+            int from = Math.max(0, position - radius);
+            return Optional.of(slice(from, position - from + radius + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<LeaderboardEntry> slice(int offset, int limit) {
+        List<RankKey> keys = tree.range(offset, limit);
+        return IntStream.range(0, keys.size())
+                .mapToObj(i -> entries.get(keys.get(i).userId()).withRank(offset + i + 1L))
+                .toList();
+    }
+
+    /**
+     * Applies a change, and records it for replay if a reload is in progress. Before the
+     * first load, changes are dropped since the load will read them from the database.
+     */
+    private void update(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (replay != null) {
+                replay.add(change);
+            }
+            if (loaded) {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Replaces a user's entry, or removes the user if the entry is null. */
+    private void apply(Long userId, LeaderboardEntry entry) {
+        LeaderboardEntry previous = entry != null ? entries.put(userId, entry) : entries.remove(userId);
+        if (previous != null) {
+            tree.remove(key(userId, previous));
+        }
+        if (entry != null) {
+            tree.add(key(userId, entry));
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private static RankKey key(Long userId, LeaderboardEntry entry) {
+        return new RankKey(entry.reputationScore(), userId);
+    }
+}
@@ -1,7 +1,13 @@
 package com.agora.domain.user.application;
 
+import com.agora.domain.feedback.application.CategoryRegistry;
 import com.agora.domain.feedback.common.IdHelper;
-import com.agora.domain.user.model.User;
+import com.agora.domain.feedback.common.PageCursor;
+import com.agora.domain.feedback.common.TotalCount;
+import com.agora.domain.feedback.exception.CategoryNotFoundException;
+import com.agora.domain.feedback.exception.InvalidCursorException;
+import com.agora.domain.user.exception.UserNotFoundException;
+import com.agora.domain.user.model.LeaderboardWindow;
 import com.agora.domain.user.model.dto.LeaderboardEntry;
 import com.agora.domain.user.model.dto.PaginatedLeaderboardResponse;
 import com.agora.domain.user.model.repository.UserRepository;
@@ -16,44 +22,133 @@ import java.util.List;
 @ApplicationScoped
 public class UserApplicationService {
 
+    private final ReputationRanking ranking;
     private final UserRepository userRepository;
+    private final CategoryRegistry categoryRegistry;
 
     @Inject
-    public UserApplicationService(UserRepository userRepository) {
+    public UserApplicationService(ReputationRanking ranking, UserRepository userRepository,
+                                  CategoryRegistry categoryRegistry) {
+        this.ranking = ranking;
         this.userRepository = userRepository;
+        this.categoryRegistry = categoryRegistry;
     }
 
     /**
      * Get leaderboard with pagination, ranked by reputation score
+     * <p>
+     * The all-time leaderboard is served from the in-memory {@link ReputationRanking}.
+     * Rolling windows are served from their materialization, refreshed by the
+     * {@link LeaderboardWindowJob}. Either way deep pages cost the same as the first one.
+     * Window cursors hold a position, so they continue from the same position after a
+     * refresh; all-time cursors hold a score. Both are tagged with their window and only
+     * accepted for it.
+     * </p>
      *
-     * @param pageNumber The page number (1-indexed, defaults to 1)
+     * @param pageNumber The page number (1-indexed, defaults to 1); ignored when a cursor is given
+     * @param cursor Opaque cursor from a previous response's {@code next} field, or null to use the page number
      * @param pageSize The number of items per page (defaults to 10, max 100)
-     * @return Paginated leaderboard response
+     * @param window The time window to rank reputation over
+     * @return Paginated leaderboard response; page number is reported as 0 in cursor mode
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another window
      */
     @Transactional
-    public PaginatedLeaderboardResponse getLeaderboard(int pageNumber, int pageSize) {
+    public PaginatedLeaderboardResponse getLeaderboard(int pageNumber, String cursor, int pageSize,
+                                                       LeaderboardWindow window) {
         // Validate inputs
         int page = Math.max(1, pageNumber);
         int size = Math.max(1, Math.min(pageSize, 100)); // Max 100 items per page
 
-        // Get users ranked by reputation (0-indexed for Panache)
-        List<User> users = userRepository.findTopByReputation((page - 1) * size + size);
+        // Fetch one extra entry to learn whether another page follows
+        List<LeaderboardEntry> entries;
+        if (cursor != null) {
+            PageCursor after = PageCursor.decode(cursor);
+            // The key holds the window and the last position or score, which mean nothing in another window
+            String[] key = after.key().split(":", 2);
+            if (key.length != 2 || !key[0].equals(window.getValue())) {
+                throw new InvalidCursorException(cursor);
+            }
+            entries = window.isRolling()
+                    ? userRepository.findWindowPage(window.getDays(), parsePosition(key[1], cursor), size + 1)
+                    : ranking.pageAfter(parseScore(key[1], cursor), after.id(), size + 1);
+            page = 0;
+        } else {
+            int offset = (page - 1) * size;
+            entries = window.isRolling()
+                    ? userRepository.findWindowPage(window.getDays(), offset, size + 1)
+                    : ranking.page(offset, size + 1);
+        }
+        boolean hasNext = entries.size() > size;
+        List<LeaderboardEntry> pageEntries = hasNext ? entries.subList(0, size) : entries;
 
-        // Manually paginate the results
-        int startIndex = (page - 1) * size;
-        int endIndex = Math.min(startIndex + size, users.size());
-        List<User> pageUsers = users.subList(startIndex, endIndex);
+        long totalUsers = window.isRolling() ? userRepository.countWindow(window.getDays()) : ranking.size();
+        int totalPages = (int) Math.ceil((double) totalUsers / size);
 
-        // Convert to leaderboard entries
-        List<LeaderboardEntry> entries = pageUsers.stream()
-                .map(this::toLeaderboardEntry)
-                .toList();
+        String next = null;
+        if (hasNext) {
+            LeaderboardEntry last = pageEntries.getLast();
+            long key = window.isRolling() ? last.rank() : last.reputationScore();
+            next = new PageCursor(window.getValue() + ":" + key, IdHelper.toLong(last.userId())).encode();
+        }
+        return new PaginatedLeaderboardResponse(pageEntries, page, size, totalUsers, totalPages, false, next);
+    }
 
-        // Get total count
-        long totalUsers = userRepository.count();
-        int totalPages = (int) Math.ceil((double) totalUsers / size);
+    /**
+     * Get the leaderboard of a feedback category with pagination, ranked by the reputation
+     * earned on feedback in the category
+     * <p>
+     * Served from the per-category contribution aggregate kept up to date by the
+     * {@link ReputationAggregationJob}, through its (category, score) index. Cursor pages
+     * seek into the index and cost O(page size) at any depth; page numbers skip rows, so
+     * deep numbered pages cost more. The total stops counting at
+     * {@link TotalCount#EXACT_COUNT_THRESHOLD} contributors and is then flagged approximate.
+     * </p>
+     *
+     * @param categoryId The category ID
+     * @param pageNumber The page number (1-indexed, defaults to 1); ignored when a cursor is given
+     * @param cursor Opaque cursor from a previous response's {@code next} field, or null to use the page number
+     * @param pageSize The number of items per page (defaults to 10, max 100)
+     * @return Paginated leaderboard response; page number is reported as 0 in cursor mode
+     * @throws CategoryNotFoundException if the category does not exist
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another category
+     */
+    @Transactional
+    public PaginatedLeaderboardResponse getCategoryLeaderboard(Long categoryId, int pageNumber, String cursor,
+                                                               int pageSize) {
+        if (!categoryRegistry.contains(categoryId)) {
+            throw new CategoryNotFoundException(categoryId);
+        }
+        int page = Math.max(1, pageNumber);
+        int size = Math.max(1, Math.min(pageSize, 100)); // Max 100 items per page
+
+        // Fetch one extra entry to learn whether another page follows
+        List<LeaderboardEntry> entries;
+        if (cursor != null) {
+            PageCursor after = PageCursor.decode(cursor);
+            // The key holds the category and the last score and rank, so ranks continue from the previous page
+            String[] key = after.key().split(":", 3);
+            if (key.length != 3 || !key[0].equals(IdHelper.toString(categoryId))) {
+                throw new InvalidCursorException(cursor);
+            }
+            entries = userRepository.findCategoryPageAfter(categoryId, parseScore(key[1], cursor), after.id(),
+                    parsePosition(key[2], cursor), size + 1);
+            page = 0;
+        } else {
+            entries = userRepository.findCategoryPage(categoryId, (page - 1) * size, size + 1);
+        }
+        boolean hasNext = entries.size() > size;
+        List<LeaderboardEntry> pageEntries = hasNext ? entries.subList(0, size) : entries;
+
+        TotalCount total = TotalCount.bounded(false, limit -> userRepository.countCategory(categoryId, limit));
 
-        return new PaginatedLeaderboardResponse(entries, page, size, totalUsers, totalPages);
+        String next = null;
+        if (hasNext) {
+            LeaderboardEntry last = pageEntries.getLast();
+            next = new PageCursor(IdHelper.toString(categoryId) + ":" + last.reputationScore() + ":" + last.rank(),
+                    IdHelper.toLong(last.userId())).encode();
+        }
+        return new PaginatedLeaderboardResponse(pageEntries, page, size, total.value(), total.pages(size),
+                total.approximate(), next);
     }
 
     /**
@@ -62,25 +157,48 @@ public class UserApplicationService {
      * @param limit Maximum number of users to return (default 10, max 100)
      * @return List of top users
      */
-    @Transactional
     public List<LeaderboardEntry> getTopUsers(int limit) {
         int maxLimit = Math.max(1, Math.min(limit, 100)); // Cap at 100
-        List<User> topUsers = userRepository.findTopByReputation(maxLimit);
-        return topUsers.stream()
-                .map(this::toLeaderboardEntry)
-                .toList();
+        return ranking.page(0, maxLimit);
     }
 
     /**
-     * Convert User to LeaderboardEntry
+     * Get a user's leaderboard entry with their current rank
+     *
+     * @param userId The user ID
+     * @return The ranked entry
+     * @throws UserNotFoundException if the user does not exist
      */
-    private LeaderboardEntry toLeaderboardEntry(User user) {
-        return new LeaderboardEntry(
-                IdHelper.toString(user.getId()),
-                user.username,
-                user.name,
-                user.reputationScore,
-                user.avatarUrl
-        );
+    public LeaderboardEntry getRank(Long userId) {
+        return ranking.find(userId).orElseThrow(() -> new UserNotFoundException(userId));
+    }
+
+    /**
+     * Get the leaderboard neighborhood of a user
+     *
+     * @param userId The user ID
+     * @param radius Number of users to include above and below (max 50)
+     * @return Entries ranked around the user, the user included
+     * @throws UserNotFoundException if the user does not exist
+     */
+    public List<LeaderboardEntry> getNeighborhood(Long userId, int radius) {
+        int maxRadius = Math.max(0, Math.min(radius, 50)); // Cap at 50 on each side
+        return ranking.around(userId, maxRadius).orElseThrow(() -> new UserNotFoundException(userId));
+    }
+
+    private static long parsePosition(String key, String token) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    private static int parseScore(String key, String token) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(token);
+        }
     }
 }
@@ -0,0 +1,61 @@
+package com.agora.domain.user.model;
+
+/**
+ * Enumeration of the time windows a leaderboard can rank reputation over.
+ * <p>
+ * - ALL_TIME: total reputation score (default)
+ * - WEEK: reputation earned in the last 7 days
+ * - MONTH: reputation earned in the last 30 days
+ * </p>
+ * Rolling windows must match the windows materialized in {@code reputation_window}.
+ */
+public enum LeaderboardWindow {
+    ALL_TIME("all", 0),
+    WEEK("7d", 7),
+    MONTH("30d", 30);
+
+    /** Number of days of daily buckets the rolling windows read. */
+    public static final int LONGEST_DAYS = 30;
+
+    private final String value;
+    private final int days;
+
+    LeaderboardWindow(String value, int days) {
+        this.value = value;
+        this.days = days;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return Length of the rolling window in days, or 0 for all time
+     */
+    public int getDays() {
+        return days;
+    }
+
+    public boolean isRolling() {
+        return days > 0;
+    }
+
+    /**
+     * Parse a string value to LeaderboardWindow enum
+     *
+     * @param value the string value (case-insensitive)
+     * @return the corresponding LeaderboardWindow, or ALL_TIME if the value is missing
+     * @throws IllegalArgumentException if the value is not a known window
+     */
+    public static LeaderboardWindow fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL_TIME;
+        }
+        return switch (value.toLowerCase()) {
+            case "all" -> ALL_TIME;
+            case "7d" -> WEEK;
+            case "30d" -> MONTH;
+            default -> throw new IllegalArgumentException("Invalid leaderboard window: " + value);
+        };
+    }
+}
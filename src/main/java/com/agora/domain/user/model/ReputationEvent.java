@@ -0,0 +1,80 @@
+package com.agora.domain.user.model;
+
+import com.agora.domain.feedback.common.IdHelper;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Entry of the append-only reputation ledger.
+ * <p>
+ * Holds the change a single activity makes to a user's reputation. Events are written
+ * with the activity and folded into {@link User#reputationScore} later by the
+ * aggregation job, which marks them aggregated in the database; they are read-only here.
+ * </p>
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "reputation_event")
+public class ReputationEvent extends PanacheEntityBase {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private ReputationEventType type;
+
+    @Column(name = "delta", nullable = false)
+    private int delta;
+
+    @Column(name = "feedback_id")
+    private Long feedbackId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "aggregated", nullable = false)
+    private boolean aggregated;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    protected ReputationEvent() {
+    }
+
+    /**
+     * Creates an event.
+     *
+     * @param userId The user whose reputation changes
+     * @param type The kind of activity
+     * @param delta The change to the user's reputation
+     * @param feedbackId The feedback the activity concerns, or null
+     * @param commentId The comment the activity concerns, or null
+     * @param actorId The user who performed the activity, or null if unknown
+     */
+    public ReputationEvent(Long userId, ReputationEventType type, int delta, Long feedbackId, Long commentId,
+                           Long actorId) {
+        this.userId = userId;
+        this.type = type;
+        this.delta = delta;
+        this.feedbackId = feedbackId;
+        this.commentId = commentId;
+        this.actorId = actorId;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.id = IdHelper.generateId();
+        this.createdAt = OffsetDateTime.now();
+    }
+}
@@ -0,0 +1,18 @@
+package com.agora.domain.user.model;
+
+/**
+ * Kinds of activity recorded in the reputation ledger.
+ * <p>
+ * - FEEDBACK_VOTE: A vote on the user's feedback was cast, changed or removed
+ * - COMMENT_VOTE: A vote on the user's comment was cast or removed; no longer appended, since
+ *   comment votes are not recorded per voter, but kept for events already in the ledger
+ * - COMMENT_POSTED: The user posted a comment or reply
+ * - FEEDBACK_STATUS: The status of the user's feedback changed
+ * </p>
+ */
+public enum ReputationEventType {
+    FEEDBACK_VOTE,
+    COMMENT_VOTE,
+    COMMENT_POSTED,
+    FEEDBACK_STATUS
+}
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @Table(name = "\"user\"")
+@EntityListeners(UserListener.class)
 public class User extends PanacheEntityBase {
     @Id
     private Long id;
@@ -25,7 +26,8 @@ public class User extends PanacheEntityBase {
     @Column(unique = true, nullable = false)
     public String email;
 
-    @Column(name = "reputation_score", nullable = false)
+    /** Written only by folding the reputation ledger; entity updates leave it untouched. */
+    @Column(name = "reputation_score", nullable = false, updatable = false)
     public Integer reputationScore = 0;
 
     // Discord-specific fields
@@ -0,0 +1,24 @@
+package com.agora.domain.user.model;
+
+import com.agora.domain.user.model.event.UserChangedEvent;
+import io.quarkus.arc.Arc;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that publishes a {@link UserChangedEvent} on every user write.
+ */
+public class UserListener {
+
+    @PostPersist
+    @PostUpdate
+    void onUserWritten(User user) {
+        Arc.container().beanManager().getEvent().fire(UserChangedEvent.written(user));
+    }
+
+    @PostRemove
+    void onUserRemoved(User user) {
+        Arc.container().beanManager().getEvent().fire(UserChangedEvent.removed(user));
+    }
+}
@@ -4,10 +4,26 @@ package com.agora.domain.user.model.dto;
  * Leaderboard entry for user ranking
  */
 public record LeaderboardEntry(
+        long rank,
         String userId,
         String username,
         String displayName,
         Integer reputationScore,
         String avatarUrl
 ) {
+    /**
+     * @param rank 1-based leaderboard position
+     * @return A copy of this entry at the given position
+     */
+    public LeaderboardEntry withRank(long rank) {
+        return new LeaderboardEntry(rank, userId, username, displayName, reputationScore, avatarUrl);
+    }
+
+    /**
+     * @param reputationScore New reputation score
+     * @return A copy of this entry with the given score
+     */
+    public LeaderboardEntry withReputationScore(int reputationScore) {
+        return new LeaderboardEntry(rank, userId, username, displayName, reputationScore, avatarUrl);
+    }
 }
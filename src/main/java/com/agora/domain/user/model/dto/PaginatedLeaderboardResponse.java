@@ -1,5 +1,7 @@
 package com.agora.domain.user.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
@@ -10,6 +12,9 @@ public record PaginatedLeaderboardResponse(
         int currentPage,
         int pageSize,
         long totalUsers,
-        int totalPages
+        int totalPages,
+        boolean approximate,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String next
 ) {
 }
@@ -0,0 +1,12 @@
+package com.agora.domain.user.model.dto;
+
+import java.util.Map;
+
+/**
+ * Result of folding one batch of reputation events into user scores
+ *
+ * @param events Number of events folded
+ * @param scores New reputation score of every user whose score changed, by user ID
+ */
+public record ReputationFold(int events, Map<Long, Integer> scores) {
+}
@@ -0,0 +1,16 @@
+package com.agora.domain.user.model.event;
+
+import java.util.Map;
+
+/**
+ * CDI event fired when reputation events are folded into user scores.
+ * <p>
+ * The scores are written by a bulk update that bypasses the entity listener, so
+ * observers that cache user data apply them from this event once the folding
+ * transaction has committed.
+ * </p>
+ *
+ * @param scores New reputation score of every user whose score changed, by user ID
+ */
+public record ReputationChangedEvent(Map<Long, Integer> scores) {
+}
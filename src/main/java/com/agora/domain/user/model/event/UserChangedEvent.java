@@ -0,0 +1,33 @@
+package com.agora.domain.user.model.event;
+
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.user.model.User;
+import com.agora.domain.user.model.dto.LeaderboardEntry;
+
+/**
+ * CDI event fired whenever a user is created, changed or removed.
+ * <p>
+ * Carries the user's leaderboard entry as written, so observers that cache user data
+ * can apply it once the writing transaction has committed.
+ * </p>
+ *
+ * @param userId The user ID
+ * @param entry The unranked leaderboard entry as written, or null if the user was removed
+ */
+public record UserChangedEvent(Long userId, LeaderboardEntry entry) {
+
+    public static UserChangedEvent written(User user) {
+        return new UserChangedEvent(user.getId(), new LeaderboardEntry(
+                0,
+                IdHelper.toString(user.getId()),
+                user.username,
+                user.name,
+                user.reputationScore != null ? user.reputationScore : 0,
+                user.avatarUrl
+        ));
+    }
+
+    public static UserChangedEvent removed(User user) {
+        return new UserChangedEvent(user.getId(), null);
+    }
+}
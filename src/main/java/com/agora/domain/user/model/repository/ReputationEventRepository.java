@@ -0,0 +1,121 @@
+package com.agora.domain.user.model.repository;
+
+import com.agora.domain.user.model.ReputationEvent;
+import com.agora.domain.user.model.ReputationEventType;
+import com.agora.domain.user.model.dto.ReputationFold;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+public class ReputationEventRepository implements PanacheRepository<ReputationEvent> {
+
+    /**
+     * Appends an event to the reputation ledger.
+     * Nothing is written for a user-less activity or a zero change.
+     * @param userId The user whose reputation changes, or null
+     * @param type The kind of activity
+     * @param delta The change to the user's reputation
+     * @param feedbackId The feedback the activity concerns, or null
+     * @param commentId The comment the activity concerns, or null
+     * @param actorId The user who performed the activity, or null if unknown
+     */
+    public void record(Long userId, ReputationEventType type, int delta, Long feedbackId, Long commentId,
+                       Long actorId) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        persist(new ReputationEvent(userId, type, delta, feedbackId, commentId, actorId));
+    }
+
+    /**
+     * Folds a batch of pending events into the reputation scores of their users.
+     * Claims the oldest pending events, skipping any locked by a concurrent fold, sums
+     * them per user and adds each sum with one UPDATE per user, all in a single
+     * statement. The same statement adds the events to the daily buckets of their users
+     * and, for events about a feedback item, to their user's score in the item's category.
+     * The events are marked aggregated rather than deleted.
+     * @param batchSize Maximum number of events to fold
+     * @return Number of events folded and the new scores of the users that changed
+     */
+    @SuppressWarnings("unchecked")
+    public ReputationFold fold(int batchSize) {
+        // Left join from a single row, so the event count comes back even when no score changed
+        List<Object[]> rows = getEntityManager().createNativeQuery("""
+                        WITH batch AS (
+                            UPDATE reputation_event
+                            SET aggregated = true
+                            WHERE id IN (
+                                SELECT id FROM reputation_event
+                                WHERE NOT aggregated
+                                ORDER BY id
+                                LIMIT :batchSize
+                                FOR UPDATE SKIP LOCKED
+                            )
+                            RETURNING user_id, delta, created_at, feedback_id
+                        ), daily AS (
+                            INSERT INTO reputation_daily (user_id, day, score)
+                            SELECT user_id, (created_at AT TIME ZONE 'UTC')::date, sum(delta)
+                            FROM batch
+                            GROUP BY user_id, (created_at AT TIME ZONE 'UTC')::date
+                            ON CONFLICT (user_id, day) DO UPDATE
+                            SET score = reputation_daily.score + EXCLUDED.score
+                        ), by_category AS (
+                            INSERT INTO category_reputation (category_id, user_id, score)
+                            SELECT f.category_id, batch.user_id, sum(batch.delta)
+                            FROM batch
+                            JOIN feedback f ON f.id = batch.feedback_id
+                            WHERE f.category_id IS NOT NULL
+                            GROUP BY f.category_id, batch.user_id
+                            ON CONFLICT (category_id, user_id) DO UPDATE
+                            SET score = category_reputation.score + EXCLUDED.score
+                        ), totals AS (
+                            SELECT user_id, sum(delta) AS delta
+                            FROM batch
+                            GROUP BY user_id
+                            HAVING sum(delta) <> 0
+                        ), updated AS (
+                            UPDATE "user" u
+                            SET reputation_score = u.reputation_score + totals.delta,
+                                updated_at = now()
+                            FROM totals
+                            WHERE u.id = totals.user_id
+                            RETURNING u.id, u.reputation_score
+                        )
+                        SELECT (SELECT count(*) FROM batch), updated.id, updated.reputation_score
+                        FROM (SELECT 1) AS one
+                        LEFT JOIN updated ON true
+                        """)
+                .setParameter("batchSize", batchSize)
+                .getResultList();
+
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                scores.put(((Number) row[1]).longValue(), ((Number) row[2]).intValue());
+            }
+        }
+        return new ReputationFold(((Number) rows.getFirst()[0]).intValue(), scores);
+    }
+
+    /**
+     * Recomputes the rolling-window leaderboards from the daily buckets.
+     * The materialized view is refreshed concurrently, so window pages keep being served
+     * from the previous totals meanwhile. Buckets older than the longest window are
+     * dropped first, since no window reads them anymore.
+     * @param retentionDays Number of most recent days whose buckets are kept
+     */
+    public void refreshWindows(int retentionDays) {
+        getEntityManager().createNativeQuery("""
+                        DELETE FROM reputation_daily
+                        WHERE day <= (now() AT TIME ZONE 'UTC')::date - :retentionDays
+                        """)
+                .setParameter("retentionDays", retentionDays)
+                .executeUpdate();
+        getEntityManager().createNativeQuery("REFRESH MATERIALIZED VIEW CONCURRENTLY reputation_window")
+                .executeUpdate();
+    }
+}
@@ -1,37 +1,156 @@
 package com.agora.domain.user.model.repository;
 
+import com.agora.domain.feedback.common.IdHelper;
 import com.agora.domain.user.model.User;
+import com.agora.domain.user.model.dto.LeaderboardEntry;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
-import io.quarkus.panache.common.Page;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Query;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @ApplicationScoped
 public class UserRepository implements PanacheRepository<User> {
+    private static final String CATEGORY_SELECT = """
+            SELECT c.user_id, u.username, u.name, c.score, u.avatar_url
+            FROM category_reputation c
+            JOIN "user" u ON u.id = c.user_id
+            """;
+
     public User findByDiscordId(Long discordId) {
         return find("discordId", discordId).firstResult();
     }
 
     /**
-     * Get users ranked by reputation score (descending)
-     * @param page The page number (0-indexed)
-     * @param pageSize The number of items per page
-     * @return List of users ordered by reputation score
+     * Get consecutive entries of a rolling-window leaderboard, ranked by the reputation
+     * earned in the window. Positions are fixed when the window is materialized, so the
+     * page is read from the (window_days, position) index at the same cost at any depth.
+     * @param windowDays Length of the window in days
+     * @param afterPosition Position of the last entry already seen, or 0 for the first page
+     * @param limit Maximum number of entries to return
+     * @return Entries in leaderboard order, ranked by their window position
+     */
+    @SuppressWarnings("unchecked")
+    public List<LeaderboardEntry> findWindowPage(int windowDays, long afterPosition, int limit) {
+        List<Object[]> rows = getEntityManager().createNativeQuery("""
+                        SELECT w.position, u.id, u.username, u.name, w.score, u.avatar_url
+                        FROM reputation_window w
+                        JOIN "user" u ON u.id = w.user_id
+                        WHERE w.window_days = :windowDays AND w.position > :afterPosition
+                        ORDER BY w.position
+                        LIMIT :limit
+                        """)
+                .setParameter("windowDays", windowDays)
+                .setParameter("afterPosition", afterPosition)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new LeaderboardEntry(
+                        ((Number) row[0]).longValue(),
+                        IdHelper.toString(((Number) row[1]).longValue()),
+                        (String) row[2],
+                        (String) row[3],
+                        ((Number) row[4]).intValue(),
+                        (String) row[5]))
+                .toList();
+    }
+
+    /**
+     * Get the number of users ranked in a rolling-window leaderboard, read from the last
+     * position of the window's index.
+     * @param windowDays Length of the window in days
+     * @return Number of users with reputation earned in the window
      */
-    public List<User> findLeaderboard(int page, int pageSize) {
-        return findAll()
-                .page(Page.of(page, pageSize))
-                .list();
+    public long countWindow(int windowDays) {
+        Number count = (Number) getEntityManager().createNativeQuery("""
+                        SELECT coalesce(max(position), 0) FROM reputation_window WHERE window_days = :windowDays
+                        """)
+                .setParameter("windowDays", windowDays)
+                .getSingleResult();
+        return count.longValue();
     }
 
     /**
-     * Get top N users by reputation score
-     * @param limit Maximum number of users to return
-     * @return List of top users by reputation
+     * Get a page of a category leaderboard, ranked by the reputation earned in the
+     * category and ties broken by user id. Offset and limit are applied while walking
+     * the category's ranking index.
+     * @param categoryId The category ID
+     * @param offset Number of ranked users to skip
+     * @param limit Maximum number of entries to return
+     * @return Entries in leaderboard order, ranked from {@code offset + 1}
      */
-    public List<User> findTopByReputation(int limit) {
-        return find("ORDER BY reputationScore DESC")
-                .page(Page.of(0, limit))
-                .list();
+    @SuppressWarnings("unchecked")
+    public List<LeaderboardEntry> findCategoryPage(Long categoryId, int offset, int limit) {
+        List<Object[]> rows = getEntityManager().createNativeQuery(CATEGORY_SELECT + """
+                        WHERE c.category_id = :categoryId
+                        ORDER BY c.score DESC, c.user_id
+                        OFFSET :offset
+                        LIMIT :limit
+                        """)
+                .setParameter("categoryId", categoryId)
+                .setParameter("offset", offset)
+                .setParameter("limit", limit)
+                .getResultList();
+        return toCategoryEntries(rows, offset);
+    }
+
+    /**
+     * Get the category leaderboard entries ranked right after a given position.
+     * Seeks into the category's ranking index at the position instead of skipping rows,
+     * so every page costs the same regardless of its depth.
+     * @param categoryId The category ID
+     * @param afterScore Category score of the last entry already seen
+     * @param afterId ID of the last user already seen
+     * @param afterRank Rank of the last entry already seen
+     * @param limit Maximum number of entries to return
+     * @return Entries in leaderboard order, ranked from {@code afterRank + 1}
+     */
+    @SuppressWarnings("unchecked")
+    public List<LeaderboardEntry> findCategoryPageAfter(Long categoryId, int afterScore, Long afterId, long afterRank,
+                                                        int limit) {
+        List<Object[]> rows = getEntityManager().createNativeQuery(CATEGORY_SELECT + """
+                        WHERE c.category_id = :categoryId
+                          AND c.score <= :score AND (c.score < :score OR c.user_id > :id)
+                        ORDER BY c.score DESC, c.user_id
+                        LIMIT :limit
+                        """)
+                .setParameter("categoryId", categoryId)
+                .setParameter("score", afterScore)
+                .setParameter("id", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+        return toCategoryEntries(rows, afterRank);
+    }
+
+    /**
+     * Count the contributors to a category, stopping at a limit
+     * @param categoryId The category ID
+     * @param limit Maximum number to count (0 for no limit)
+     * @return Number of users with reputation in the category, capped at {@code limit}
+     */
+    public long countCategory(Long categoryId, long limit) {
+        Query query = getEntityManager().createNativeQuery(
+                "SELECT count(*) FROM (SELECT 1 FROM category_reputation WHERE category_id = :categoryId"
+                        + (limit > 0 ? " LIMIT :limit" : "") + ") m")
+                .setParameter("categoryId", categoryId);
+        if (limit > 0) {
+            query.setParameter("limit", limit);
+        }
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static List<LeaderboardEntry> toCategoryEntries(List<Object[]> rows, long firstRank) {
+        return IntStream.range(0, rows.size())
+                .mapToObj(i -> {
+                    Object[] row = rows.get(i);
+                    return new LeaderboardEntry(
+                            firstRank + i + 1,
+                            IdHelper.toString(((Number) row[0]).longValue()),
+                            (String) row[1],
+                            (String) row[2],
+                            ((Number) row[3]).intValue(),
+                            (String) row[4]);
+                })
+                .toList();
     }
 }
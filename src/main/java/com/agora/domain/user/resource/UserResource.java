@@ -1,6 +1,8 @@
 package com.agora.domain.user.resource;
 
+import com.agora.domain.feedback.common.IdHelper;
 import com.agora.domain.user.application.UserApplicationService;
+import com.agora.domain.user.model.LeaderboardWindow;
 import com.agora.domain.user.model.dto.LeaderboardEntry;
 import com.agora.domain.user.model.dto.PaginatedLeaderboardResponse;
 import jakarta.inject.Inject;
@@ -42,7 +44,10 @@ public class UserResource {
     @Path("/leaderboard")
     @Operation(
             summary = "Get user leaderboard",
-            description = "Retrieve paginated leaderboard with users ranked by reputation score"
+            description = "Retrieve paginated leaderboard with users ranked by reputation score, either all-time or " +
+                    "earned in a rolling 7- or 30-day window, or earned on feedback in one category. " +
+                    "Window and category leaderboards are refreshed periodically. " +
+                    "Pass the 'next' cursor of a response to fetch the following page at constant cost."
     )
     @APIResponses({
             @APIResponse(
@@ -52,19 +57,52 @@ public class UserResource {
                             mediaType = MediaType.APPLICATION_JSON,
                             schema = @Schema(implementation = PaginatedLeaderboardResponse.class)
                     )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or window, or a window combined with a category"
+            ),
+            @APIResponse(
+                    responseCode = "404",
+                    description = "Category not found"
             )
     })
     public Response getLeaderboard(
             @Parameter(description = "Page number (1-indexed, default 1)", example = "1")
             @QueryParam("page") Integer page,
             @Parameter(description = "Page size (default 10, max 100)", example = "10")
-            @QueryParam("pageSize") Integer size) {
+            @QueryParam("pageSize") Integer size,
+            @Parameter(description = "Opaque cursor from a previous response's 'next' field; when set, 'page' is ignored")
+            @QueryParam("cursor") String cursor,
+            @Parameter(description = "Time window to rank reputation over: 'all' (default), '7d' or '30d'", example = "7d")
+            @QueryParam("window") String window,
+            @Parameter(description = "Rank by reputation earned on feedback in this category; all-time only", example = "117457749108987394")
+            @QueryParam("categoryId") Long categoryId) {
         LOGGER.info("Retrieving leaderboard with pagination");
 
         int pageNum = page != null ? page : 1;
         int pageSize = size != null ? Math.min(size, 100) : 10;
 
-        PaginatedLeaderboardResponse response = userApplicationService.getLeaderboard(pageNum, pageSize);
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+
+        LeaderboardWindow leaderboardWindow;
+        try {
+            leaderboardWindow = LeaderboardWindow.fromString(window);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        PaginatedLeaderboardResponse response;
+        if (categoryId != null) {
+            if (leaderboardWindow.isRolling()) {
+                throw new BadRequestException("Category leaderboards are only available all-time");
+            }
+            response = userApplicationService.getCategoryLeaderboard(categoryId, pageNum, hasCursor ? cursor : null,
+                    pageSize);
+        } else {
+            response = userApplicationService.getLeaderboard(pageNum, hasCursor ? cursor : null, pageSize,
+                    leaderboardWindow);
+        }
         return Response.ok(response).build();
     }
 
@@ -96,4 +134,71 @@ public class UserResource {
         List<LeaderboardEntry> topUsers = userApplicationService.getTopUsers(maxLimit);
         return Response.ok(topUsers).build();
     }
+
+    /**
+     * Get a user's leaderboard rank
+     */
+    @GET
+    @Path("/{id}/rank")
+    @Operation(
+            summary = "Get user rank",
+            description = "Retrieve a user's leaderboard entry with their current rank"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Ranked leaderboard entry",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = LeaderboardEntry.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "404",
+                    description = "User not found"
+            )
+    })
+    public Response getRank(
+            @Parameter(description = "User ID", required = true)
+            @PathParam("id") String id) {
+        LOGGER.info("Retrieving user rank");
+
+        LeaderboardEntry entry = userApplicationService.getRank(IdHelper.toLong(id));
+        return Response.ok(entry).build();
+    }
+
+    /**
+     * Get the leaderboard window around a user
+     */
+    @GET
+    @Path("/{id}/rank/neighborhood")
+    @Operation(
+            summary = "Get user leaderboard neighborhood",
+            description = "Retrieve the users ranked directly above and below a user, the user included"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Leaderboard entries around the user",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = LeaderboardEntry.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "404",
+                    description = "User not found"
+            )
+    })
+    public Response getNeighborhood(
+            @Parameter(description = "User ID", required = true)
+            @PathParam("id") String id,
+            @Parameter(description = "Number of users above and below (default 5, max 50)", example = "5")
+            @QueryParam("radius") Integer radius) {
+        LOGGER.info("Retrieving user leaderboard neighborhood");
+
+        List<LeaderboardEntry> entries = userApplicationService.getNeighborhood(IdHelper.toLong(id),
+                radius != null ? radius : 5);
+        return Response.ok(entries).build();
+    }
 }
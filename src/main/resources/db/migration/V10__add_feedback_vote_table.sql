@@ -0,0 +1,22 @@
+-- Per-user vote ledger for feedback.
+--
+-- One row per (feedback, user) holding the user's current direction: 1 for up, -1 for
+-- down, 0 once the vote was removed. Votes are recorded with a single upsert that also
+-- keeps the previous direction, so the denormalized upvotes/downvotes counters on
+-- feedback can be moved by the exact delta in the same statement, and repeating a vote
+-- is a no-op.
+CREATE TABLE feedback_vote (
+    feedback_id BIGINT NOT NULL REFERENCES feedback(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES "user"(id) ON DELETE CASCADE,
+    direction SMALLINT NOT NULL,
+    previous_direction SMALLINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (feedback_id, user_id),
+    CONSTRAINT chk_feedback_vote_direction CHECK (direction BETWEEN -1 AND 1),
+    CONSTRAINT chk_feedback_vote_previous_direction CHECK (previous_direction BETWEEN -1 AND 1)
+);
+
+-- Supports the user foreign key (cascading user deletes) and per-user vote lookups
+CREATE INDEX idx_feedback_vote_user_id ON feedback_vote(user_id);
@@ -0,0 +1,15 @@
+-- Sharded vote counters for hot feedback items.
+--
+-- In the sharded counter mode a vote adds its counter delta to one of N slot rows of the
+-- item, picked at random, instead of updating the feedback row itself, so concurrent
+-- votes on one item contend on N rows rather than one. A background rollup job folds the
+-- slots into feedback.upvotes/downvotes and deletes them, so the feedback columns act as
+-- the periodically refreshed rollup and the slots only hold deltas since the last run.
+CREATE TABLE feedback_counter_shard (
+    feedback_id BIGINT NOT NULL REFERENCES feedback(id) ON DELETE CASCADE,
+    slot SMALLINT NOT NULL,
+    upvotes INT NOT NULL DEFAULT 0,
+    downvotes INT NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (feedback_id, slot)
+);
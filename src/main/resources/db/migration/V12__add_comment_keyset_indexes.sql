@@ -0,0 +1,12 @@
+-- Composite indexes backing keyset pagination of a feedback item's comments.
+-- Each keeps one sort order within a feedback item, so a page of comments is a single
+-- index range scan that stops after LIMIT rows, however long the thread is.
+
+-- sortBy=oldest (conversation order)
+CREATE INDEX idx_comment_feedback_created_at_id ON comment(feedback_id, created_at, id);
+
+-- sortBy=top
+CREATE INDEX idx_comment_feedback_upvotes_id ON comment(feedback_id, upvotes DESC, id DESC);
+
+-- Superseded by the composite indexes above, which share its leading column
+DROP INDEX idx_comment_feedback_id;
@@ -0,0 +1,25 @@
+-- Threaded replies stored as a materialized path.
+-- Every comment's path is the chain of its ancestors' ids and its own id, each zero-padded to
+-- 19 digits and joined with '.'. Ids grow with creation time, so ordering by path lists a
+-- thread depth-first with siblings oldest first, and a subtree is the contiguous path range
+-- [path || '.', path || '/'). The "C" collation makes that a plain byte-wise comparison, so
+-- both a whole thread and any subtree are a single range scan of one index.
+ALTER TABLE comment
+    ADD COLUMN parent_id bigint REFERENCES comment(id) ON DELETE CASCADE,
+    ADD COLUMN path text COLLATE "C",
+    ADD COLUMN depth int NOT NULL DEFAULT 0,
+    ADD COLUMN replies int NOT NULL DEFAULT 0;
+
+-- Existing comments are all top-level
+UPDATE comment SET path = lpad(id::text, 19, '0');
+
+ALTER TABLE comment
+    ALTER COLUMN path SET NOT NULL,
+    ADD CONSTRAINT chk_comment_depth CHECK (depth >= 0),
+    ADD CONSTRAINT chk_comment_replies CHECK (replies >= 0);
+
+-- sortBy=thread and subtree loading
+CREATE INDEX idx_comment_feedback_path ON comment(feedback_id, path);
+
+-- Cascading deletes of a parent's replies
+CREATE INDEX idx_comment_parent_id ON comment(parent_id);
@@ -0,0 +1,4 @@
+-- Composite index backing the leaderboard keyset (reputation_score DESC, id).
+-- A leaderboard page is a single index range scan that starts at the cursor row and stops
+-- after LIMIT rows, so deep pages cost the same as the first one.
+CREATE INDEX idx_user_reputation_score_id ON "user"(reputation_score DESC, id);
@@ -0,0 +1,27 @@
+-- Append-only reputation ledger.
+--
+-- Votes, comments and feedback status changes append one row per affected user in the
+-- same transaction, holding the change to that user's reputation. They never touch the
+-- user row itself, so a burst of activity on one author's content does not contend on
+-- that row. An aggregation job folds pending events into user.reputation_score in
+-- set-based batches, one UPDATE per user per batch, and marks them aggregated; event
+-- rows are otherwise never changed.
+CREATE TABLE reputation_event (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES "user"(id) ON DELETE CASCADE,
+    type VARCHAR(32) NOT NULL,
+    delta INT NOT NULL,
+    -- Source of the event; not foreign keys, so the ledger outlives deleted content
+    feedback_id BIGINT,
+    comment_id BIGINT,
+    actor_id BIGINT,
+    aggregated BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT chk_reputation_event_delta CHECK (delta <> 0)
+);
+
+-- Pending events in ledger order; aggregated events drop out of the index
+CREATE INDEX idx_reputation_event_pending ON reputation_event(id) WHERE NOT aggregated;
+-- Supports the user foreign key (cascading user deletes) and per-user history lookups
+CREATE INDEX idx_reputation_event_user_id ON reputation_event(user_id, id);
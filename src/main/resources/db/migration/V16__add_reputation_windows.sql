@@ -0,0 +1,42 @@
+-- Per-user daily reputation buckets and the rolling-window leaderboards built from them.
+--
+-- Folding the reputation ledger also adds each batch's events to the bucket of their
+-- user and UTC day, so a window total is a sum over at most one row per user and day
+-- instead of a scan of the raw events.
+CREATE TABLE reputation_daily (
+    user_id BIGINT NOT NULL REFERENCES "user"(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    score INT NOT NULL,
+
+    PRIMARY KEY (user_id, day)
+);
+
+-- Window sums read the buckets of the last days across all users
+CREATE INDEX idx_reputation_daily_day ON reputation_daily(day);
+
+-- Backfill from the events folded so far
+INSERT INTO reputation_daily (user_id, day, score)
+SELECT user_id, (created_at AT TIME ZONE 'UTC')::date, sum(delta)
+FROM reputation_event
+WHERE aggregated
+GROUP BY user_id, (created_at AT TIME ZONE 'UTC')::date;
+
+-- Rolling 7- and 30-day totals of every user with activity in the window, ranked.
+-- The position is fixed at refresh time, so a page is an index range scan over
+-- consecutive positions at any depth. Refreshed concurrently on a schedule, so reads
+-- are never blocked.
+CREATE MATERIALIZED VIEW reputation_window AS
+SELECT window_days, user_id, score,
+       row_number() OVER (PARTITION BY window_days ORDER BY score DESC, user_id) AS position
+FROM (
+    SELECT w.days AS window_days, d.user_id, sum(d.score)::int AS score
+    FROM (VALUES (7), (30)) AS w(days)
+    JOIN reputation_daily d ON d.day > (now() AT TIME ZONE 'UTC')::date - w.days
+    GROUP BY w.days, d.user_id
+    HAVING sum(d.score) <> 0
+) totals;
+
+-- Required for concurrent refreshes
+CREATE UNIQUE INDEX idx_reputation_window_user ON reputation_window(window_days, user_id);
+-- Backs window pages
+CREATE UNIQUE INDEX idx_reputation_window_position ON reputation_window(window_days, position);
@@ -0,0 +1,26 @@
+-- Per-category reputation of every contributor.
+--
+-- Folding the reputation ledger also adds each event that concerns a feedback item to
+-- the (category, user) row of the item's category at that time, so a category
+-- leaderboard page is a range scan of this table's ranking index instead of a
+-- GROUP BY over every feedback item and vote in the category.
+CREATE TABLE category_reputation (
+    category_id BIGINT NOT NULL REFERENCES category(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES "user"(id) ON DELETE CASCADE,
+    score INT NOT NULL,
+
+    PRIMARY KEY (category_id, user_id)
+);
+
+-- Backs category leaderboard pages and their keyset (score DESC, user_id)
+CREATE INDEX idx_category_reputation_rank ON category_reputation(category_id, score DESC, user_id);
+-- Supports the user foreign key (cascading user deletes)
+CREATE INDEX idx_category_reputation_user_id ON category_reputation(user_id);
+
+-- Backfill from the events folded so far
+INSERT INTO category_reputation (category_id, user_id, score)
+SELECT f.category_id, e.user_id, sum(e.delta)
+FROM reputation_event e
+JOIN feedback f ON f.id = e.feedback_id
+WHERE e.aggregated AND f.category_id IS NOT NULL
+GROUP BY f.category_id, e.user_id;
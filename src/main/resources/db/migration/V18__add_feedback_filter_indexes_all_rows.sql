@@ -0,0 +1,17 @@
+-- Non-partial twins of the V6 filter indexes.
+--
+-- The V6 indexes only cover active rows (WHERE NOT archived), so the planner can only use
+-- them when the query repeats that predicate. The list endpoint leaves the archived filter
+-- unset by default, which adds no archived predicate at all, so status, category and
+-- sentiment filtered pages fell back to scanning the (created_at, id) index and filtering
+-- every row. These indexes serve the same filters over all rows; the V6 indexes stay for
+-- archived=false, where they are smaller. Unfiltered pages are served by the V4
+-- (created_at, id) index.
+CREATE INDEX idx_feedback_status_created_at_id
+    ON feedback(status, created_at DESC, id DESC);
+
+CREATE INDEX idx_feedback_category_created_at_id
+    ON feedback(category_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_feedback_sentiment_created_at_id
+    ON feedback(sentiment, created_at DESC, id DESC);
@@ -0,0 +1,15 @@
+-- Watermark for recounting vote counters from the feedback_vote ledger.
+--
+-- The ledger (V10) was not backfilled: votes cast before it existed are only held in the
+-- feedback upvotes/downvotes counters, and rows inserted without going through the vote
+-- path (such as sample data) have no ledger rows either. Recounting such feedback from the
+-- ledger would silently drop those votes, so the counter reconciliation job only recounts
+-- the votes of feedback created at or after this instant, whose every vote is in the
+-- ledger; older feedback only has its comment count reconciled. The watermark is taken
+-- when this migration runs, after the ledger was introduced, so it errs on the side of
+-- leaving counters alone.
+CREATE TABLE feedback_vote_ledger_watermark (
+    ledgered_since TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO feedback_vote_ledger_watermark (ledgered_since) VALUES (now());
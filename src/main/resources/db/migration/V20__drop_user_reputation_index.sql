@@ -0,0 +1,6 @@
+-- Drop the leaderboard keyset index added in V14.
+-- The all-time leaderboard, ranks and neighborhoods are served from the in-memory
+-- reputation ranking, which reads the user table with a full scan when it reloads, so no
+-- query seeks on (reputation_score DESC, id) anymore and the index only slows down every
+-- reputation fold that rewrites user scores.
+DROP INDEX IF EXISTS idx_user_reputation_score_id;
@@ -0,0 +1,6 @@
+-- Composite index backing keyset pagination of the feedback list on (created_at, id).
+-- Both sort directions are served by the same index (forward or backward scan).
+CREATE INDEX idx_feedback_created_at_id ON feedback(created_at DESC, id DESC);
+
+-- Superseded by the composite index above, which covers the same ordering
+DROP INDEX IF EXISTS idx_feedback_created_at;
@@ -0,0 +1,11 @@
+-- Full-text search over feedback title and description.
+-- The tsvector is a stored generated column, so it is always in sync with the row and is
+-- never recomputed at query time. Title matches weigh more than description matches.
+ALTER TABLE feedback
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', title), 'A') ||
+            setweight(to_tsvector('english', description), 'B')
+        ) STORED;
+
+CREATE INDEX idx_feedback_search_vector ON feedback USING GIN (search_vector);
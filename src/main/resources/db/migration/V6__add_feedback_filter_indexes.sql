@@ -0,0 +1,21 @@
+-- Partial composite indexes backing filtered feedback listing.
+-- The list is filtered to active (non-archived) feedback in the common case, so each index
+-- only covers active rows and keeps the (created_at, id) keyset order after the filter
+-- column: a filtered page is a single index range scan that stops after LIMIT rows.
+CREATE INDEX idx_feedback_active_status_created_at_id
+    ON feedback(status, created_at DESC, id DESC) WHERE NOT archived;
+
+CREATE INDEX idx_feedback_active_category_created_at_id
+    ON feedback(category_id, created_at DESC, id DESC) WHERE NOT archived;
+
+CREATE INDEX idx_feedback_active_sentiment_created_at_id
+    ON feedback(sentiment, created_at DESC, id DESC) WHERE NOT archived;
+
+-- Archived rows are a small minority; listing them alone seeks through this index
+CREATE INDEX idx_feedback_archived_created_at_id
+    ON feedback(created_at DESC, id DESC) WHERE archived;
+
+-- Active feedback without further filters, in keyset order
+CREATE INDEX idx_feedback_active_created_at_id
+    ON feedback(created_at DESC, id DESC) WHERE NOT archived;
+
@@ -0,0 +1,38 @@
+-- Precomputed "trending" score so sortBy=trending is an index scan instead of a full sort.
+--
+-- The score is the net engagement of an item divided by a power of its age, so newer
+-- activity outranks older activity:
+--     (upvotes - downvotes + comments) / (age_in_hours + 2) ^ 1.8
+-- It is recalculated by trigger whenever a counter changes, and decayed periodically by
+-- the application's trending decay job, since age alone changes it too.
+CREATE FUNCTION feedback_hot_score(upvotes INT, downvotes INT, comments INT,
+                                   created_at TIMESTAMP WITH TIME ZONE, as_of TIMESTAMP WITH TIME ZONE)
+    RETURNS DOUBLE PRECISION
+    LANGUAGE sql
+    IMMUTABLE
+AS $$
+    SELECT CAST(upvotes - downvotes + comments AS DOUBLE PRECISION)
+           / power(GREATEST(CAST(EXTRACT(EPOCH FROM (as_of - created_at)) AS DOUBLE PRECISION) / 3600, 0) + 2, 1.8)
+$$;
+
+ALTER TABLE feedback ADD COLUMN hot_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+UPDATE feedback SET hot_score = feedback_hot_score(upvotes, downvotes, comments, created_at, now());
+
+CREATE FUNCTION feedback_refresh_hot_score() RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.hot_score := feedback_hot_score(NEW.upvotes, NEW.downvotes, NEW.comments, NEW.created_at, now());
+    RETURN NEW;
+END;
+$$;
+
+-- Fires only when a counter is written; the decay job updates hot_score alone and skips it
+CREATE TRIGGER trg_feedback_hot_score
+    BEFORE INSERT OR UPDATE OF upvotes, downvotes, comments ON feedback
+    FOR EACH ROW
+EXECUTE FUNCTION feedback_refresh_hot_score();
+
+-- Keyset order for sortBy=trending
+CREATE INDEX idx_feedback_hot_score_id ON feedback(hot_score DESC, id DESC);
@@ -0,0 +1,7 @@
+-- Tags move from a comma-separated string to a text array, so a tag filter can use a GIN
+-- index instead of a LIKE '%tag%' scan. The old column is kept as tags_legacy until the
+-- backfill in V9 has copied it over. Adding a column with a constant default does not
+-- rewrite the table.
+ALTER TABLE feedback RENAME COLUMN tags TO tags_legacy;
+
+ALTER TABLE feedback ADD COLUMN tags TEXT[] NOT NULL DEFAULT '{}';
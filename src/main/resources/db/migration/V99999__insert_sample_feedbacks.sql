@@ -16,103 +16,103 @@ INSERT INTO category (id, name) VALUES
 
 -- Insert sample feedbacks (100 total) with updated_at column
 INSERT INTO feedback (id, title, description, status, category_id, author_id, sentiment, tags, created_at, updated_at, archived) VALUES
-    (117457749108987398, 'Login button not responsive on mobile', 'The login button does not respond to touches on mobile devices. This issue occurs on both iOS and Android. Users are unable to complete login attempts on mobile browsers.', 'PENDING', 117457749108987393, 117457749108987388, 'NEGATIVE', 'mobile,login,urgent', '2025-11-20 10:15:00+00:00', '2025-11-20 10:15:00+00:00', false),
-    (117457749108987399, 'Dark mode support needed', 'Users are requesting a dark mode option for better usability in low-light environments. This would reduce eye strain and improve the overall user experience, especially for night-time usage.', 'ACKNOWLEDGED', 117457749108987394, 117457749108987389, 'POSITIVE', 'ui,accessibility,enhancement', '2025-11-20 11:30:00+00:00', '2025-11-20 11:30:00+00:00', false),
-    (117457749108987400, 'API response times are slow', 'The feedback list endpoint is taking 3-5 seconds to respond when loading more than 100 items. This is causing poor user experience and potential timeouts. Needs optimization.', 'IN_PROGRESS', 117457749108987397, 117457749108987390, 'NEGATIVE', 'performance,api,backend', '2025-11-20 09:45:00+00:00', '2025-11-20 10:30:00+00:00', false),
-    (117457749108987401, 'Improve search functionality', 'Add advanced search filters including date range, category filtering, and full-text search across feedback titles and descriptions. Current search is too basic.', 'COMPLETED', 117457749108987394, 117457749108987391, 'NEUTRAL', 'search,feature,ui', '2025-11-20 08:20:00+00:00', '2025-11-20 08:45:00+00:00', false),
-    (117457749108987402, 'Database migration documentation is outdated', 'The documentation for running database migrations does not match the current workflow. Please update the docs to reflect the new Flyway setup and migration procedures.', 'PENDING', 117457749108987396, 117457749108987393, 'NEUTRAL', 'documentation,docs,help', '2025-11-20 12:00:00+00:00', '2025-11-20 12:00:00+00:00', false),
-    (117457749108987403, 'Export to CSV feature', 'Users need the ability to export feedback data to CSV format for reporting and analysis purposes. This would help with data integration into other tools.', 'PENDING', 117457749108987394, 117457749108987388, 'POSITIVE', 'export,feature,csv', '2025-11-19 14:30:00+00:00', '2025-11-19 15:00:00+00:00', false),
-    (117457749108987404, 'Email notifications not working', 'I submitted feedback 3 days ago but have not received any email confirmation or status updates. The notification system appears to be broken or misconfigured.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', 'email,notifications,bug', '2025-11-19 13:15:00+00:00', '2025-11-19 14:00:00+00:00', false),
-    (117457749108987405, 'Add user profile customization', 'Allow users to customize their profile with avatar, bio, and social media links. This would enhance the community aspect of the platform.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', 'profile,customization,ui', '2025-11-19 11:45:00+00:00', '2025-11-19 13:00:00+00:00', false),
-    (117457749108987406, 'Fix typo in dashboard header', 'The dashboard header contains a typo: "Feedbak" instead of "Feedback". Simple fix needed.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', 'typo,ui,documentation', '2025-11-19 10:00:00+00:00', '2025-11-19 10:30:00+00:00', false),
-    (117457749108987407, 'Implement two-factor authentication', 'For security purposes, implement 2FA using authenticator apps or SMS. This is essential for protecting user accounts.', 'PENDING', 117457749108987394, 117457749108987393, 'POSITIVE', 'security,2fa,feature', '2025-11-19 09:20:00+00:00', '2025-11-19 09:20:00+00:00', false),
-    (117457749108987408, 'Cache improvements needed', 'Implement Redis caching for frequently accessed data to reduce database load and improve response times significantly.', 'IN_PROGRESS', 117457749108987397, 117457749108987388, 'NEGATIVE', 'performance,cache,backend', '2025-11-18 15:40:00+00:00', '2025-11-18 16:15:00+00:00', false),
-    (117457749108987409, 'User guide is incomplete', 'The user guide is missing sections on advanced filtering and API integration. Please complete the documentation.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987389, 'NEUTRAL', 'documentation,help,guide', '2025-11-18 14:25:00+00:00', '2025-11-18 15:10:00+00:00', false),
-    (117457749108987410, 'Add bulk action support', 'Allow users to select multiple feedback items and perform bulk actions like delete, archive, or change status simultaneously.', 'PENDING', 117457749108987394, 117457749108987390, 'POSITIVE', 'feature,bulk,ui', '2025-11-18 13:10:00+00:00', '2025-11-18 13:10:00+00:00', false),
-    (117457749108987411, 'Password reset email not received', 'I requested a password reset but did not receive the email. The reset link functionality appears to be broken.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987391, 'NEGATIVE', 'bug,email,account', '2025-11-18 12:05:00+00:00', '2025-11-18 13:00:00+00:00', false),
-    (117457749108987412, 'Improve error messages', 'Current error messages are vague and unhelpful. Provide clear, actionable error messages that guide users on how to fix issues.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', 'ux,improvement,ui', '2025-11-18 11:00:00+00:00', '2025-11-18 11:45:00+00:00', false),
-    (117457749108987413, 'API rate limiting issue', 'The API rate limiting is too restrictive. Users cannot complete workflows that require multiple rapid requests.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987388, 'NEGATIVE', 'api,rate-limit,bug', '2025-11-17 16:45:00+00:00', '2025-11-17 17:30:00+00:00', false),
-    (117457749108987414, 'Add analytics dashboard', 'Implement an analytics dashboard to show feedback trends, user engagement, and resolution rates over time.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', 'feature,analytics,dashboard', '2025-11-17 15:30:00+00:00', '2025-11-17 15:30:00+00:00', false),
-    (117457749108987415, 'Broken link in footer', 'The social media links in the footer are pointing to 404 pages. Please update with correct URLs.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', 'bug,links,ui', '2025-11-17 14:15:00+00:00', '2025-11-17 15:00:00+00:00', false),
-    (117457749108987416, 'Mobile app needed', 'Please develop a native mobile app for iOS and Android to make feedback submission more convenient on the go.', 'PENDING', 117457749108987394, 117457749108987391, 'POSITIVE', 'feature,mobile,app', '2025-11-17 13:00:00+00:00', '2025-11-17 13:00:00+00:00', false),
-    (117457749108987417, 'Database backup verification', 'Implement automatic database backup verification to ensure backups are functioning correctly and can be restored.', 'IN_PROGRESS', 117457749108987397, 117457749108987393, 'NEUTRAL', 'infrastructure,database,backup', '2025-11-17 11:45:00+00:00', '2025-11-17 12:30:00+00:00', false),
-    (117457749108987418, 'Missing translations', 'Several UI elements are not properly translated for non-English locales. Complete the translation coverage.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987388, 'NEUTRAL', 'localization,internationalization,i18n', '2025-11-17 10:30:00+00:00', '2025-11-17 11:15:00+00:00', false),
-    (117457749108987419, 'Add webhook support', 'Implement webhook support to allow third-party integrations and automated workflows when feedback is submitted or updated.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', 'feature,api,integration', '2025-11-16 16:15:00+00:00', '2025-11-16 16:15:00+00:00', false),
-    (117457749108987420, 'Browser compatibility issues', 'The application does not work properly in Safari on macOS. CSS styles are not rendering correctly.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987390, 'NEGATIVE', 'bug,browser,css', '2025-11-16 15:00:00+00:00', '2025-11-16 16:00:00+00:00', false),
-    (117457749108987421, 'Add keyboard shortcuts', 'Implement keyboard shortcuts for common actions to improve productivity for power users.', 'PENDING', 117457749108987395, 117457749108987391, 'POSITIVE', 'feature,ux,accessibility', '2025-11-16 13:45:00+00:00', '2025-11-16 13:45:00+00:00', false),
-    (117457749108987422, 'Improve pagination UX', 'The pagination controls are hard to discover. Add navigation arrows and make it more prominent.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', 'ux,pagination,ui', '2025-11-16 12:30:00+00:00', '2025-11-16 13:15:00+00:00', false),
-    (117457749108987423, 'API documentation needs examples', 'The API documentation lacks practical code examples. Add curl, Python, and JavaScript examples.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987388, 'NEUTRAL', 'documentation,api,help', '2025-11-16 11:15:00+00:00', '2025-11-16 12:00:00+00:00', false),
-    (117457749108987424, 'File upload functionality broken', 'The file upload feature for attachments is not working. Users receive a 413 error when uploading files.', 'IN_PROGRESS', 117457749108987393, 117457749108987389, 'NEGATIVE', 'bug,upload,files', '2025-11-16 10:00:00+00:00', '2025-11-16 10:45:00+00:00', false),
-    (117457749108987425, 'Add categories management UI', 'Allow administrators to create, edit, and delete feedback categories from the admin panel instead of via database.', 'PENDING', 117457749108987394, 117457749108987390, 'POSITIVE', 'feature,admin,management', '2025-11-15 16:45:00+00:00', '2025-11-15 16:45:00+00:00', false),
-    (117457749108987426, 'Session timeout too short', 'Users are being logged out after 15 minutes of inactivity. This is inconvenient for those working on longer responses.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987391, 'NEGATIVE', 'bug,session,security', '2025-11-15 15:30:00+00:00', '2025-11-15 16:15:00+00:00', false),
-    (117457749108987427, 'Improve search relevance', 'Search results are not very relevant. Implement better ranking algorithm or consider Elasticsearch for better search capabilities.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', 'search,improvement,backend', '2025-11-15 14:15:00+00:00', '2025-11-15 15:00:00+00:00', false),
-    (117457749108987428, 'Add API versioning', 'Implement API versioning to allow for backward compatibility when making breaking changes to the API.', 'PENDING', 117457749108987394, 117457749108987388, 'POSITIVE', 'feature,api,architecture', '2025-11-15 13:00:00+00:00', '2025-11-15 13:00:00+00:00', false),
-    (117457749108987429, 'Improve load times', 'The application takes too long to load initially. Optimize bundle size and implement lazy loading.', 'IN_PROGRESS', 117457749108987397, 117457749108987389, 'NEGATIVE', 'performance,frontend,optimization', '2025-11-15 11:45:00+00:00', '2025-11-15 12:30:00+00:00', false),
-    (117457749108987430, 'Add comment threading', 'Allow users to reply to specific comments and create threads for better conversation flow.', 'PENDING', 117457749108987394, 117457749108987390, 'POSITIVE', 'feature,comments,ui', '2025-11-15 10:30:00+00:00', '2025-11-15 10:30:00+00:00', false),
-    (117457749108987431, 'Fix memory leak in dashboard', 'The dashboard page has a memory leak causing performance degradation over time. Investigate and fix.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987391, 'NEGATIVE', 'bug,memory,frontend', '2025-11-14 16:15:00+00:00', '2025-11-14 17:00:00+00:00', false),
-    (117457749108987432, 'Add status badges to feedback list', 'Display status badges on the feedback list view for quick visual identification of feedback status.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', 'feature,ui,ux', '2025-11-14 15:00:00+00:00', '2025-11-14 15:45:00+00:00', false),
-    (117457749108987433, 'Implement audit logging', 'Add comprehensive audit logging for all user actions and admin operations for compliance and security.', 'PENDING', 117457749108987396, 117457749108987388, 'POSITIVE', 'feature,security,logging', '2025-11-14 13:45:00+00:00', '2025-11-14 13:45:00+00:00', false),
-    (117457749108987434, 'Button text is cut off on small screens', 'On mobile devices with small screens, button text is being truncated. Improve responsive design.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987389, 'NEGATIVE', 'bug,mobile,responsive', '2025-11-14 12:30:00+00:00', '2025-11-14 13:15:00+00:00', false),
-    (117457749108987435, 'Add data export for compliance', 'Users need the ability to export their personal data for GDPR compliance. Implement data export feature.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', 'feature,gdpr,export', '2025-11-14 11:15:00+00:00', '2025-11-14 12:00:00+00:00', false),
-    (117457749108987436, 'Improve color contrast', 'Some text colors do not meet WCAG accessibility standards. Improve color contrast throughout the application.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', 'accessibility,wcag,design', '2025-11-14 10:00:00+00:00', '2025-11-14 10:45:00+00:00', false),
-    (117457749108987437, 'Add integration tests', 'Implement comprehensive integration tests to ensure components work together correctly.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', 'testing,quality,backend', '2025-11-13 16:45:00+00:00', '2025-11-13 16:45:00+00:00', false),
-    (117457749108987438, 'Database connection pool exhausted', 'The application runs out of database connections under load. Increase pool size or implement better connection management.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987388, 'NEGATIVE', 'bug,database,performance', '2025-11-13 15:30:00+00:00', '2025-11-13 16:15:00+00:00', false),
-    (117457749108987439, 'Add social sharing buttons', 'Allow users to share feedback on social media platforms. Implement sharing buttons for Twitter, LinkedIn, etc.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', 'feature,social,sharing', '2025-11-13 14:15:00+00:00', '2025-11-13 14:15:00+00:00', false),
-    (117457749108987440, 'Fix alignment issues in forms', 'Form labels and inputs are misaligned on some browsers. Fix CSS to ensure consistent alignment.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', 'bug,css,forms', '2025-11-13 13:00:00+00:00', '2025-11-13 13:45:00+00:00', false),
-    (117457749108987441, 'Implement request signing', 'Implement request signing for API calls to ensure request authenticity and prevent tampering.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', 'feature,security,api', '2025-11-13 11:45:00+00:00', '2025-11-13 11:45:00+00:00', false),
-    (117457749108987442, 'Notification spam from system', 'Users are receiving too many system notifications. Implement notification preferences and throttling.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987393, 'NEGATIVE', 'bug,notifications,ux', '2025-11-13 10:30:00+00:00', '2025-11-13 11:15:00+00:00', false),
-    (117457749108987443, 'Add template library for feedback', 'Provide feedback templates to help users write better feedback with guided questions and structure.', 'IN_PROGRESS', 117457749108987394, 117457749108987388, 'POSITIVE', 'feature,templates,ux', '2025-11-12 16:15:00+00:00', '2025-11-12 17:00:00+00:00', false),
-    (117457749108987444, 'Improve error recovery', 'When network errors occur, add automatic retry mechanism with exponential backoff.', 'COMPLETED', 117457749108987397, 117457749108987389, 'NEUTRAL', 'feature,reliability,error-handling', '2025-11-12 15:00:00+00:00', '2025-11-12 15:45:00+00:00', false),
-    (117457749108987445, 'Add role-based access control', 'Implement RBAC to control permissions for different user roles (admin, moderator, user, etc.).', 'PENDING', 117457749108987396, 117457749108987390, 'POSITIVE', 'feature,security,access-control', '2025-11-12 13:45:00+00:00', '2025-11-12 13:45:00+00:00', false),
-    (117457749108987446, 'Favicon not displaying correctly', 'The favicon appears blurry on some browsers. Provide higher resolution favicon files.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987391, 'NEUTRAL', 'bug,ui,assets', '2025-11-12 12:30:00+00:00', '2025-11-12 13:15:00+00:00', false),
-    (117457749108987447, 'Implement service worker for offline', 'Add service worker to allow basic functionality when users are offline, with sync when connection returns.', 'PENDING', 117457749108987394, 117457749108987393, 'POSITIVE', 'feature,offline,pwa', '2025-11-12 11:15:00+00:00', '2025-11-12 11:15:00+00:00', false),
-    (117457749108987448, 'SQL injection vulnerability found', 'Security audit found potential SQL injection vulnerability in search feature. Urgent fix needed.', 'IN_PROGRESS', 117457749108987393, 117457749108987388, 'NEGATIVE', 'security,vulnerability,sql', '2025-11-12 10:00:00+00:00', '2025-11-12 10:45:00+00:00', false),
-    (117457749108987449, 'Add feedback filtering by date range', 'Allow users to filter feedback by date range to narrow down results for analysis.', 'COMPLETED', 117457749108987394, 117457749108987389, 'NEUTRAL', 'feature,filter,search', '2025-11-11 16:45:00+00:00', '2025-11-11 17:30:00+00:00', false),
-    (117457749108987450, 'Improve tooltip accessibility', 'Tooltips are not keyboard accessible. Implement proper keyboard navigation and screen reader support.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987390, 'NEGATIVE', 'accessibility,tooltip,ux', '2025-11-11 15:30:00+00:00', '2025-11-11 16:15:00+00:00', false),
-    (117457749108987451, 'Add batch processing API', 'Implement batch API endpoint to process multiple feedback items in a single request for efficiency.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', 'feature,api,batch', '2025-11-11 14:15:00+00:00', '2025-11-11 14:15:00+00:00', false),
-    (117457749108987452, 'Inconsistent styling in dropdown menus', 'Dropdown menus have inconsistent styling across different browsers. Standardize the styling.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', 'bug,css,dropdown', '2025-11-11 13:00:00+00:00', '2025-11-11 13:45:00+00:00', false),
-    (117457749108987453, 'Implement distributed caching', 'Move from in-process caching to distributed cache (Redis) for consistency across multiple instances.', 'PENDING', 117457749108987397, 117457749108987388, 'POSITIVE', 'feature,architecture,performance', '2025-11-11 11:45:00+00:00', '2025-11-11 11:45:00+00:00', false),
-    (117457749108987454, 'XSS vulnerability in rich text editor', 'The rich text editor is vulnerable to XSS attacks. Properly sanitize user input.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', 'security,vulnerability,xss', '2025-11-11 10:30:00+00:00', '2025-11-11 11:15:00+00:00', false),
-    (117457749108987455, 'Add feedback impact assessment', 'Implement a feature to track and display the impact of implemented feedback on user metrics.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', 'feature,analytics,impact', '2025-11-10 16:15:00+00:00', '2025-11-10 17:00:00+00:00', false),
-    (117457749108987456, 'Console warnings on page load', 'Application console shows several warnings on page load. Clean up the code to eliminate warnings.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', 'bug,frontend,console', '2025-11-10 15:00:00+00:00', '2025-11-10 15:45:00+00:00', false),
-    (117457749108987457, 'Implement OpenID Connect', 'Add support for OpenID Connect to allow federated authentication with external identity providers.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', 'feature,security,authentication', '2025-11-10 13:45:00+00:00', '2025-11-10 13:45:00+00:00', false),
-    (117457749108987458, 'Loading spinner not showing', 'In some cases, the loading spinner does not appear while data is being fetched, causing confusion.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987388, 'NEGATIVE', 'bug,ux,loading', '2025-11-10 12:30:00+00:00', '2025-11-10 13:15:00+00:00', false),
-    (117457749108987459, 'Add feedback source tracking', 'Track the source of each feedback submission (email, web form, mobile app, API) for better analytics.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', 'feature,analytics,tracking', '2025-11-10 11:15:00+00:00', '2025-11-10 11:15:00+00:00', false),
-    (117457749108987460, 'Fix date picker on Firefox', 'The date picker component does not work properly on Firefox. Test and fix browser compatibility.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', 'bug,firefox,datepicker', '2025-11-10 10:00:00+00:00', '2025-11-10 10:45:00+00:00', false),
-    (117457749108987461, 'Implement multi-tenancy support', 'Design and implement multi-tenancy to support multiple organizations within a single deployment.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', 'feature,architecture,saas', '2025-11-09 16:45:00+00:00', '2025-11-09 16:45:00+00:00', false),
-    (117457749108987462, 'Unicode characters not displaying properly', 'Unicode characters in feedback content are not rendering correctly. Fix character encoding.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987393, 'NEGATIVE', 'bug,encoding,internationalization', '2025-11-09 15:30:00+00:00', '2025-11-09 16:15:00+00:00', false),
-    (117457749108987463, 'Add sentiment analysis automation', 'Implement automatic sentiment analysis using NLP to automatically classify feedback sentiment.', 'IN_PROGRESS', 117457749108987394, 117457749108987388, 'POSITIVE', 'feature,nlp,ai', '2025-11-09 14:15:00+00:00', '2025-11-09 15:00:00+00:00', false),
-    (117457749108987464, 'Menu overlaps with content', 'On tablets, the navigation menu overlaps with main content. Fix layout and responsive design.', 'COMPLETED', 117457749108987395, 117457749108987389, 'NEUTRAL', 'bug,responsive,layout', '2025-11-09 13:00:00+00:00', '2025-11-09 13:45:00+00:00', false),
-    (117457749108987465, 'Add GraphQL API support', 'Implement GraphQL endpoint as an alternative to REST API for more flexible data querying.', 'PENDING', 117457749108987397, 117457749108987390, 'POSITIVE', 'feature,api,graphql', '2025-11-09 11:45:00+00:00', '2025-11-09 11:45:00+00:00', false),
-    (117457749108987466, 'Notification email formatting issues', 'Notification emails are not rendering correctly in Gmail and Outlook. Fix email template formatting.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987391, 'NEGATIVE', 'bug,email,formatting', '2025-11-09 10:30:00+00:00', '2025-11-09 11:15:00+00:00', false),
-    (117457749108987467, 'Implement feature flags', 'Add feature flag system to enable/disable features dynamically without redeployment.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', 'feature,deployment,flags', '2025-11-08 16:15:00+00:00', '2025-11-08 16:15:00+00:00', false),
-    (117457749108987468, 'Avatar images not loading', 'User avatar images randomly fail to load with 404 errors. Investigate CDN or storage issues.', 'IN_PROGRESS', 117457749108987393, 117457749108987388, 'NEGATIVE', 'bug,cdn,images', '2025-11-08 15:00:00+00:00', '2025-11-08 15:45:00+00:00', false),
-    (117457749108987469, 'Add A/B testing framework', 'Implement A/B testing framework to conduct experiments and optimize user experience.', 'COMPLETED', 117457749108987394, 117457749108987389, 'NEUTRAL', 'feature,testing,analytics', '2025-11-08 13:45:00+00:00', '2025-11-08 14:30:00+00:00', false),
-    (117457749108987470, 'Slow pagination with large datasets', 'Pagination becomes very slow when dealing with large datasets. Optimize database queries.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987390, 'NEGATIVE', 'performance,database,pagination', '2025-11-08 12:30:00+00:00', '2025-11-08 13:15:00+00:00', false),
-    (117457749108987471, 'Add machine learning recommendations', 'Implement ML model to recommend helpful feedback to users and suggest similar existing feedback.', 'PENDING', 117457749108987394, 117457749108987391, 'POSITIVE', 'feature,ml,ai', '2025-11-08 11:15:00+00:00', '2025-11-08 11:15:00+00:00', false),
-    (117457749108987472, 'Fix header sticky positioning', 'Sticky header positioning is causing layout shift when scrolling. Fix CSS positioning.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', 'bug,css,header', '2025-11-08 10:00:00+00:00', '2025-11-08 10:45:00+00:00', false),
-    (117457749108987473, 'Add real-time collaboration features', 'Implement real-time collaborative editing for feedback comments using WebSockets.', 'PENDING', 117457749108987397, 117457749108987388, 'POSITIVE', 'feature,realtime,websocket', '2025-11-07 16:45:00+00:00', '2025-11-07 16:45:00+00:00', false),
-    (117457749108987474, 'CORS headers missing for some endpoints', 'Some API endpoints are missing CORS headers causing browser requests to fail. Add proper CORS configuration.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', 'bug,cors,api', '2025-11-07 15:30:00+00:00', '2025-11-07 16:15:00+00:00', false),
-    (117457749108987475, 'Add automatic screenshot capture', 'Allow users to automatically capture screenshots and attach them to feedback for better reporting.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', 'feature,screenshots,ux', '2025-11-07 14:15:00+00:00', '2025-11-07 15:00:00+00:00', false),
-    (117457749108987476, 'Form validation not preventing submission', 'Form validation runs but does not prevent submission of invalid data. Fix form submission logic.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', 'bug,forms,validation', '2025-11-07 13:00:00+00:00', '2025-11-07 13:45:00+00:00', false),
-    (117457749108987477, 'Add voice feedback feature', 'Allow users to submit feedback via voice recording for convenience and accessibility.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', 'feature,voice,accessibility', '2025-11-07 11:45:00+00:00', '2025-11-07 11:45:00+00:00', false),
-    (117457749108987478, 'Database query N+1 problem', 'Database queries have N+1 problem causing excessive queries. Implement eager loading and query optimization.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987388, 'NEGATIVE', 'bug,database,optimization', '2025-11-07 10:30:00+00:00', '2025-11-07 11:15:00+00:00', false),
-    (117457749108987479, 'Add predictive search suggestions', 'Implement predictive search that suggests relevant feedback based on what user types.', 'IN_PROGRESS', 117457749108987394, 117457749108987389, 'POSITIVE', 'feature,search,suggestions', '2025-11-06 16:15:00+00:00', '2025-11-06 17:00:00+00:00', false),
-    (117457749108987480, 'Typo in confirmation message', 'The feedback deletion confirmation message contains a grammatical error. Fix the message.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', 'bug,typo,ui', '2025-11-06 15:00:00+00:00', '2025-11-06 15:45:00+00:00', false),
-    (117457749108987481, 'Add smart categorization', 'Implement automatic feedback categorization using machine learning to suggest categories.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', 'feature,ml,categorization', '2025-11-06 13:45:00+00:00', '2025-11-06 13:45:00+00:00', false),
-    (117457749108987482, 'Memory usage increasing over time', 'Application memory usage steadily increases. Profile application to find and fix memory leaks.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987393, 'NEGATIVE', 'bug,memory,profiling', '2025-11-06 12:30:00+00:00', '2025-11-06 13:15:00+00:00', false),
-    (117457749108987483, 'Add feedback templates by category', 'Allow different feedback templates based on selected category to guide users.', 'IN_PROGRESS', 117457749108987394, 117457749108987388, 'POSITIVE', 'feature,templates,ux', '2025-11-06 11:15:00+00:00', '2025-11-06 12:00:00+00:00', false),
-    (117457749108987484, 'CSS animation stuttering', 'CSS animations stutter during scrolling. Optimize animation performance with GPU acceleration.', 'COMPLETED', 117457749108987395, 117457749108987389, 'NEUTRAL', 'bug,css,performance', '2025-11-06 10:00:00+00:00', '2025-11-06 10:45:00+00:00', false),
-    (117457749108987485, 'Add sentiment trend analysis', 'Track sentiment trends over time to identify patterns in user satisfaction and concerns.', 'PENDING', 117457749108987397, 117457749108987390, 'POSITIVE', 'feature,analytics,sentiment', '2025-11-05 16:45:00+00:00', '2025-11-05 16:45:00+00:00', false),
-    (117457749108987486, 'Images compression not working', 'Uploaded images are not being compressed, causing very large storage requirements and slow loading.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987391, 'NEGATIVE', 'bug,images,storage', '2025-11-05 15:30:00+00:00', '2025-11-05 16:15:00+00:00', false),
-    (117457749108987487, 'Add integration with Slack', 'Implement Slack bot integration to post feedback notifications in Slack channels automatically.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', 'feature,slack,integration', '2025-11-05 14:15:00+00:00', '2025-11-05 14:15:00+00:00', false),
-    (117457749108987488, 'Wrong HTTP status code on errors', 'Some API endpoints return wrong HTTP status codes. Standardize error response status codes.', 'COMPLETED', 117457749108987393, 117457749108987388, 'NEUTRAL', 'bug,api,http', '2025-11-05 13:00:00+00:00', '2025-11-05 13:45:00+00:00', false),
-    (117457749108987489, 'Add customer feedback widgets', 'Provide embeddable feedback widgets for websites to collect feedback directly on the site.', 'IN_PROGRESS', 117457749108987394, 117457749108987389, 'POSITIVE', 'feature,widget,sdk', '2025-11-05 11:45:00+00:00', '2025-11-05 12:30:00+00:00', false),
-    (117457749108987490, 'Tooltip position misaligned', 'Tooltips appear in wrong position near edges of the screen. Fix positioning logic.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987390, 'NEGATIVE', 'bug,tooltip,ux', '2025-11-05 10:30:00+00:00', '2025-11-05 11:15:00+00:00', false),
-    (117457749108987491, 'Add feedback impact metrics', 'Display metrics showing how feedback impacts product roadmap and user engagement.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', 'feature,metrics,dashboard', '2025-11-04 16:15:00+00:00', '2025-11-04 16:15:00+00:00', false),
-    (117457749108987492, 'Inconsistent button sizing', 'Button sizes are inconsistent throughout the UI. Implement button size standardization.', 'COMPLETED', 117457749108987396, 117457749108987393, 'NEUTRAL', 'bug,design,consistency', '2025-11-04 15:00:00+00:00', '2025-11-04 15:45:00+00:00', false),
-    (117457749108987493, 'Add feedback workflow automation', 'Implement workflow automation to automatically route and manage feedback based on rules.', 'PENDING', 117457749108987397, 117457749108987388, 'POSITIVE', 'feature,automation,workflow', '2025-11-04 13:45:00+00:00', '2025-11-04 13:45:00+00:00', false),
-    (117457749108987494, 'Wrong timezone in timestamps', 'Timestamps in feedback are showing wrong timezone. Fix timezone handling and display.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', 'bug,timezone,datetime', '2025-11-04 12:30:00+00:00', '2025-11-04 13:15:00+00:00', false),
-    (117457749108987495, 'Add competitor analysis view', 'Add feature to view competitor products and compare their feedback with ours.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', 'feature,competitive-analysis,dashboard', '2025-11-04 11:15:00+00:00', '2025-11-04 12:00:00+00:00', false),
-    (117457749108987496, 'Broken image in error page', 'The 404 error page has a broken image link. Fix the image path.', 'COMPLETED', 117457749108987395, 117457749108987391, 'NEUTRAL', 'bug,images,error-page', '2025-11-04 10:00:00+00:00', '2025-11-04 10:45:00+00:00', false),
-    (117457749108987497, 'Add feedback routing to teams', 'Automatically route feedback to appropriate teams based on category and keywords.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', 'feature,routing,automation', '2025-11-03 16:45:00+00:00', '2025-11-03 16:45:00+00:00', false);
\ No newline at end of file
+    (117457749108987398, 'Login button not responsive on mobile', 'The login button does not respond to touches on mobile devices. This issue occurs on both iOS and Android. Users are unable to complete login attempts on mobile browsers.', 'PENDING', 117457749108987393, 117457749108987388, 'NEGATIVE', '{mobile,login,urgent}', '2025-11-20 10:15:00+00:00', '2025-11-20 10:15:00+00:00', false),
+    (117457749108987399, 'Dark mode support needed', 'Users are requesting a dark mode option for better usability in low-light environments. This would reduce eye strain and improve the overall user experience, especially for night-time usage.', 'ACKNOWLEDGED', 117457749108987394, 117457749108987389, 'POSITIVE', '{ui,accessibility,enhancement}', '2025-11-20 11:30:00+00:00', '2025-11-20 11:30:00+00:00', false),
+    (117457749108987400, 'API response times are slow', 'The feedback list endpoint is taking 3-5 seconds to respond when loading more than 100 items. This is causing poor user experience and potential timeouts. Needs optimization.', 'IN_PROGRESS', 117457749108987397, 117457749108987390, 'NEGATIVE', '{performance,api,backend}', '2025-11-20 09:45:00+00:00', '2025-11-20 10:30:00+00:00', false),
+    (117457749108987401, 'Improve search functionality', 'Add advanced search filters including date range, category filtering, and full-text search across feedback titles and descriptions. Current search is too basic.', 'COMPLETED', 117457749108987394, 117457749108987391, 'NEUTRAL', '{search,feature,ui}', '2025-11-20 08:20:00+00:00', '2025-11-20 08:45:00+00:00', false),
+    (117457749108987402, 'Database migration documentation is outdated', 'The documentation for running database migrations does not match the current workflow. Please update the docs to reflect the new Flyway setup and migration procedures.', 'PENDING', 117457749108987396, 117457749108987393, 'NEUTRAL', '{documentation,docs,help}', '2025-11-20 12:00:00+00:00', '2025-11-20 12:00:00+00:00', false),
+    (117457749108987403, 'Export to CSV feature', 'Users need the ability to export feedback data to CSV format for reporting and analysis purposes. This would help with data integration into other tools.', 'PENDING', 117457749108987394, 117457749108987388, 'POSITIVE', '{export,feature,csv}', '2025-11-19 14:30:00+00:00', '2025-11-19 15:00:00+00:00', false),
+    (117457749108987404, 'Email notifications not working', 'I submitted feedback 3 days ago but have not received any email confirmation or status updates. The notification system appears to be broken or misconfigured.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', '{email,notifications,bug}', '2025-11-19 13:15:00+00:00', '2025-11-19 14:00:00+00:00', false),
+    (117457749108987405, 'Add user profile customization', 'Allow users to customize their profile with avatar, bio, and social media links. This would enhance the community aspect of the platform.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', '{profile,customization,ui}', '2025-11-19 11:45:00+00:00', '2025-11-19 13:00:00+00:00', false),
+    (117457749108987406, 'Fix typo in dashboard header', 'The dashboard header contains a typo: "Feedbak" instead of "Feedback". Simple fix needed.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', '{typo,ui,documentation}', '2025-11-19 10:00:00+00:00', '2025-11-19 10:30:00+00:00', false),
+    (117457749108987407, 'Implement two-factor authentication', 'For security purposes, implement 2FA using authenticator apps or SMS. This is essential for protecting user accounts.', 'PENDING', 117457749108987394, 117457749108987393, 'POSITIVE', '{security,2fa,feature}', '2025-11-19 09:20:00+00:00', '2025-11-19 09:20:00+00:00', false),
+    (117457749108987408, 'Cache improvements needed', 'Implement Redis caching for frequently accessed data to reduce database load and improve response times significantly.', 'IN_PROGRESS', 117457749108987397, 117457749108987388, 'NEGATIVE', '{performance,cache,backend}', '2025-11-18 15:40:00+00:00', '2025-11-18 16:15:00+00:00', false),
+    (117457749108987409, 'User guide is incomplete', 'The user guide is missing sections on advanced filtering and API integration. Please complete the documentation.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987389, 'NEUTRAL', '{documentation,help,guide}', '2025-11-18 14:25:00+00:00', '2025-11-18 15:10:00+00:00', false),
+    (117457749108987410, 'Add bulk action support', 'Allow users to select multiple feedback items and perform bulk actions like delete, archive, or change status simultaneously.', 'PENDING', 117457749108987394, 117457749108987390, 'POSITIVE', '{feature,bulk,ui}', '2025-11-18 13:10:00+00:00', '2025-11-18 13:10:00+00:00', false),
+    (117457749108987411, 'Password reset email not received', 'I requested a password reset but did not receive the email. The reset link functionality appears to be broken.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987391, 'NEGATIVE', '{bug,email,account}', '2025-11-18 12:05:00+00:00', '2025-11-18 13:00:00+00:00', false),
+    (117457749108987412, 'Improve error messages', 'Current error messages are vague and unhelpful. Provide clear, actionable error messages that guide users on how to fix issues.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', '{ux,improvement,ui}', '2025-11-18 11:00:00+00:00', '2025-11-18 11:45:00+00:00', false),
+    (117457749108987413, 'API rate limiting issue', 'The API rate limiting is too restrictive. Users cannot complete workflows that require multiple rapid requests.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987388, 'NEGATIVE', '{api,rate-limit,bug}', '2025-11-17 16:45:00+00:00', '2025-11-17 17:30:00+00:00', false),
+    (117457749108987414, 'Add analytics dashboard', 'Implement an analytics dashboard to show feedback trends, user engagement, and resolution rates over time.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', '{feature,analytics,dashboard}', '2025-11-17 15:30:00+00:00', '2025-11-17 15:30:00+00:00', false),
+    (117457749108987415, 'Broken link in footer', 'The social media links in the footer are pointing to 404 pages. Please update with correct URLs.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', '{bug,links,ui}', '2025-11-17 14:15:00+00:00', '2025-11-17 15:00:00+00:00', false),
+    (117457749108987416, 'Mobile app needed', 'Please develop a native mobile app for iOS and Android to make feedback submission more convenient on the go.', 'PENDING', 117457749108987394, 117457749108987391, 'POSITIVE', '{feature,mobile,app}', '2025-11-17 13:00:00+00:00', '2025-11-17 13:00:00+00:00', false),
+    (117457749108987417, 'Database backup verification', 'Implement automatic database backup verification to ensure backups are functioning correctly and can be restored.', 'IN_PROGRESS', 117457749108987397, 117457749108987393, 'NEUTRAL', '{infrastructure,database,backup}', '2025-11-17 11:45:00+00:00', '2025-11-17 12:30:00+00:00', false),
+    (117457749108987418, 'Missing translations', 'Several UI elements are not properly translated for non-English locales. Complete the translation coverage.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987388, 'NEUTRAL', '{localization,internationalization,i18n}', '2025-11-17 10:30:00+00:00', '2025-11-17 11:15:00+00:00', false),
+    (117457749108987419, 'Add webhook support', 'Implement webhook support to allow third-party integrations and automated workflows when feedback is submitted or updated.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', '{feature,api,integration}', '2025-11-16 16:15:00+00:00', '2025-11-16 16:15:00+00:00', false),
+    (117457749108987420, 'Browser compatibility issues', 'The application does not work properly in Safari on macOS. CSS styles are not rendering correctly.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987390, 'NEGATIVE', '{bug,browser,css}', '2025-11-16 15:00:00+00:00', '2025-11-16 16:00:00+00:00', false),
+    (117457749108987421, 'Add keyboard shortcuts', 'Implement keyboard shortcuts for common actions to improve productivity for power users.', 'PENDING', 117457749108987395, 117457749108987391, 'POSITIVE', '{feature,ux,accessibility}', '2025-11-16 13:45:00+00:00', '2025-11-16 13:45:00+00:00', false),
+    (117457749108987422, 'Improve pagination UX', 'The pagination controls are hard to discover. Add navigation arrows and make it more prominent.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', '{ux,pagination,ui}', '2025-11-16 12:30:00+00:00', '2025-11-16 13:15:00+00:00', false),
+    (117457749108987423, 'API documentation needs examples', 'The API documentation lacks practical code examples. Add curl, Python, and JavaScript examples.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987388, 'NEUTRAL', '{documentation,api,help}', '2025-11-16 11:15:00+00:00', '2025-11-16 12:00:00+00:00', false),
+    (117457749108987424, 'File upload functionality broken', 'The file upload feature for attachments is not working. Users receive a 413 error when uploading files.', 'IN_PROGRESS', 117457749108987393, 117457749108987389, 'NEGATIVE', '{bug,upload,files}', '2025-11-16 10:00:00+00:00', '2025-11-16 10:45:00+00:00', false),
+    (117457749108987425, 'Add categories management UI', 'Allow administrators to create, edit, and delete feedback categories from the admin panel instead of via database.', 'PENDING', 117457749108987394, 117457749108987390, 'POSITIVE', '{feature,admin,management}', '2025-11-15 16:45:00+00:00', '2025-11-15 16:45:00+00:00', false),
+    (117457749108987426, 'Session timeout too short', 'Users are being logged out after 15 minutes of inactivity. This is inconvenient for those working on longer responses.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987391, 'NEGATIVE', '{bug,session,security}', '2025-11-15 15:30:00+00:00', '2025-11-15 16:15:00+00:00', false),
+    (117457749108987427, 'Improve search relevance', 'Search results are not very relevant. Implement better ranking algorithm or consider Elasticsearch for better search capabilities.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', '{search,improvement,backend}', '2025-11-15 14:15:00+00:00', '2025-11-15 15:00:00+00:00', false),
+    (117457749108987428, 'Add API versioning', 'Implement API versioning to allow for backward compatibility when making breaking changes to the API.', 'PENDING', 117457749108987394, 117457749108987388, 'POSITIVE', '{feature,api,architecture}', '2025-11-15 13:00:00+00:00', '2025-11-15 13:00:00+00:00', false),
+    (117457749108987429, 'Improve load times', 'The application takes too long to load initially. Optimize bundle size and implement lazy loading.', 'IN_PROGRESS', 117457749108987397, 117457749108987389, 'NEGATIVE', '{performance,frontend,optimization}', '2025-11-15 11:45:00+00:00', '2025-11-15 12:30:00+00:00', false),
+    (117457749108987430, 'Add comment threading', 'Allow users to reply to specific comments and create threads for better conversation flow.', 'PENDING', 117457749108987394, 117457749108987390, 'POSITIVE', '{feature,comments,ui}', '2025-11-15 10:30:00+00:00', '2025-11-15 10:30:00+00:00', false),
+    (117457749108987431, 'Fix memory leak in dashboard', 'The dashboard page has a memory leak causing performance degradation over time. Investigate and fix.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987391, 'NEGATIVE', '{bug,memory,frontend}', '2025-11-14 16:15:00+00:00', '2025-11-14 17:00:00+00:00', false),
+    (117457749108987432, 'Add status badges to feedback list', 'Display status badges on the feedback list view for quick visual identification of feedback status.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', '{feature,ui,ux}', '2025-11-14 15:00:00+00:00', '2025-11-14 15:45:00+00:00', false),
+    (117457749108987433, 'Implement audit logging', 'Add comprehensive audit logging for all user actions and admin operations for compliance and security.', 'PENDING', 117457749108987396, 117457749108987388, 'POSITIVE', '{feature,security,logging}', '2025-11-14 13:45:00+00:00', '2025-11-14 13:45:00+00:00', false),
+    (117457749108987434, 'Button text is cut off on small screens', 'On mobile devices with small screens, button text is being truncated. Improve responsive design.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987389, 'NEGATIVE', '{bug,mobile,responsive}', '2025-11-14 12:30:00+00:00', '2025-11-14 13:15:00+00:00', false),
+    (117457749108987435, 'Add data export for compliance', 'Users need the ability to export their personal data for GDPR compliance. Implement data export feature.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', '{feature,gdpr,export}', '2025-11-14 11:15:00+00:00', '2025-11-14 12:00:00+00:00', false),
+    (117457749108987436, 'Improve color contrast', 'Some text colors do not meet WCAG accessibility standards. Improve color contrast throughout the application.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', '{accessibility,wcag,design}', '2025-11-14 10:00:00+00:00', '2025-11-14 10:45:00+00:00', false),
+    (117457749108987437, 'Add integration tests', 'Implement comprehensive integration tests to ensure components work together correctly.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', '{testing,quality,backend}', '2025-11-13 16:45:00+00:00', '2025-11-13 16:45:00+00:00', false),
+    (117457749108987438, 'Database connection pool exhausted', 'The application runs out of database connections under load. Increase pool size or implement better connection management.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987388, 'NEGATIVE', '{bug,database,performance}', '2025-11-13 15:30:00+00:00', '2025-11-13 16:15:00+00:00', false),
+    (117457749108987439, 'Add social sharing buttons', 'Allow users to share feedback on social media platforms. Implement sharing buttons for Twitter, LinkedIn, etc.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', '{feature,social,sharing}', '2025-11-13 14:15:00+00:00', '2025-11-13 14:15:00+00:00', false),
+    (117457749108987440, 'Fix alignment issues in forms', 'Form labels and inputs are misaligned on some browsers. Fix CSS to ensure consistent alignment.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', '{bug,css,forms}', '2025-11-13 13:00:00+00:00', '2025-11-13 13:45:00+00:00', false),
+    (117457749108987441, 'Implement request signing', 'Implement request signing for API calls to ensure request authenticity and prevent tampering.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', '{feature,security,api}', '2025-11-13 11:45:00+00:00', '2025-11-13 11:45:00+00:00', false),
+    (117457749108987442, 'Notification spam from system', 'Users are receiving too many system notifications. Implement notification preferences and throttling.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987393, 'NEGATIVE', '{bug,notifications,ux}', '2025-11-13 10:30:00+00:00', '2025-11-13 11:15:00+00:00', false),
+    (117457749108987443, 'Add template library for feedback', 'Provide feedback templates to help users write better feedback with guided questions and structure.', 'IN_PROGRESS', 117457749108987394, 117457749108987388, 'POSITIVE', '{feature,templates,ux}', '2025-11-12 16:15:00+00:00', '2025-11-12 17:00:00+00:00', false),
+    (117457749108987444, 'Improve error recovery', 'When network errors occur, add automatic retry mechanism with exponential backoff.', 'COMPLETED', 117457749108987397, 117457749108987389, 'NEUTRAL', '{feature,reliability,error-handling}', '2025-11-12 15:00:00+00:00', '2025-11-12 15:45:00+00:00', false),
+    (117457749108987445, 'Add role-based access control', 'Implement RBAC to control permissions for different user roles (admin, moderator, user, etc.).', 'PENDING', 117457749108987396, 117457749108987390, 'POSITIVE', '{feature,security,access-control}', '2025-11-12 13:45:00+00:00', '2025-11-12 13:45:00+00:00', false),
+    (117457749108987446, 'Favicon not displaying correctly', 'The favicon appears blurry on some browsers. Provide higher resolution favicon files.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987391, 'NEUTRAL', '{bug,ui,assets}', '2025-11-12 12:30:00+00:00', '2025-11-12 13:15:00+00:00', false),
+    (117457749108987447, 'Implement service worker for offline', 'Add service worker to allow basic functionality when users are offline, with sync when connection returns.', 'PENDING', 117457749108987394, 117457749108987393, 'POSITIVE', '{feature,offline,pwa}', '2025-11-12 11:15:00+00:00', '2025-11-12 11:15:00+00:00', false),
+    (117457749108987448, 'SQL injection vulnerability found', 'Security audit found potential SQL injection vulnerability in search feature. Urgent fix needed.', 'IN_PROGRESS', 117457749108987393, 117457749108987388, 'NEGATIVE', '{security,vulnerability,sql}', '2025-11-12 10:00:00+00:00', '2025-11-12 10:45:00+00:00', false),
+    (117457749108987449, 'Add feedback filtering by date range', 'Allow users to filter feedback by date range to narrow down results for analysis.', 'COMPLETED', 117457749108987394, 117457749108987389, 'NEUTRAL', '{feature,filter,search}', '2025-11-11 16:45:00+00:00', '2025-11-11 17:30:00+00:00', false),
+    (117457749108987450, 'Improve tooltip accessibility', 'Tooltips are not keyboard accessible. Implement proper keyboard navigation and screen reader support.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987390, 'NEGATIVE', '{accessibility,tooltip,ux}', '2025-11-11 15:30:00+00:00', '2025-11-11 16:15:00+00:00', false),
+    (117457749108987451, 'Add batch processing API', 'Implement batch API endpoint to process multiple feedback items in a single request for efficiency.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', '{feature,api,batch}', '2025-11-11 14:15:00+00:00', '2025-11-11 14:15:00+00:00', false),
+    (117457749108987452, 'Inconsistent styling in dropdown menus', 'Dropdown menus have inconsistent styling across different browsers. Standardize the styling.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', '{bug,css,dropdown}', '2025-11-11 13:00:00+00:00', '2025-11-11 13:45:00+00:00', false),
+    (117457749108987453, 'Implement distributed caching', 'Move from in-process caching to distributed cache (Redis) for consistency across multiple instances.', 'PENDING', 117457749108987397, 117457749108987388, 'POSITIVE', '{feature,architecture,performance}', '2025-11-11 11:45:00+00:00', '2025-11-11 11:45:00+00:00', false),
+    (117457749108987454, 'XSS vulnerability in rich text editor', 'The rich text editor is vulnerable to XSS attacks. Properly sanitize user input.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', '{security,vulnerability,xss}', '2025-11-11 10:30:00+00:00', '2025-11-11 11:15:00+00:00', false),
+    (117457749108987455, 'Add feedback impact assessment', 'Implement a feature to track and display the impact of implemented feedback on user metrics.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', '{feature,analytics,impact}', '2025-11-10 16:15:00+00:00', '2025-11-10 17:00:00+00:00', false),
+    (117457749108987456, 'Console warnings on page load', 'Application console shows several warnings on page load. Clean up the code to eliminate warnings.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', '{bug,frontend,console}', '2025-11-10 15:00:00+00:00', '2025-11-10 15:45:00+00:00', false),
+    (117457749108987457, 'Implement OpenID Connect', 'Add support for OpenID Connect to allow federated authentication with external identity providers.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', '{feature,security,authentication}', '2025-11-10 13:45:00+00:00', '2025-11-10 13:45:00+00:00', false),
+    (117457749108987458, 'Loading spinner not showing', 'In some cases, the loading spinner does not appear while data is being fetched, causing confusion.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987388, 'NEGATIVE', '{bug,ux,loading}', '2025-11-10 12:30:00+00:00', '2025-11-10 13:15:00+00:00', false),
+    (117457749108987459, 'Add feedback source tracking', 'Track the source of each feedback submission (email, web form, mobile app, API) for better analytics.', 'PENDING', 117457749108987394, 117457749108987389, 'POSITIVE', '{feature,analytics,tracking}', '2025-11-10 11:15:00+00:00', '2025-11-10 11:15:00+00:00', false),
+    (117457749108987460, 'Fix date picker on Firefox', 'The date picker component does not work properly on Firefox. Test and fix browser compatibility.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', '{bug,firefox,datepicker}', '2025-11-10 10:00:00+00:00', '2025-11-10 10:45:00+00:00', false),
+    (117457749108987461, 'Implement multi-tenancy support', 'Design and implement multi-tenancy to support multiple organizations within a single deployment.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', '{feature,architecture,saas}', '2025-11-09 16:45:00+00:00', '2025-11-09 16:45:00+00:00', false),
+    (117457749108987462, 'Unicode characters not displaying properly', 'Unicode characters in feedback content are not rendering correctly. Fix character encoding.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987393, 'NEGATIVE', '{bug,encoding,internationalization}', '2025-11-09 15:30:00+00:00', '2025-11-09 16:15:00+00:00', false),
+    (117457749108987463, 'Add sentiment analysis automation', 'Implement automatic sentiment analysis using NLP to automatically classify feedback sentiment.', 'IN_PROGRESS', 117457749108987394, 117457749108987388, 'POSITIVE', '{feature,nlp,ai}', '2025-11-09 14:15:00+00:00', '2025-11-09 15:00:00+00:00', false),
+    (117457749108987464, 'Menu overlaps with content', 'On tablets, the navigation menu overlaps with main content. Fix layout and responsive design.', 'COMPLETED', 117457749108987395, 117457749108987389, 'NEUTRAL', '{bug,responsive,layout}', '2025-11-09 13:00:00+00:00', '2025-11-09 13:45:00+00:00', false),
+    (117457749108987465, 'Add GraphQL API support', 'Implement GraphQL endpoint as an alternative to REST API for more flexible data querying.', 'PENDING', 117457749108987397, 117457749108987390, 'POSITIVE', '{feature,api,graphql}', '2025-11-09 11:45:00+00:00', '2025-11-09 11:45:00+00:00', false),
+    (117457749108987466, 'Notification email formatting issues', 'Notification emails are not rendering correctly in Gmail and Outlook. Fix email template formatting.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987391, 'NEGATIVE', '{bug,email,formatting}', '2025-11-09 10:30:00+00:00', '2025-11-09 11:15:00+00:00', false),
+    (117457749108987467, 'Implement feature flags', 'Add feature flag system to enable/disable features dynamically without redeployment.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', '{feature,deployment,flags}', '2025-11-08 16:15:00+00:00', '2025-11-08 16:15:00+00:00', false),
+    (117457749108987468, 'Avatar images not loading', 'User avatar images randomly fail to load with 404 errors. Investigate CDN or storage issues.', 'IN_PROGRESS', 117457749108987393, 117457749108987388, 'NEGATIVE', '{bug,cdn,images}', '2025-11-08 15:00:00+00:00', '2025-11-08 15:45:00+00:00', false),
+    (117457749108987469, 'Add A/B testing framework', 'Implement A/B testing framework to conduct experiments and optimize user experience.', 'COMPLETED', 117457749108987394, 117457749108987389, 'NEUTRAL', '{feature,testing,analytics}', '2025-11-08 13:45:00+00:00', '2025-11-08 14:30:00+00:00', false),
+    (117457749108987470, 'Slow pagination with large datasets', 'Pagination becomes very slow when dealing with large datasets. Optimize database queries.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987390, 'NEGATIVE', '{performance,database,pagination}', '2025-11-08 12:30:00+00:00', '2025-11-08 13:15:00+00:00', false),
+    (117457749108987471, 'Add machine learning recommendations', 'Implement ML model to recommend helpful feedback to users and suggest similar existing feedback.', 'PENDING', 117457749108987394, 117457749108987391, 'POSITIVE', '{feature,ml,ai}', '2025-11-08 11:15:00+00:00', '2025-11-08 11:15:00+00:00', false),
+    (117457749108987472, 'Fix header sticky positioning', 'Sticky header positioning is causing layout shift when scrolling. Fix CSS positioning.', 'COMPLETED', 117457749108987395, 117457749108987393, 'NEUTRAL', '{bug,css,header}', '2025-11-08 10:00:00+00:00', '2025-11-08 10:45:00+00:00', false),
+    (117457749108987473, 'Add real-time collaboration features', 'Implement real-time collaborative editing for feedback comments using WebSockets.', 'PENDING', 117457749108987397, 117457749108987388, 'POSITIVE', '{feature,realtime,websocket}', '2025-11-07 16:45:00+00:00', '2025-11-07 16:45:00+00:00', false),
+    (117457749108987474, 'CORS headers missing for some endpoints', 'Some API endpoints are missing CORS headers causing browser requests to fail. Add proper CORS configuration.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', '{bug,cors,api}', '2025-11-07 15:30:00+00:00', '2025-11-07 16:15:00+00:00', false),
+    (117457749108987475, 'Add automatic screenshot capture', 'Allow users to automatically capture screenshots and attach them to feedback for better reporting.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', '{feature,screenshots,ux}', '2025-11-07 14:15:00+00:00', '2025-11-07 15:00:00+00:00', false),
+    (117457749108987476, 'Form validation not preventing submission', 'Form validation runs but does not prevent submission of invalid data. Fix form submission logic.', 'COMPLETED', 117457749108987396, 117457749108987391, 'NEUTRAL', '{bug,forms,validation}', '2025-11-07 13:00:00+00:00', '2025-11-07 13:45:00+00:00', false),
+    (117457749108987477, 'Add voice feedback feature', 'Allow users to submit feedback via voice recording for convenience and accessibility.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', '{feature,voice,accessibility}', '2025-11-07 11:45:00+00:00', '2025-11-07 11:45:00+00:00', false),
+    (117457749108987478, 'Database query N+1 problem', 'Database queries have N+1 problem causing excessive queries. Implement eager loading and query optimization.', 'ACKNOWLEDGED', 117457749108987397, 117457749108987388, 'NEGATIVE', '{bug,database,optimization}', '2025-11-07 10:30:00+00:00', '2025-11-07 11:15:00+00:00', false),
+    (117457749108987479, 'Add predictive search suggestions', 'Implement predictive search that suggests relevant feedback based on what user types.', 'IN_PROGRESS', 117457749108987394, 117457749108987389, 'POSITIVE', '{feature,search,suggestions}', '2025-11-06 16:15:00+00:00', '2025-11-06 17:00:00+00:00', false),
+    (117457749108987480, 'Typo in confirmation message', 'The feedback deletion confirmation message contains a grammatical error. Fix the message.', 'COMPLETED', 117457749108987396, 117457749108987390, 'NEUTRAL', '{bug,typo,ui}', '2025-11-06 15:00:00+00:00', '2025-11-06 15:45:00+00:00', false),
+    (117457749108987481, 'Add smart categorization', 'Implement automatic feedback categorization using machine learning to suggest categories.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', '{feature,ml,categorization}', '2025-11-06 13:45:00+00:00', '2025-11-06 13:45:00+00:00', false),
+    (117457749108987482, 'Memory usage increasing over time', 'Application memory usage steadily increases. Profile application to find and fix memory leaks.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987393, 'NEGATIVE', '{bug,memory,profiling}', '2025-11-06 12:30:00+00:00', '2025-11-06 13:15:00+00:00', false),
+    (117457749108987483, 'Add feedback templates by category', 'Allow different feedback templates based on selected category to guide users.', 'IN_PROGRESS', 117457749108987394, 117457749108987388, 'POSITIVE', '{feature,templates,ux}', '2025-11-06 11:15:00+00:00', '2025-11-06 12:00:00+00:00', false),
+    (117457749108987484, 'CSS animation stuttering', 'CSS animations stutter during scrolling. Optimize animation performance with GPU acceleration.', 'COMPLETED', 117457749108987395, 117457749108987389, 'NEUTRAL', '{bug,css,performance}', '2025-11-06 10:00:00+00:00', '2025-11-06 10:45:00+00:00', false),
+    (117457749108987485, 'Add sentiment trend analysis', 'Track sentiment trends over time to identify patterns in user satisfaction and concerns.', 'PENDING', 117457749108987397, 117457749108987390, 'POSITIVE', '{feature,analytics,sentiment}', '2025-11-05 16:45:00+00:00', '2025-11-05 16:45:00+00:00', false),
+    (117457749108987486, 'Images compression not working', 'Uploaded images are not being compressed, causing very large storage requirements and slow loading.', 'ACKNOWLEDGED', 117457749108987396, 117457749108987391, 'NEGATIVE', '{bug,images,storage}', '2025-11-05 15:30:00+00:00', '2025-11-05 16:15:00+00:00', false),
+    (117457749108987487, 'Add integration with Slack', 'Implement Slack bot integration to post feedback notifications in Slack channels automatically.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', '{feature,slack,integration}', '2025-11-05 14:15:00+00:00', '2025-11-05 14:15:00+00:00', false),
+    (117457749108987488, 'Wrong HTTP status code on errors', 'Some API endpoints return wrong HTTP status codes. Standardize error response status codes.', 'COMPLETED', 117457749108987393, 117457749108987388, 'NEUTRAL', '{bug,api,http}', '2025-11-05 13:00:00+00:00', '2025-11-05 13:45:00+00:00', false),
+    (117457749108987489, 'Add customer feedback widgets', 'Provide embeddable feedback widgets for websites to collect feedback directly on the site.', 'IN_PROGRESS', 117457749108987394, 117457749108987389, 'POSITIVE', '{feature,widget,sdk}', '2025-11-05 11:45:00+00:00', '2025-11-05 12:30:00+00:00', false),
+    (117457749108987490, 'Tooltip position misaligned', 'Tooltips appear in wrong position near edges of the screen. Fix positioning logic.', 'ACKNOWLEDGED', 117457749108987395, 117457749108987390, 'NEGATIVE', '{bug,tooltip,ux}', '2025-11-05 10:30:00+00:00', '2025-11-05 11:15:00+00:00', false),
+    (117457749108987491, 'Add feedback impact metrics', 'Display metrics showing how feedback impacts product roadmap and user engagement.', 'PENDING', 117457749108987397, 117457749108987391, 'POSITIVE', '{feature,metrics,dashboard}', '2025-11-04 16:15:00+00:00', '2025-11-04 16:15:00+00:00', false),
+    (117457749108987492, 'Inconsistent button sizing', 'Button sizes are inconsistent throughout the UI. Implement button size standardization.', 'COMPLETED', 117457749108987396, 117457749108987393, 'NEUTRAL', '{bug,design,consistency}', '2025-11-04 15:00:00+00:00', '2025-11-04 15:45:00+00:00', false),
+    (117457749108987493, 'Add feedback workflow automation', 'Implement workflow automation to automatically route and manage feedback based on rules.', 'PENDING', 117457749108987397, 117457749108987388, 'POSITIVE', '{feature,automation,workflow}', '2025-11-04 13:45:00+00:00', '2025-11-04 13:45:00+00:00', false),
+    (117457749108987494, 'Wrong timezone in timestamps', 'Timestamps in feedback are showing wrong timezone. Fix timezone handling and display.', 'ACKNOWLEDGED', 117457749108987393, 117457749108987389, 'NEGATIVE', '{bug,timezone,datetime}', '2025-11-04 12:30:00+00:00', '2025-11-04 13:15:00+00:00', false),
+    (117457749108987495, 'Add competitor analysis view', 'Add feature to view competitor products and compare their feedback with ours.', 'IN_PROGRESS', 117457749108987394, 117457749108987390, 'POSITIVE', '{feature,competitive-analysis,dashboard}', '2025-11-04 11:15:00+00:00', '2025-11-04 12:00:00+00:00', false),
+    (117457749108987496, 'Broken image in error page', 'The 404 error page has a broken image link. Fix the image path.', 'COMPLETED', 117457749108987395, 117457749108987391, 'NEUTRAL', '{bug,images,error-page}', '2025-11-04 10:00:00+00:00', '2025-11-04 10:45:00+00:00', false),
+    (117457749108987497, 'Add feedback routing to teams', 'Automatically route feedback to appropriate teams based on category and keywords.', 'PENDING', 117457749108987397, 117457749108987393, 'POSITIVE', '{feature,routing,automation}', '2025-11-03 16:45:00+00:00', '2025-11-03 16:45:00+00:00', false);
\ No newline at end of file
@@ -0,0 +1,34 @@
+-- Backfills the tags array from the legacy comma-separated column.
+--
+-- CREATE INDEX CONCURRENTLY cannot run inside a transaction, so Flyway runs this whole
+-- migration without one (quarkus.flyway.mixed). That lets the backfill commit every batch
+-- of 1000 rows: row locks are held briefly and no single transaction rewrites the table.
+-- Tags are trimmed, lower-cased and de-duplicated on the way.
+DO $$
+DECLARE
+    batch_start BIGINT := 0;
+    batch_end BIGINT;
+BEGIN
+    LOOP
+        SELECT max(id) INTO batch_end
+        FROM (SELECT id FROM feedback WHERE id > batch_start ORDER BY id LIMIT 1000) AS batch;
+        EXIT WHEN batch_end IS NULL;
+
+        UPDATE feedback
+        SET tags = ARRAY(SELECT DISTINCT lower(btrim(tag))
+                         FROM unnest(string_to_array(tags_legacy, ',')) AS tag
+                         WHERE btrim(tag) <> ''
+                         ORDER BY 1)
+        WHERE id > batch_start AND id <= batch_end
+          AND tags_legacy IS NOT NULL;
+
+        batch_start := batch_end;
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+-- Serves tag filters (tags @> ARRAY[...]) without blocking writes while it builds
+CREATE INDEX CONCURRENTLY idx_feedback_tags ON feedback USING GIN (tags);
+
+ALTER TABLE feedback DROP COLUMN tags_legacy;
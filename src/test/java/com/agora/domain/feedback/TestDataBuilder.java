@@ -6,6 +6,8 @@ import com.agora.domain.feedback.model.entity.FeedbackCategory;
 import com.agora.domain.feedback.model.entity.FeedbackStatus;
 import com.agora.domain.user.model.User;
 
+import java.util.List;
+
 /**
  * Fluent builders for creating test entities.
  * <p>
@@ -28,7 +30,7 @@ public class TestDataBuilder {
         private int upvotes = 0;
         private int downvotes = 0;
         private int comments = 0;
-        private String tags;
+        private List<String> tags = List.of();
         private boolean archived = false;
 
         /**
@@ -136,8 +138,8 @@ public class TestDataBuilder {
          * @param tags The feedback tags
          * @return This builder for chaining
          */
-        public FeedbackBuilder tags(String tags) {
-            this.tags = tags;
+        public FeedbackBuilder tags(String... tags) {
+            this.tags = List.of(tags);
             return this;
         }
 
@@ -166,7 +168,7 @@ public class TestDataBuilder {
             feedback.setUpvotes(upvotes);
             feedback.setDownvotes(downvotes);
             feedback.setComments(comments);
-            feedback.setTags(tags);
+            feedback.changeTags(tags);
             if (archived) {
                 feedback.archive();
             }
@@ -167,7 +167,7 @@ class TestDataBuilderTests {
             .upvotes(5)
             .downvotes(2)
             .comments(3)
-            .tags("important,urgent")
+            .tags("important", "urgent")
             .build();
 
         // Assert
@@ -178,7 +178,7 @@ class TestDataBuilderTests {
         assertThat(feedback.getUpvotes()).isEqualTo(5);
         assertThat(feedback.getDownvotes()).isEqualTo(2);
         assertThat(feedback.getComments()).isEqualTo(3);
-        assertThat(feedback.getTags()).isEqualTo("important,urgent");
+        assertThat(feedback.getTags()).containsExactly("important", "urgent");
     }
 
     // ===== CATEGORY BUILDER TESTS =====
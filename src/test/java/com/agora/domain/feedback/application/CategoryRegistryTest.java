@@ -0,0 +1,68 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.entity.FeedbackCategory;
+import com.agora.domain.feedback.model.repository.CategoryRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the in-memory CategoryRegistry.
+ * <p>
+ * Verifies that categories are available after startup and that committed category
+ * writes refresh the registry.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("CategoryRegistry Tests")
+class CategoryRegistryTest {
+
+    private static final Long PERFORMANCE_CATEGORY_ID = 117457749108987397L;
+
+    @Inject
+    CategoryRegistry categoryRegistry;
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("testRegistryLoadedAtStartup - Seeded categories are served from memory")
+    void testRegistryLoadedAtStartup() {
+        assertThat(categoryRegistry.contains(PERFORMANCE_CATEGORY_ID)).isTrue();
+        assertThat(categoryRegistry.nameOf(PERFORMANCE_CATEGORY_ID)).contains("Performance");
+        assertThat(categoryRegistry.findAll())
+                .anySatisfy(category -> assertThat(category.id()).isEqualTo(IdHelper.toString(PERFORMANCE_CATEGORY_ID)));
+    }
+
+    @Test
+    @DisplayName("testUnknownCategory - Unknown ids are not contained")
+    void testUnknownCategory() {
+        assertThat(categoryRegistry.contains(999999999L)).isFalse();
+        assertThat(categoryRegistry.nameOf(999999999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("testRegistryRefreshedAfterCommit - Renaming a category updates the registry")
+    void testRegistryRefreshedAfterCommit() {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                FeedbackCategory category = categoryRepository.findById(PERFORMANCE_CATEGORY_ID);
+                category.setName("Speed");
+            });
+
+            assertThat(categoryRegistry.nameOf(PERFORMANCE_CATEGORY_ID)).contains("Speed");
+        } finally {
+            QuarkusTransaction.requiringNew().run(() -> {
+                FeedbackCategory category = categoryRepository.findById(PERFORMANCE_CATEGORY_ID);
+                category.setName("Performance");
+            });
+        }
+
+        assertThat(categoryRegistry.nameOf(PERFORMANCE_CATEGORY_ID)).contains("Performance");
+    }
+}
@@ -74,6 +74,7 @@ class CommentVotingTest {
         // Create test comment
         CommentResponse commentResponse = feedbackService.addComment(
             testFeedback.getId(),
+            testUser.getId(),
             new CreateCommentRequest("Great feedback! This is very helpful.")
         );
         testComment = commentRepository.findById(IdHelper.toLong(commentResponse.id()));
@@ -290,6 +291,7 @@ class CommentVotingTest {
         // Create second comment
         CommentResponse comment2Response = feedbackService.addComment(
             testFeedback.getId(),
+            testUser.getId(),
             new CreateCommentRequest("Another great comment here!")
         );
         Comment comment2 = commentRepository.findById(IdHelper.toLong(comment2Response.id()));
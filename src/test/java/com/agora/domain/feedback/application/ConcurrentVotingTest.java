@@ -0,0 +1,142 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.dto.CreateCommentRequest;
+import com.agora.domain.feedback.model.dto.FeedbackResponse;
+import com.agora.domain.feedback.model.dto.FeedbackView;
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for concurrent voting and commenting.
+ * <p>
+ * Fires many votes or comments in parallel, each in its own transaction, and verifies
+ * that the atomic counter updates do not lose any of them. Feedback votes are cast by distinct
+ * throwaway users, since each user holds a single vote per feedback item.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("Concurrent Voting Tests")
+class ConcurrentVotingTest {
+
+    private static final Long SAMPLE_USER_ID = 117457749108987388L;
+    private static final int THREADS = 16;
+    private static final int VOTES = 2000;
+    private static final long VOTER_ID_BASE = 930000000000000000L;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    @Inject
+    FeedbackRepository feedbackRepository;
+
+    private Long feedbackId;
+
+    @BeforeEach
+    void setUp() {
+        FeedbackResponse created = feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Concurrent voting feedback")
+                .description("Feedback used to verify concurrent vote counting")
+                .build(), IdHelper.toString(SAMPLE_USER_ID));
+        feedbackId = IdHelper.toLong(created.id());
+
+        QuarkusTransaction.requiringNew().run(() -> feedbackRepository.getEntityManager()
+                .createNativeQuery("""
+                        INSERT INTO "user" (id, username, email, discord_id, discord_username, name, created_at, updated_at)
+                        SELECT :base + g, 'voter' || g, 'voter' || g || '@test.com', :base + g,
+                               'voter' || g, 'Concurrent Voter ' || g, now(), now()
+                        FROM generate_series(1, :count) AS g
+                        """)
+                .setParameter("base", VOTER_ID_BASE)
+                .setParameter("count", VOTES)
+                .executeUpdate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedbackService.deleteFeedback(feedbackId);
+        QuarkusTransaction.requiringNew().run(() -> feedbackRepository.getEntityManager()
+                .createNativeQuery("DELETE FROM \"user\" WHERE id > :base AND id <= :base + :count")
+                .setParameter("base", VOTER_ID_BASE)
+                .setParameter("count", VOTES)
+                .executeUpdate());
+    }
+
+    @Test
+    @DisplayName("testConcurrentFeedbackVotes - Every parallel upvote and downvote is counted once")
+    void testConcurrentFeedbackVotes() throws Exception {
+        runInParallel(VOTES, i -> feedbackService.voteFeedback(feedbackId, VOTER_ID_BASE + i + 1,
+                i % 4 == 0 ? "down" : "up"));
+
+        FeedbackView result = QuarkusTransaction.requiringNew()
+                .call(() -> feedbackRepository.findViewById(feedbackId).orElseThrow());
+        assertThat(result.upvotes()).isEqualTo(VOTES * 3 / 4);
+        assertThat(result.downvotes()).isEqualTo(VOTES / 4);
+    }
+
+    @Test
+    @DisplayName("testConcurrentCommentVotes - Every parallel comment upvote is counted")
+    void testConcurrentCommentVotes() throws Exception {
+        Long commentId = IdHelper.toLong(feedbackService.addComment(feedbackId, 117457749108987389L,
+                new CreateCommentRequest("Comment used to verify concurrent vote counting")).id());
+
+        runInParallel(VOTES, i -> feedbackService.voteComment(feedbackId, commentId, "up"));
+
+        assertThat(feedbackService.getCommentsByFeedbackId(feedbackId))
+                .singleElement()
+                .satisfies(comment -> assertThat(comment.upvotes()).isEqualTo(VOTES));
+    }
+
+    @Test
+    @DisplayName("testConcurrentComments - Every parallel comment increments the comment counter")
+    void testConcurrentComments() throws Exception {
+        int comments = 200;
+        runInParallel(comments, i -> feedbackService.addComment(feedbackId, VOTER_ID_BASE + i + 1,
+                new CreateCommentRequest("Concurrent comment " + i)));
+
+        FeedbackView result = QuarkusTransaction.requiringNew()
+                .call(() -> feedbackRepository.findViewById(feedbackId).orElseThrow());
+        assertThat(result.comments()).isEqualTo(comments);
+        assertThat(feedbackService.getCommentsByFeedbackId(feedbackId)).hasSize(comments);
+    }
+
+    private void runInParallel(int count, IntTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Void>> calls = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                calls.add(() -> {
+                    task.run(index);
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(calls)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index);
+    }
+}
@@ -0,0 +1,109 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.dto.FeedbackView;
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the counter reconciliation job.
+ * <p>
+ * Verifies that drifted counters are recomputed from the vote ledger and comment table,
+ * that rows already in sync are left alone, and that the votes of feedback older than
+ * the ledger are never recounted.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("Counter Reconciliation Tests")
+class CounterReconciliationJobTest {
+
+    private static final Long VOTER_ID = 117457749108987388L;
+    private static final Long SECOND_VOTER_ID = 117457749108987389L;
+    /** Sample feedback seeded by migration, with no rows in the vote ledger. */
+    private static final Long SEEDED_FEEDBACK_ID = 117457749108987398L;
+
+    @Inject
+    CounterReconciliationJob counterReconciliationJob;
+
+    @Inject
+    FeedbackRepository feedbackRepository;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    private Long feedbackId;
+
+    @BeforeEach
+    void setUp() {
+        feedbackId = IdHelper.toLong(feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Counter reconciliation feedback")
+                .description("Feedback used to verify counter reconciliation")
+                .build(), IdHelper.toString(VOTER_ID)).id());
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
+        feedbackService.voteFeedback(feedbackId, SECOND_VOTER_ID, "down");
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedbackService.deleteFeedback(feedbackId);
+    }
+
+    @Test
+    @DisplayName("testDriftedCountersAreFixed - Counters are recomputed from the ledger and comments")
+    void testDriftedCountersAreFixed() {
+        QuarkusTransaction.requiringNew().run(() -> feedbackRepository.getEntityManager()
+                .createNativeQuery("UPDATE feedback SET upvotes = 42, downvotes = 0, comments = 7 WHERE id = :id")
+                .setParameter("id", feedbackId)
+                .executeUpdate());
+
+        assertThat(counterReconciliationJob.reconcile(feedbackId, feedbackId)).isEqualTo(1);
+
+        FeedbackView view = QuarkusTransaction.requiringNew()
+                .call(() -> feedbackRepository.findViewById(feedbackId).orElseThrow());
+        assertThat(view.upvotes()).isEqualTo(1);
+        assertThat(view.downvotes()).isEqualTo(1);
+        assertThat(view.comments()).isZero();
+    }
+
+    @Test
+    @DisplayName("testCountersInSyncAreUntouched - Rows without drift are not written")
+    void testCountersInSyncAreUntouched() {
+        assertThat(counterReconciliationJob.reconcile(feedbackId, feedbackId)).isZero();
+    }
+
+    @Test
+    @DisplayName("testVotesOlderThanLedgerAreKept - Seeded feedback keeps votes the ledger never saw")
+    void testVotesOlderThanLedgerAreKept() {
+        FeedbackView seeded = QuarkusTransaction.requiringNew()
+                .call(() -> feedbackRepository.findViewById(SEEDED_FEEDBACK_ID).orElseThrow());
+        setVoteCounters(SEEDED_FEEDBACK_ID, 5, 2);
+        try {
+            counterReconciliationJob.reconcile(SEEDED_FEEDBACK_ID, SEEDED_FEEDBACK_ID);
+
+            FeedbackView view = QuarkusTransaction.requiringNew()
+                    .call(() -> feedbackRepository.findViewById(SEEDED_FEEDBACK_ID).orElseThrow());
+            assertThat(view.upvotes()).isEqualTo(5);
+            assertThat(view.downvotes()).isEqualTo(2);
+        } finally {
+            setVoteCounters(SEEDED_FEEDBACK_ID, seeded.upvotes(), seeded.downvotes());
+        }
+    }
+
+    private void setVoteCounters(Long id, int upvotes, int downvotes) {
+        QuarkusTransaction.requiringNew().run(() -> feedbackRepository.getEntityManager()
+                .createNativeQuery("UPDATE feedback SET upvotes = :upvotes, downvotes = :downvotes WHERE id = :id")
+                .setParameter("upvotes", upvotes)
+                .setParameter("downvotes", downvotes)
+                .setParameter("id", id)
+                .executeUpdate());
+    }
+}
@@ -0,0 +1,87 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.VoteDirection;
+import com.agora.domain.feedback.model.dto.FeedbackView;
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for sharded vote counters.
+ * <p>
+ * Verifies that sharded votes leave the feedback row untouched while reporting the
+ * current counters, and that the rollup job folds the shards into the feedback row.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("Counter Shard Rollup Tests")
+class CounterShardRollupJobTest {
+
+    private static final List<Long> VOTER_IDS = List.of(117457749108987388L, 117457749108987389L, 117457749108987390L);
+    private static final int SHARDS = 4;
+
+    @Inject
+    CounterShardRollupJob counterShardRollupJob;
+
+    @Inject
+    FeedbackRepository feedbackRepository;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    private Long feedbackId;
+
+    @BeforeEach
+    void setUp() {
+        feedbackId = IdHelper.toLong(feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Sharded counter feedback")
+                .description("Feedback used to verify sharded vote counters")
+                .build(), IdHelper.toString(VOTER_IDS.getFirst())).id());
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedbackService.deleteFeedback(feedbackId);
+    }
+
+    @Test
+    @DisplayName("testShardedVotesAreRolledUp - Shards are folded into the feedback counters")
+    void testShardedVotesAreRolledUp() {
+        FeedbackView last = null;
+        for (Long voterId : VOTER_IDS) {
+            last = QuarkusTransaction.requiringNew().call(() -> feedbackRepository
+                    .recordShardedVote(feedbackId, voterId, VoteDirection.UP, SHARDS, 0, 0)
+                    .orElseThrow());
+        }
+        assertThat(last.upvotes()).isEqualTo(VOTER_IDS.size());
+        assertThat(findView().upvotes()).isZero();
+
+        assertThat(counterShardRollupJob.rollUp()).isBetween(1, SHARDS);
+
+        assertThat(findView().upvotes()).isEqualTo(VOTER_IDS.size());
+        assertThat(counterShardRollupJob.rollUp()).isZero();
+    }
+
+    @Test
+    @DisplayName("testShardedVoteOnUnknownFeedback - Voting on non-existent feedback returns empty")
+    void testShardedVoteOnUnknownFeedback() {
+        assertThat(QuarkusTransaction.requiringNew().call(() -> feedbackRepository
+                .recordShardedVote(999999999L, VOTER_IDS.getFirst(), VoteDirection.UP, SHARDS, 0, 0)))
+                .isEmpty();
+    }
+
+    private FeedbackView findView() {
+        return QuarkusTransaction.requiringNew().call(() -> feedbackRepository.findViewById(feedbackId).orElseThrow());
+    }
+}
@@ -6,13 +6,17 @@ import com.agora.domain.feedback.common.IdHelper;
 import com.agora.domain.feedback.exception.FeedbackNotFoundException;
 import com.agora.domain.feedback.model.dto.CommentResponse;
 import com.agora.domain.feedback.model.dto.CreateCommentRequest;
+import com.agora.domain.feedback.model.dto.FeedbackFilter;
 import com.agora.domain.feedback.model.dto.FeedbackResponse;
 import com.agora.domain.feedback.model.entity.FeedbackStatus;
+import com.agora.domain.user.exception.UserNotFoundException;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -53,6 +57,44 @@ class FeedbackApplicationServiceTest {
         assertThat(response.archived()).isFalse();
     }
 
+    @Test
+    @DisplayName("testCreateFeedback_WithTags - Tags are normalized and returned by reads")
+    void testCreateFeedback_WithTags() {
+        // Arrange
+        CreateFeedbackCommand command = CreateFeedbackCommand.builder()
+                .title("Tagged Feedback")
+                .description("This feedback carries a few tags for testing")
+                .tags(List.of(" UI ", "ui", "Accessibility"))
+                .build();
+
+        // Act
+        FeedbackResponse created = service.createFeedback(command, IdHelper.toString(117457749108987388L));
+        FeedbackResponse loaded = service.getFeedback(IdHelper.toLong(created.id()));
+
+        // Assert
+        assertThat(created.tags()).containsExactly("accessibility", "ui");
+        assertThat(loaded.tags()).containsExactly("accessibility", "ui");
+    }
+
+    @Test
+    @DisplayName("testCreateFeedback_TagWithComma - Commas inside a tag are kept by reads")
+    void testCreateFeedback_TagWithComma() {
+        // Arrange
+        CreateFeedbackCommand command = CreateFeedbackCommand.builder()
+                .title("Comma Tagged Feedback")
+                .description("This feedback carries a tag containing a comma")
+                .tags(List.of("c,d", "e"))
+                .build();
+
+        // Act
+        FeedbackResponse created = service.createFeedback(command, IdHelper.toString(117457749108987388L));
+        FeedbackResponse loaded = service.getFeedback(IdHelper.toLong(created.id()));
+
+        // Assert
+        assertThat(created.tags()).containsExactly("c,d", "e");
+        assertThat(loaded.tags()).containsExactly("c,d", "e");
+    }
+
     @Test
     @DisplayName("testCreateFeedback_InvalidCategory - Throws CategoryNotFoundException")
     void testCreateFeedback_InvalidCategory() {
@@ -189,6 +231,58 @@ class FeedbackApplicationServiceTest {
                 .isInstanceOf(FeedbackNotFoundException.class);
     }
 
+    // ===== SEARCH TESTS =====
+
+    @Test
+    @DisplayName("testSearchFeedbacks_CursorRowDeleted - Next page follows a cursor whose row was deleted")
+    void testSearchFeedbacks_CursorRowDeleted() {
+        // Arrange - Three matches for a term no other feedback contains
+        for (int i = 0; i < 3; i++) {
+            service.createFeedback(CreateFeedbackCommand.builder()
+                    .title("Zephyrquill search " + i)
+                    .description("This feedback is found by searching for zephyrquill")
+                    .build(), IdHelper.toString(117457749108987388L));
+        }
+        var first = service.searchFeedbacks("zephyrquill", null, 1, 1, FeedbackFilter.NONE, false);
+        assertThat(first.items()).hasSize(1);
+        assertThat(first.nextCursor()).isNotNull();
+
+        // Act - Delete the cursor's row before following the cursor
+        service.deleteFeedback(IdHelper.toLong(first.items().getFirst().id()));
+        var second = service.searchFeedbacks("zephyrquill", first.nextCursor(), 1, 1, FeedbackFilter.NONE, false);
+
+        // Assert
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.items().getFirst().id()).isNotEqualTo(first.items().getFirst().id());
+        assertThat(second.nextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("testTrendingCursor_CursorRowDeleted - Next trending page follows a cursor whose row was deleted")
+    void testTrendingCursor_CursorRowDeleted() {
+        // Arrange - Three feedbacks with a tag no other feedback carries
+        for (int i = 0; i < 3; i++) {
+            service.createFeedback(CreateFeedbackCommand.builder()
+                    .title("Trending cursor " + i)
+                    .description("This feedback is paged through in trending order")
+                    .tags(List.of("trendcursor"))
+                    .build(), IdHelper.toString(117457749108987388L));
+        }
+        FeedbackFilter filter = FeedbackFilter.builder().tag("trendcursor").build();
+        var first = service.getAllFeedbacksPaginated(1, 1, "trending", filter, false);
+        assertThat(first.items()).hasSize(1);
+        assertThat(first.nextCursor()).isNotNull();
+
+        // Act - Delete the cursor's row before following the cursor
+        service.deleteFeedback(IdHelper.toLong(first.items().getFirst().id()));
+        var second = service.getFeedbacksAfterCursor(first.nextCursor(), 1, "trending", filter, false);
+
+        // Assert
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.items().getFirst().id()).isNotEqualTo(first.items().getFirst().id());
+        assertThat(second.nextCursor()).isNotNull();
+    }
+
     // ===== ARCHIVE FEEDBACK TESTS =====
 
     @Test
@@ -273,7 +367,7 @@ class FeedbackApplicationServiceTest {
 
         // Act - Add comment
         CreateCommentRequest commentRequest = new CreateCommentRequest("Great feedback! This is very helpful and well-written.");
-        CommentResponse response = service.addComment(IdHelper.toLong(created.id()), commentRequest);
+        CommentResponse response = service.addComment(IdHelper.toLong(created.id()), 117457749108987389L, commentRequest);
 
         // Assert
         assertThat(response).isNotNull();
@@ -288,10 +382,27 @@ class FeedbackApplicationServiceTest {
         CreateCommentRequest request = new CreateCommentRequest("Test comment");
 
         // Act & Assert
-        assertThatThrownBy(() -> service.addComment(999999999L, request))
+        assertThatThrownBy(() -> service.addComment(999999999L, 117457749108987389L, request))
                 .isInstanceOf(FeedbackNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("testAddComment_AuthorNotFound - Throws UserNotFoundException")
+    void testAddComment_AuthorNotFound() {
+        // Arrange
+        CreateFeedbackCommand createCommand = CreateFeedbackCommand.builder()
+                .title("Feedback for Unknown Author")
+                .description("This feedback receives a comment from an author that does not exist")
+                .build();
+        FeedbackResponse created = service.createFeedback(createCommand, IdHelper.toString(117457749108987388L));
+        CreateCommentRequest request = new CreateCommentRequest("Test comment");
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.addComment(IdHelper.toLong(created.id()), 999999999L, request))
+                .isInstanceOf(UserNotFoundException.class);
+        assertThat(service.getFeedback(IdHelper.toLong(created.id())).comments()).isZero();
+    }
+
     @Test
     @DisplayName("testGetCommentsByFeedbackId_Success - Retrieve comments")
     void testGetCommentsByFeedbackId_Success() {
@@ -302,7 +413,7 @@ class FeedbackApplicationServiceTest {
                 .build();
         FeedbackResponse created = service.createFeedback(command, IdHelper.toString(117457749108987388L));
         CreateCommentRequest commentRequest = new CreateCommentRequest("Test comment for retrieval");
-        service.addComment(IdHelper.toLong(created.id()), commentRequest);
+        service.addComment(IdHelper.toLong(created.id()), 117457749108987389L, commentRequest);
 
         // Act
         var comments = service.getCommentsByFeedbackId(IdHelper.toLong(created.id()));
@@ -5,6 +5,7 @@ import com.agora.domain.feedback.common.IdHelper;
 import com.agora.domain.feedback.model.dto.FeedbackResponse;
 import com.agora.domain.feedback.model.entity.Feedback;
 import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import com.agora.domain.user.exception.UserNotFoundException;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -25,6 +26,10 @@ import static org.assertj.core.api.Assertions.*;
 @Transactional
 class FeedbackVotingTest {
 
+    private static final Long VOTER_ID = 117457749108987388L;
+    private static final Long SECOND_VOTER_ID = 117457749108987389L;
+    private static final Long THIRD_VOTER_ID = 117457749108987390L;
+
     @Inject
     FeedbackApplicationService feedbackService;
 
@@ -44,6 +49,7 @@ class FeedbackVotingTest {
         // Upvote the feedback
         FeedbackResponse voted = feedbackService.voteFeedback(
             IdHelper.toLong(created.id()),
+            VOTER_ID,
             "up"
         );
 
@@ -65,6 +71,7 @@ class FeedbackVotingTest {
         // Downvote the feedback
         FeedbackResponse voted = feedbackService.voteFeedback(
             IdHelper.toLong(created.id()),
+            VOTER_ID,
             "down"
         );
 
@@ -73,7 +80,7 @@ class FeedbackVotingTest {
     }
 
     @Test
-    @DisplayName("testMultipleUpvotes - Multiple upvotes increment counter correctly")
+    @DisplayName("testMultipleUpvotes - Upvotes from different users increment counter correctly")
     void testMultipleUpvotes() {
         // Create feedback
         CreateFeedbackCommand command = CreateFeedbackCommand.builder()
@@ -83,14 +90,14 @@ class FeedbackVotingTest {
         FeedbackResponse created = feedbackService.createFeedback(command, IdHelper.toString(117457749108987388L));
         Long feedbackId = IdHelper.toLong(created.id());
 
-        // Upvote multiple times
-        FeedbackResponse after1 = feedbackService.voteFeedback(feedbackId, "up");
+        // Upvote from several users
+        FeedbackResponse after1 = feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
         assertThat(after1.upvotes()).isEqualTo(1);
 
-        FeedbackResponse after2 = feedbackService.voteFeedback(feedbackId, "up");
+        FeedbackResponse after2 = feedbackService.voteFeedback(feedbackId, SECOND_VOTER_ID, "up");
         assertThat(after2.upvotes()).isEqualTo(2);
 
-        FeedbackResponse after3 = feedbackService.voteFeedback(feedbackId, "up");
+        FeedbackResponse after3 = feedbackService.voteFeedback(feedbackId, THIRD_VOTER_ID, "up");
         assertThat(after3.upvotes()).isEqualTo(3);
     }
 
@@ -106,11 +113,11 @@ class FeedbackVotingTest {
         Long feedbackId = IdHelper.toLong(created.id());
 
         // Upvote
-        FeedbackResponse upvoted = feedbackService.voteFeedback(feedbackId, "up");
+        FeedbackResponse upvoted = feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
         assertThat(upvoted.upvotes()).isEqualTo(1);
 
         // Remove vote with "none"
-        FeedbackResponse removed = feedbackService.voteFeedback(feedbackId, "none");
+        FeedbackResponse removed = feedbackService.voteFeedback(feedbackId, VOTER_ID, "none");
         assertThat(removed.upvotes()).isEqualTo(0);
     }
 
@@ -126,18 +133,42 @@ class FeedbackVotingTest {
         Long feedbackId = IdHelper.toLong(created.id());
 
         // Upvote
-        FeedbackResponse upvoted = feedbackService.voteFeedback(feedbackId, "up");
+        FeedbackResponse upvoted = feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
         assertThat(upvoted.upvotes()).isEqualTo(1);
 
-        // Downvote (adds downvote independently)
-        FeedbackResponse downvoted = feedbackService.voteFeedback(feedbackId, "down");
-        assertThat(downvoted.upvotes()).isEqualTo(1);
+        // Downvote (replaces the user's upvote)
+        FeedbackResponse downvoted = feedbackService.voteFeedback(feedbackId, VOTER_ID, "down");
+        assertThat(downvoted.upvotes()).isEqualTo(0);
 
         // Remove vote
-        FeedbackResponse removed = feedbackService.voteFeedback(feedbackId, "none");
+        FeedbackResponse removed = feedbackService.voteFeedback(feedbackId, VOTER_ID, "none");
         assertThat(removed.upvotes()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("testRepeatedVoteIsIdempotent - Repeating a user's vote does not change the counters")
+    void testRepeatedVoteIsIdempotent() {
+        // Create feedback
+        CreateFeedbackCommand command = CreateFeedbackCommand.builder()
+            .title("Retry Test")
+            .description("Testing that retried votes are only counted once")
+            .build();
+        FeedbackResponse created = feedbackService.createFeedback(command, IdHelper.toString(117457749108987388L));
+        Long feedbackId = IdHelper.toLong(created.id());
+
+        // Same user upvotes several times, e.g. a client retrying the request
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
+        FeedbackResponse retried = feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
+        assertThat(retried.upvotes()).isEqualTo(1);
+
+        // Removing the vote twice only removes it once
+        feedbackService.voteFeedback(feedbackId, SECOND_VOTER_ID, "up");
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "none");
+        FeedbackResponse removed = feedbackService.voteFeedback(feedbackId, VOTER_ID, "none");
+        assertThat(removed.upvotes()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("testInvalidVoteDirection - Invalid direction throws exception")
     void testInvalidVoteDirection() {
@@ -150,7 +181,7 @@ class FeedbackVotingTest {
 
         // Try invalid direction
         assertThatThrownBy(() ->
-            feedbackService.voteFeedback(IdHelper.toLong(created.id()), "invalid")
+            feedbackService.voteFeedback(IdHelper.toLong(created.id()), VOTER_ID, "invalid")
         )
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("Invalid vote direction");
@@ -161,11 +192,28 @@ class FeedbackVotingTest {
     void testVoteNonExistentFeedback() {
         // Try to vote on non-existent feedback
         assertThatThrownBy(() ->
-            feedbackService.voteFeedback(999999999L, "up")
+            feedbackService.voteFeedback(999999999L, VOTER_ID, "up")
         )
             .isInstanceOf(Exception.class);
     }
 
+    @Test
+    @DisplayName("testVoteByNonExistentUser - Voting as a user that no longer exists throws UserNotFoundException")
+    void testVoteByNonExistentUser() {
+        // Create feedback
+        CreateFeedbackCommand command = CreateFeedbackCommand.builder()
+            .title("Deleted Voter")
+            .description("Testing a vote from a token whose user was deleted")
+            .build();
+        FeedbackResponse created = feedbackService.createFeedback(command, IdHelper.toString(117457749108987388L));
+
+        // Vote with a subject that has no user row
+        assertThatThrownBy(() ->
+            feedbackService.voteFeedback(IdHelper.toLong(created.id()), 999999999L, "up")
+        )
+            .isInstanceOf(UserNotFoundException.class);
+    }
+
     @Test
     @DisplayName("testVoteCountsPersisted - Vote counts are persisted to database")
     void testVoteCountsPersisted() {
@@ -178,8 +226,8 @@ class FeedbackVotingTest {
         Long feedbackId = IdHelper.toLong(created.id());
 
         // Vote
-        feedbackService.voteFeedback(feedbackId, "up");
-        feedbackService.voteFeedback(feedbackId, "up");
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
+        feedbackService.voteFeedback(feedbackId, SECOND_VOTER_ID, "up");
 
         // Retrieve from database directly
         Feedback persisted = feedbackRepository.findById(feedbackId);
@@ -201,7 +249,7 @@ class FeedbackVotingTest {
         Long feedbackId = IdHelper.toLong(created.id());
 
         // Try to remove upvote when counter is 0
-        FeedbackResponse result = feedbackService.voteFeedback(feedbackId, "none");
+        FeedbackResponse result = feedbackService.voteFeedback(feedbackId, VOTER_ID, "none");
 
         // Should stay at 0, not go negative
         assertThat(result.upvotes()).isGreaterThanOrEqualTo(0);
@@ -219,7 +267,7 @@ class FeedbackVotingTest {
 
         // Try null direction
         assertThatThrownBy(() ->
-            feedbackService.voteFeedback(IdHelper.toLong(created.id()), null)
+            feedbackService.voteFeedback(IdHelper.toLong(created.id()), VOTER_ID, null)
         )
             .isInstanceOf(Exception.class);
     }
@@ -236,7 +284,7 @@ class FeedbackVotingTest {
 
         // Try empty direction
         assertThatThrownBy(() ->
-            feedbackService.voteFeedback(IdHelper.toLong(created.id()), "")
+            feedbackService.voteFeedback(IdHelper.toLong(created.id()), VOTER_ID, "")
         )
             .isInstanceOf(Exception.class);
     }
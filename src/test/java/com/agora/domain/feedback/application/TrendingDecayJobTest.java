@@ -0,0 +1,81 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.FeedbackSort;
+import com.agora.domain.feedback.model.dto.FeedbackFilter;
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the precomputed trending hot score.
+ * <p>
+ * Verifies that the database trigger refreshes the score when counters change and that
+ * the decay job recomputes scores of recent feedback.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("Trending Hot Score Tests")
+class TrendingDecayJobTest {
+
+    private static final Long SAMPLE_FEEDBACK_ID = 117457749108987400L;
+    private static final Long SAMPLE_USER_ID = 117457749108987388L;
+
+    @Inject
+    TrendingDecayJob trendingDecayJob;
+
+    @Inject
+    FeedbackRepository feedbackRepository;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    @Test
+    @TestTransaction
+    @DisplayName("testCounterChangeRefreshesScore - Voted feedback moves to the top of the trending order")
+    void testCounterChangeRefreshesScore() {
+        feedbackRepository.getEntityManager()
+                .createNativeQuery("UPDATE feedback SET upvotes = upvotes + 1000000 WHERE id = :id")
+                .setParameter("id", SAMPLE_FEEDBACK_ID)
+                .executeUpdate();
+
+        var top = feedbackRepository.findViewPage(FeedbackFilter.NONE, FeedbackSort.TRENDING, 0, 1);
+
+        assertThat(top).hasSize(1);
+        assertThat(top.getFirst().id()).isEqualTo(SAMPLE_FEEDBACK_ID);
+    }
+
+    @Test
+    @DisplayName("testDecayRecomputesRecentScores - Stale scores of recent feedback are recomputed")
+    void testDecayRecomputesRecentScores() {
+        var created = feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Trending decay feedback")
+                .description("Feedback used to verify the trending decay job")
+                .build(), IdHelper.toString(SAMPLE_USER_ID));
+        Long id = IdHelper.toLong(created.id());
+
+        try {
+            QuarkusTransaction.requiringNew().run(() -> feedbackRepository.getEntityManager()
+                    .createNativeQuery("UPDATE feedback SET hot_score = 999 WHERE id = :id")
+                    .setParameter("id", id)
+                    .executeUpdate());
+
+            assertThat(trendingDecayJob.decay()).isPositive();
+
+            Number score = QuarkusTransaction.requiringNew().call(() -> (Number) feedbackRepository.getEntityManager()
+                    .createNativeQuery("SELECT hot_score FROM feedback WHERE id = :id")
+                    .setParameter("id", id)
+                    .getSingleResult());
+            assertThat(score.doubleValue()).isEqualTo(0.0);
+        } finally {
+            feedbackService.deleteFeedback(id);
+        }
+    }
+}
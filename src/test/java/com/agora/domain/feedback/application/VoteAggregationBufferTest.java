@@ -0,0 +1,141 @@
+package com.agora.domain.feedback.application;
+
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.VoteCounterMode;
+import com.agora.domain.feedback.model.dto.FeedbackResponse;
+import com.agora.domain.feedback.model.dto.FeedbackView;
+import com.agora.domain.feedback.model.dto.VoteDelta;
+import com.agora.domain.feedback.model.repository.CategoryRepository;
+import com.agora.domain.feedback.model.repository.CommentRepository;
+import com.agora.domain.feedback.model.repository.FeedbackRepository;
+import com.agora.domain.user.model.repository.ReputationEventRepository;
+import com.agora.domain.user.model.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the write-behind vote counter buffer.
+ * <p>
+ * Verifies that buffered deltas are coalesced and written by a flush, that votes in the
+ * write-behind counter mode count buffered deltas, and that deltas of rolled back
+ * transactions are never buffered.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("Vote Aggregation Buffer Tests")
+class VoteAggregationBufferTest {
+
+    private static final Long SAMPLE_USER_ID = 117457749108987388L;
+    private static final Long VOTER_ID = 117457749108987389L;
+    private static final Long SECOND_VOTER_ID = 117457749108987390L;
+
+    @Inject
+    VoteAggregationBuffer voteBuffer;
+
+    @Inject
+    FeedbackRepository feedbackRepository;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    CommentRepository commentRepository;
+
+    @Inject
+    CategoryRegistry categoryRegistry;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    ReputationEventRepository reputationEventRepository;
+
+    private Long feedbackId;
+
+    @BeforeEach
+    void setUp() {
+        feedbackId = IdHelper.toLong(feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Write-behind voting feedback")
+                .description("Feedback used to verify the vote aggregation buffer")
+                .build(), IdHelper.toString(SAMPLE_USER_ID)).id());
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedbackService.deleteFeedback(feedbackId);
+    }
+
+    @Test
+    @DisplayName("testFlushWritesCoalescedDeltas - Parallel buffered votes are written by a flush")
+    void testFlushWritesCoalescedDeltas() {
+        IntStream.range(0, 1000).parallel()
+                .forEach(i -> voteBuffer.addAfterCommit(feedbackId, i % 4 == 0 ? new VoteDelta(0, 1) : new VoteDelta(1, 0)));
+
+        voteBuffer.flush();
+
+        FeedbackView result = QuarkusTransaction.requiringNew()
+                .call(() -> feedbackRepository.findViewById(feedbackId).orElseThrow());
+        assertThat(result.upvotes()).isEqualTo(750);
+        assertThat(result.downvotes()).isEqualTo(250);
+        assertThat(voteBuffer.pending(feedbackId)).isEqualTo(VoteDelta.ZERO);
+    }
+
+    @Test
+    @DisplayName("testWriteBehindVoteCountsPendingDeltas - A vote's response includes buffered, unwritten votes")
+    void testWriteBehindVoteCountsPendingDeltas() {
+        FeedbackApplicationService writeBehindService = writeBehindService();
+
+        QuarkusTransaction.requiringNew().run(() -> writeBehindService.voteFeedback(feedbackId, VOTER_ID, "up"));
+        FeedbackResponse voted = QuarkusTransaction.requiringNew()
+                .call(() -> writeBehindService.voteFeedback(feedbackId, SECOND_VOTER_ID, "up"));
+
+        // The first vote is still buffered, the second one is counted by the response itself
+        assertThat(voted.upvotes()).isEqualTo(2);
+        assertThat(voteBuffer.pending(feedbackId)).isEqualTo(new VoteDelta(2, 0));
+        assertThat(storedView().upvotes()).isZero();
+
+        voteBuffer.flush();
+
+        assertThat(storedView().upvotes()).isEqualTo(2);
+        assertThat(voteBuffer.pending(feedbackId)).isEqualTo(VoteDelta.ZERO);
+    }
+
+    @Test
+    @DisplayName("testRolledBackVoteIsNotBuffered - Deltas are only buffered after the transaction commits")
+    void testRolledBackVoteIsNotBuffered() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            voteBuffer.addAfterCommit(feedbackId, new VoteDelta(1, 0));
+            QuarkusTransaction.setRollbackOnly();
+        });
+
+        assertThat(voteBuffer.pending(feedbackId)).isEqualTo(VoteDelta.ZERO);
+    }
+
+    private FeedbackView storedView() {
+        return QuarkusTransaction.requiringNew().call(() -> feedbackRepository.findViewById(feedbackId).orElseThrow());
+    }
+
+    /** The application service as configured for the write-behind counter mode. */
+    private FeedbackApplicationService writeBehindService() {
+        return new FeedbackApplicationService(feedbackRepository, categoryRepository, userRepository,
+                commentRepository, categoryRegistry, objectMapper, voteBuffer, VoteCounterMode.WRITE_BEHIND, 8,
+                reputationEventRepository);
+    }
+}
@@ -5,6 +5,8 @@ import com.agora.domain.feedback.model.entity.FeedbackCategory;
 import com.agora.domain.feedback.model.entity.FeedbackStatus;
 import com.agora.domain.user.model.User;
 
+import java.util.List;
+
 /**
  * Fixtures for Feedback entities.
  * <p>
@@ -151,9 +153,9 @@ public class FeedbackFixtures {
         return feedback;
     }
 
-    public static Feedback feedbackWithTags(String tags) {
+    public static Feedback feedbackWithTags(String... tags) {
         Feedback feedback = new Feedback("Test Feedback", "Test description");
-        feedback.setTags(tags);
+        feedback.changeTags(List.of(tags));
         feedback.setAuthor(UserFixtures.standardUser());
         return feedback;
     }
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -279,10 +282,33 @@ class FeedbackEntityTest {
     @DisplayName("testSetTags_UpdatesTags - Tags field can be updated")
     void testSetTags_UpdatesTags() {
         // Act
-        feedback.setTags("tag1,tag2,tag3");
+        feedback.setTags(List.of("tag1", "tag2", "tag3"));
+
+        // Assert
+        assertThat(feedback.getTags()).containsExactly("tag1", "tag2", "tag3");
+    }
+
+    @Test
+    @DisplayName("testChangeTags_NormalizesTags - Tags are trimmed, lower-cased, de-duplicated and sorted")
+    void testChangeTags_NormalizesTags() {
+        // Act
+        feedback.changeTags(Arrays.asList(" UI ", "accessibility", "ui", "", null, "dark,mode"));
+
+        // Assert
+        assertThat(feedback.getTags()).containsExactly("accessibility", "darkmode", "ui");
+    }
+
+    @Test
+    @DisplayName("testChangeTags_NullClearsTags - Null removes all tags")
+    void testChangeTags_NullClearsTags() {
+        // Arrange
+        feedback.changeTags(List.of("ui"));
+
+        // Act
+        feedback.changeTags(null);
 
         // Assert
-        assertThat(feedback.getTags()).isEqualTo("tag1,tag2,tag3");
+        assertThat(feedback.getTags()).isEmpty();
     }
 
     @Test
@@ -0,0 +1,227 @@
+package com.agora.domain.feedback.model.repository;
+
+import com.agora.domain.feedback.application.FeedbackApplicationService;
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.exception.FeedbackNotFoundException;
+import com.agora.domain.feedback.exception.InvalidCursorException;
+import com.agora.domain.feedback.model.CommentSort;
+import com.agora.domain.feedback.model.dto.CommentFilter;
+import com.agora.domain.feedback.model.dto.CommentResponse;
+import com.agora.domain.feedback.model.dto.CommentView;
+import com.agora.domain.feedback.model.dto.CreateCommentRequest;
+import com.agora.domain.feedback.model.entity.Comment;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the projection-based comment listing of CommentRepository.
+ * <p>
+ * Uses Hibernate statistics to verify that a comment listing or reply subtree, including
+ * the check that the feedback item exists, is served by a single SQL statement without
+ * loading entities.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("CommentRepository Projection Tests")
+class CommentRepositoryTest {
+
+    @Inject
+    CommentRepository commentRepository;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private Statistics statistics;
+    private Long feedbackId;
+
+    @BeforeEach
+    void setUp() {
+        var feedback = feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Comment Projection Feedback")
+                .description("This feedback has comments for testing the listing projection")
+                .build(), IdHelper.toString(117457749108987388L));
+        feedbackId = IdHelper.toLong(feedback.id());
+        for (int i = 0; i < 3; i++) {
+            feedbackService.addComment(feedbackId, 117457749108987389L, new CreateCommentRequest("Projection comment " + i));
+        }
+
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("testFindViewsByFeedbackId_SingleStatement - Comments and authors are loaded with one statement")
+    void testFindViewsByFeedbackId_SingleStatement() {
+        var views = commentRepository.findViewsByFeedbackId(feedbackId, CommentFilter.NONE, null, CommentSort.OLDEST, 0);
+
+        assertThat(views).isPresent();
+        assertThat(views.get()).hasSize(3);
+        assertThat(views.get()).allSatisfy(view -> assertThat(view.authorName()).isNotNull());
+        assertThat(views.get()).extracting(CommentView::text)
+                .containsExactly("Projection comment 0", "Projection comment 1", "Projection comment 2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("testFindViewsByFeedbackId_ExistenceFolded - Missing feedback and empty threads need one statement")
+    void testFindViewsByFeedbackId_ExistenceFolded() {
+        var missing = commentRepository.findViewsByFeedbackId(999999999L, CommentFilter.NONE, null, CommentSort.OLDEST, 0);
+
+        assertThat(missing).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        var empty = feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Feedback Without Comments")
+                .description("This feedback has no comments for testing the listing projection")
+                .build(), IdHelper.toString(117457749108987388L));
+        statistics.clear();
+
+        var views = commentRepository.findViewsByFeedbackId(IdHelper.toLong(empty.id()), CommentFilter.NONE, null, CommentSort.TOP, 10);
+
+        assertThat(views).contains(List.of());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("testThread_DisplayOrderAndSubtrees - Threads and subtrees load depth-first with one statement")
+    void testThread_DisplayOrderAndSubtrees() {
+        List<CommentView> roots = commentRepository.findViewsByFeedbackId(feedbackId, CommentFilter.NONE, null,
+                CommentSort.OLDEST, 0).orElseThrow();
+        Long first = roots.get(0).id();
+        Long reply = reply(first, "Reply to comment 0");
+        reply(reply, "Reply to the reply");
+        reply(roots.get(1).id(), "Reply to comment 1");
+        statistics.clear();
+
+        var thread = commentRepository.findViewsByFeedbackId(feedbackId, CommentFilter.NONE, null, CommentSort.THREAD, 0);
+
+        assertThat(thread).isPresent();
+        assertThat(thread.get()).extracting(CommentView::text).containsExactly(
+                "Projection comment 0", "Reply to comment 0", "Reply to the reply",
+                "Projection comment 1", "Reply to comment 1", "Projection comment 2");
+        assertThat(thread.get()).extracting(CommentView::depth).containsExactly(0, 1, 2, 0, 1, 0);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        statistics.clear();
+
+        var subtree = commentRepository.findViewsByFeedbackId(feedbackId, new CommentFilter(first, null), null,
+                CommentSort.THREAD, 0);
+
+        assertThat(subtree).isPresent();
+        assertThat(subtree.get()).extracting(CommentView::text).containsExactly("Reply to comment 0", "Reply to the reply");
+        assertThat(subtree.get().getFirst().parentId()).isEqualTo(first);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        var collapsed = commentRepository.findViewsByFeedbackId(feedbackId, new CommentFilter(null, 0), null,
+                CommentSort.THREAD, 0);
+
+        assertThat(collapsed).isPresent();
+        assertThat(collapsed.get()).extracting(CommentView::replies).containsExactly(1, 1, 0);
+        assertThat(commentRepository.findViewsByFeedbackId(feedbackId, new CommentFilter(999999999L, null), null,
+                CommentSort.THREAD, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("testGetComments_SingleStatement - A page of comments issues one statement")
+    void testGetComments_SingleStatement() {
+        var page = feedbackService.getComments(feedbackId, null, 2, "oldest", null);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextCursor()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        assertThatThrownBy(() -> feedbackService.getCommentsByFeedbackId(999999999L))
+                .isInstanceOf(FeedbackNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("testGetComments_TopAcrossPages - Top cursors keep paging by upvotes after their comment is deleted")
+    void testGetComments_TopAcrossPages() {
+        List<Long> ids = commentRepository.findViewsByFeedbackId(feedbackId, CommentFilter.NONE, null,
+                CommentSort.OLDEST, 0).orElseThrow().stream().map(CommentView::id).toList();
+        for (int i = 0; i < 2; i++) {
+            feedbackService.voteComment(feedbackId, ids.get(1), "up");
+        }
+        feedbackService.voteComment(feedbackId, ids.get(2), "up");
+
+        var first = feedbackService.getComments(feedbackId, null, 1, "top", null);
+
+        assertThat(first.items()).extracting(CommentResponse::text).containsExactly("Projection comment 1");
+        assertThat(first.nextCursor()).isNotNull();
+
+        var second = feedbackService.getComments(feedbackId, first.nextCursor(), 1, "top", null);
+
+        assertThat(second.items()).extracting(CommentResponse::text).containsExactly("Projection comment 2");
+        assertThat(second.nextCursor()).isNotNull();
+
+        QuarkusTransaction.requiringNew().run(() -> commentRepository.delete("id", ids.get(2)));
+        var third = feedbackService.getComments(feedbackId, second.nextCursor(), 1, "top", null);
+
+        assertThat(third.items()).extracting(CommentResponse::text).containsExactly("Projection comment 0");
+        assertThat(third.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("testGetComments_ThreadAcrossPages - Thread cursors keep paging by path after their comment is deleted")
+    void testGetComments_ThreadAcrossPages() {
+        List<Long> ids = commentRepository.findViewsByFeedbackId(feedbackId, CommentFilter.NONE, null,
+                CommentSort.OLDEST, 0).orElseThrow().stream().map(CommentView::id).toList();
+        Long reply = reply(ids.get(0), "Reply to comment 0");
+
+        var first = feedbackService.getComments(feedbackId, null, 2, "thread", null);
+
+        assertThat(first.items()).extracting(CommentResponse::text)
+                .containsExactly("Projection comment 0", "Reply to comment 0");
+        assertThat(first.nextCursor()).isNotNull();
+        assertThatThrownBy(() -> feedbackService.getComments(feedbackId, first.nextCursor(), 2, "top", null))
+                .isInstanceOf(InvalidCursorException.class);
+
+        QuarkusTransaction.requiringNew().run(() -> commentRepository.delete("id", reply));
+        var second = feedbackService.getComments(feedbackId, first.nextCursor(), 2, "thread", null);
+
+        assertThat(second.items()).extracting(CommentResponse::text)
+                .containsExactly("Projection comment 1", "Projection comment 2");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("testAddReply_MaxDepth - Replies nested deeper than the maximum depth are rejected")
+    void testAddReply_MaxDepth() {
+        Long parent = commentRepository.findViewsByFeedbackId(feedbackId, CommentFilter.NONE, null,
+                CommentSort.OLDEST, 0).orElseThrow().getFirst().id();
+        for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+            parent = reply(parent, "Reply at depth " + depth);
+        }
+        Long deepest = parent;
+
+        assertThatThrownBy(() -> reply(deepest, "Reply too deep"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nested");
+        assertThat(commentRepository.findViewsByFeedbackId(feedbackId, new CommentFilter(deepest, null), null,
+                CommentSort.THREAD, 0)).contains(List.of());
+    }
+
+    private Long reply(Long parentId, String text) {
+        return IdHelper.toLong(feedbackService.addComment(feedbackId, 117457749108987389L,
+                new CreateCommentRequest(text, IdHelper.toString(parentId))).id());
+    }
+}
@@ -0,0 +1,138 @@
+package com.agora.domain.feedback.model.repository;
+
+import com.agora.domain.feedback.application.FeedbackApplicationService;
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.application.dto.UpdateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.FeedbackSort;
+import com.agora.domain.feedback.model.dto.FeedbackFilter;
+import com.agora.domain.feedback.model.dto.FeedbackView;
+import com.agora.domain.feedback.model.entity.FeedbackStatus;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the projection-based read paths of FeedbackRepository.
+ * <p>
+ * Uses Hibernate statistics to verify that list and detail reads are served by a single
+ * SQL statement and never hydrate entities into the persistence context, and that votes
+ * and updates do not look up the feedback's associations one by one.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("FeedbackRepository Projection Tests")
+class FeedbackRepositoryTest {
+
+    @Inject
+    FeedbackRepository feedbackRepository;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private Statistics statistics;
+
+    private static final Long AUTHOR_ID = 117457749108987388L;
+    private static final Long VOTER_ID = 117457749108987389L;
+
+    @BeforeEach
+    void setUp() {
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("testFindViewPage_SingleStatement - A page of views is loaded with one statement")
+    void testFindViewPage_SingleStatement() {
+        List<FeedbackView> page = feedbackRepository.findViewPage(FeedbackFilter.NONE, FeedbackSort.NEWEST, 0, 100);
+
+        assertThat(page).isNotEmpty();
+        assertThat(page).allSatisfy(view -> assertThat(view.authorName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("testFindViewById_SingleStatement - Detail view is loaded with one statement")
+    void testFindViewById_SingleStatement() {
+        Long id = feedbackRepository.findViewPage(FeedbackFilter.NONE, FeedbackSort.NEWEST, 0, 1).getFirst().id();
+        statistics.clear();
+
+        var view = feedbackRepository.findViewById(id);
+
+        assertThat(view).isPresent();
+        assertThat(view.get().id()).isEqualTo(id);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("testListAll_StatementCountIndependentOfPageSize - Larger pages issue no extra statements")
+    void testListAll_StatementCountIndependentOfPageSize() {
+        feedbackService.getAllFeedbacksPaginated(1, 5, "newest", FeedbackFilter.NONE, false);
+        long smallPageStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        feedbackService.getAllFeedbacksPaginated(1, 100, "newest", FeedbackFilter.NONE, false);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(smallPageStatements);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("testVoteFeedback_SingleStatement - A vote is recorded and returned with one statement")
+    void testVoteFeedback_SingleStatement() {
+        Long id = createFeedback();
+        statistics.clear();
+
+        var voted = feedbackService.voteFeedback(id, VOTER_ID, "up");
+
+        assertThat(voted.upvotes()).isEqualTo(1);
+        assertThat(voted.authorName()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        feedbackService.deleteFeedback(id);
+    }
+
+    @Test
+    @DisplayName("testUpdateFeedback_TwoStatements - An update loads the feedback with its author in one select")
+    void testUpdateFeedback_TwoStatements() {
+        Long id = createFeedback();
+        statistics.clear();
+
+        var updated = feedbackService.updateFeedback(id, UpdateFeedbackCommand.builder()
+                .title("Statement count feedback updated")
+                .description("Feedback used to count the statements of votes and updates")
+                .status(FeedbackStatus.PENDING)
+                .authorId(AUTHOR_ID)
+                .build(), AUTHOR_ID);
+
+        assertThat(updated.title()).isEqualTo("Statement count feedback updated");
+        assertThat(updated.authorName()).isNotNull();
+        // The joined select of the feedback and its author, then the flushed update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2);
+        feedbackService.deleteFeedback(id);
+    }
+
+    private Long createFeedback() {
+        return IdHelper.toLong(feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Statement count feedback")
+                .description("Feedback used to count the statements of votes and updates")
+                .build(), IdHelper.toString(AUTHOR_ID)).id());
+    }
+}
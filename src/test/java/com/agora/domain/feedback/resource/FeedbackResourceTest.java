@@ -6,7 +6,10 @@ import com.agora.domain.feedback.common.IdHelper;
 import com.agora.domain.feedback.model.dto.CommentResponse;
 import com.agora.domain.feedback.model.dto.CreateCommentRequest;
 import com.agora.domain.feedback.model.dto.FeedbackResponse;
+import com.agora.domain.feedback.model.dto.PaginatedCommentResponse;
 import com.agora.domain.feedback.model.dto.PaginatedFeedbackResponse;
+import com.agora.domain.feedback.model.dto.TagFacet;
+import com.agora.domain.feedback.model.dto.VoteRequest;
 import com.agora.domain.feedback.model.entity.FeedbackStatus;
 import com.agora.domain.user.infrastructure.security.JwtService;
 import com.agora.domain.user.model.repository.UserRepository;
@@ -17,7 +20,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -469,10 +478,11 @@ class FeedbackResourceTest {
                 .get(createdFeedback.id() + "/comments")
                 .then()
                 .statusCode(200)
-                .extract().body().as(CommentResponse[].class);
+                .extract().body().as(PaginatedCommentResponse.class);
 
         assertThat(response).isNotNull();
-        assertThat(response).isEmpty();
+        assertThat(response.items()).isEmpty();
+        assertThat(response.nextCursor()).isNull();
     }
 
     @Test
@@ -500,9 +510,9 @@ class FeedbackResourceTest {
                 .get( createdFeedback.id() + "/comments")
                 .then()
                 .statusCode(200)
-                .extract().body().as(CommentResponse[].class);
+                .extract().body().as(PaginatedCommentResponse.class);
 
-        assertThat(comments).isEmpty();
+        assertThat(comments.items()).isEmpty();
     }
 
     @Test
@@ -550,6 +560,20 @@ class FeedbackResourceTest {
         assertThat(response).isNotNull();
         assertThat(response.text()).isEqualTo(commentRequest.text());
         assertThat(response.id()).isNotNull();
+        assertThat(response.author().id()).isEqualTo(IdHelper.toString(117457749108987388L));
+    }
+
+    @Test
+    @DisplayName("testAddComment_Unauthenticated - Returns 403 without a token")
+    void testAddComment_Unauthenticated() {
+        var commentRequest = new CreateCommentRequest("Anonymous comments are not accepted.");
+
+        given()
+                .contentType("application/json")
+                .body(commentRequest)
+                .when().put(INVALID_FEEDBACK_ID + "/comments")
+                .then()
+                .statusCode(403);
     }
 
     @Test
@@ -638,6 +662,147 @@ class FeedbackResourceTest {
                 .statusCode(400);
     }
 
+    @Test
+    @DisplayName("testGetComments_CursorPagination - Pages through comments in creation order")
+    void testGetComments_CursorPagination() {
+        var command = CreateFeedbackCommand.builder()
+                .title("Feedback with a Long Thread")
+                .description("This feedback gets several comments to page through with a cursor")
+                .build();
+
+        var createdFeedback = given()
+                .contentType("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .body(command)
+                .when().post()
+                .then()
+                .statusCode(201)
+                .extract().body().as(FeedbackResponse.class);
+
+        List<String> createdIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            createdIds.add(given()
+                    .contentType("application/json")
+                    .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                    .body(new CreateCommentRequest("Comment number " + i + " in a long thread"))
+                    .when().put(createdFeedback.id() + "/comments")
+                    .then()
+                    .statusCode(201)
+                    .extract().body().as(CommentResponse.class).id());
+        }
+
+        List<String> pagedIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = given()
+                    .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                    .queryParam("pageSize", 2);
+            if (cursor != null) {
+                request.queryParam("cursor", cursor);
+            }
+            var page = request
+                    .when().get(createdFeedback.id() + "/comments")
+                    .then()
+                    .statusCode(200)
+                    .extract().body().as(PaginatedCommentResponse.class);
+
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().forEach(comment -> pagedIds.add(comment.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(pagedIds).containsExactlyElementsOf(createdIds);
+
+        // A creation-order cursor cannot continue the top listing
+        var firstPage = given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("pageSize", 2)
+                .when().get(createdFeedback.id() + "/comments")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedCommentResponse.class);
+
+        given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("sortBy", "top")
+                .queryParam("cursor", firstPage.nextCursor())
+                .when().get(createdFeedback.id() + "/comments")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testAddReply_GetReplies - Replies are listed below the comment they answer")
+    void testAddReply_GetReplies() {
+        var command = CreateFeedbackCommand.builder()
+                .title("Feedback with Replies")
+                .description("This feedback gets a comment with a reply to test threaded comments")
+                .build();
+
+        var createdFeedback = given()
+                .contentType("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .body(command)
+                .when().post()
+                .then()
+                .statusCode(201)
+                .extract().body().as(FeedbackResponse.class);
+
+        var parent = given()
+                .contentType("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .body(new CreateCommentRequest("Top-level comment"))
+                .when().put(createdFeedback.id() + "/comments")
+                .then()
+                .statusCode(201)
+                .extract().body().as(CommentResponse.class);
+
+        var reply = given()
+                .contentType("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .body(new CreateCommentRequest("Reply to the top-level comment", parent.id()))
+                .when().put(createdFeedback.id() + "/comments")
+                .then()
+                .statusCode(201)
+                .extract().body().as(CommentResponse.class);
+
+        assertThat(reply.parentId()).isEqualTo(parent.id());
+        assertThat(reply.depth()).isEqualTo(1);
+
+        var topLevel = given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("sortBy", "thread")
+                .queryParam("maxDepth", 0)
+                .when().get(createdFeedback.id() + "/comments")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedCommentResponse.class);
+
+        assertThat(topLevel.items()).singleElement()
+                .satisfies(comment -> assertThat(comment.replies()).isEqualTo(1));
+
+        var replies = given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .when().get(createdFeedback.id() + "/comments/" + parent.id() + "/replies")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedCommentResponse.class);
+
+        assertThat(replies.items()).extracting(CommentResponse::id).containsExactly(reply.id());
+
+        // Replying to a comment of another feedback item is rejected
+        given()
+                .contentType("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .body(new CreateCommentRequest("Misplaced reply", INVALID_FEEDBACK_ID))
+                .when().put(createdFeedback.id() + "/comments")
+                .then()
+                .statusCode(400);
+    }
+
     // ===== PAGINATION TESTS =====
 
     @Test
@@ -725,4 +890,416 @@ class FeedbackResourceTest {
         assertThat(response.pageSize()).isLessThanOrEqualTo(100);
     }
 
+    @Test
+    @DisplayName("testListAll_CursorPagination - Following 'next' returns the subsequent page without overlap")
+    void testListAll_CursorPagination() {
+        var firstPage = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("pageSize", 5)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(firstPage.nextCursor()).isNotNull();
+
+        var secondPage = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("pageSize", 5)
+                .queryParam("cursor", firstPage.nextCursor())
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        var offsetSecondPage = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("pageSize", 5)
+                .queryParam("page", 2)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(secondPage.items()).hasSize(5);
+        assertThat(secondPage.items()).extracting(FeedbackResponse::id)
+                .doesNotContainAnyElementsOf(firstPage.items().stream().map(FeedbackResponse::id).toList())
+                .containsExactlyElementsOf(offsetSecondPage.items().stream().map(FeedbackResponse::id).toList());
+    }
+
+    @Test
+    @DisplayName("testListAll_InvalidCursor - Returns 400 for a malformed cursor")
+    void testListAll_InvalidCursor() {
+        given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("cursor", "not-a-cursor")
+                .when()
+                .get()
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testListAll_IncludeTotal - Exact total is reported when requested")
+    void testListAll_IncludeTotal() {
+        var response = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("includeTotal", true)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(response.approximate()).isFalse();
+        assertThat(response.totalItems()).isPositive();
+        assertThat(response.totalPages()).isEqualTo((int) Math.ceil((double) response.totalItems() / response.pageSize()));
+    }
+
+
+    @Test
+    @DisplayName("testListAll_Search - Full-text search returns the best match first")
+    void testListAll_Search() {
+        var response = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("search", "dark mode")
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(response.items()).isNotEmpty();
+        assertThat(response.items().getFirst().id()).isEqualTo(IdHelper.toString(117457749108987399L));
+        assertThat(response.items().getFirst().title()).isEqualTo("Dark mode support needed");
+    }
+
+    @Test
+    @DisplayName("testListAll_SearchCursorPagination - Search pages follow the cursor without duplicates")
+    void testListAll_SearchCursorPagination() {
+        var first = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("search", "api")
+                .queryParam("pageSize", 1)
+                .queryParam("includeTotal", true)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(first.totalItems()).isGreaterThan(1);
+        assertThat(first.nextCursor()).isNotNull();
+
+        var second = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("search", "api")
+                .queryParam("pageSize", 1)
+                .queryParam("cursor", first.nextCursor())
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.items().getFirst().id()).isNotEqualTo(first.items().getFirst().id());
+    }
+
+    @Test
+    @DisplayName("testListAll_SearchCursorMismatch - Cursor from other search terms returns 400")
+    void testListAll_SearchCursorMismatch() {
+        var first = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("search", "api")
+                .queryParam("pageSize", 1)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("search", "database")
+                .queryParam("cursor", first.nextCursor())
+                .when()
+                .get()
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testListAll_FilterByStatusAndCategory - Only feedback matching every filter is returned")
+    void testListAll_FilterByStatusAndCategory() {
+        var response = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("status", "pending")
+                .queryParam("categoryId", 117457749108987393L)
+                .queryParam("archived", false)
+                .queryParam("pageSize", 20)
+                .queryParam("includeTotal", true)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(response.items()).isNotEmpty();
+        assertThat(response.items()).allSatisfy(item -> {
+            assertThat(item.status()).isEqualTo(FeedbackStatus.PENDING);
+            assertThat(item.categoryName()).isEqualTo("Bug Report");
+            assertThat(item.archived()).isFalse();
+        });
+        assertThat(response.totalItems()).isGreaterThanOrEqualTo(response.items().size());
+    }
+
+    @Test
+    @DisplayName("testListAll_FilterByDateRange - Only feedback created inside the range is returned")
+    void testListAll_FilterByDateRange() {
+        OffsetDateTime from = OffsetDateTime.parse("2025-11-01T00:00:00Z");
+        OffsetDateTime to = OffsetDateTime.parse("2025-11-15T00:00:00Z");
+
+        var response = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("from", from.toString())
+                .queryParam("to", to.toString())
+                .queryParam("pageSize", 20)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(response.items()).isNotEmpty();
+        assertThat(response.items()).allSatisfy(item ->
+                assertThat(item.createdAt()).isAfterOrEqualTo(from).isBefore(to));
+    }
+
+    @Test
+    @DisplayName("testListAll_InvalidStatusFilter - Unknown status returns 400")
+    void testListAll_InvalidStatusFilter() {
+        given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("status", "UNKNOWN")
+                .when()
+                .get()
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testListAll_TrendingCursorPagination - Trending pages follow the cursor without duplicates")
+    void testListAll_TrendingCursorPagination() {
+        var first = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("sortBy", "trending")
+                .queryParam("pageSize", 5)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(first.nextCursor()).isNotNull();
+
+        var second = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("sortBy", "trending")
+                .queryParam("pageSize", 5)
+                .queryParam("cursor", first.nextCursor())
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        var firstIds = first.items().stream().map(FeedbackResponse::id).toList();
+        assertThat(second.items()).isNotEmpty();
+        assertThat(second.items()).noneSatisfy(item -> assertThat(firstIds).contains(item.id()));
+    }
+
+    @Test
+    @DisplayName("testListAll_TrendingCursorMismatch - Newest-order cursor is rejected for trending")
+    void testListAll_TrendingCursorMismatch() {
+        var first = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("pageSize", 1)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("sortBy", "trending")
+                .queryParam("cursor", first.nextCursor())
+                .when()
+                .get()
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testListAll_FilterByTag - Only feedback carrying the tag is returned")
+    void testListAll_FilterByTag() {
+        var response = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("tag", "Security")
+                .queryParam("pageSize", 20)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(response.items()).isNotEmpty();
+        assertThat(response.items()).allSatisfy(item -> assertThat(item.tags()).contains("security"));
+        assertThat(response.tagFacets()).isNull();
+    }
+
+    @Test
+    @DisplayName("testListAll_TagFacets - Facet counts cover the whole filtered list")
+    void testListAll_TagFacets() {
+        var response = given()
+                .accept("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("tag", "security")
+                .queryParam("facets", true)
+                .queryParam("includeTotal", true)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+
+        assertThat(response.tagFacets()).isNotEmpty();
+        assertThat(response.tagFacets())
+                .anySatisfy(facet -> {
+                    assertThat(facet.tag()).isEqualTo("security");
+                    assertThat(facet.count()).isEqualTo(response.totalItems());
+                });
+        assertThat(response.tagFacets())
+                .extracting(TagFacet::count)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("testUserVote_ListAndDetail - List and detail views carry the current user's vote")
+    void testUserVote_ListAndDetail() {
+        var command = CreateFeedbackCommand.builder()
+                .title("User vote feedback")
+                .description("Feedback used to verify the current user's vote in responses")
+                .build();
+        var created = given()
+                .contentType("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .body(command)
+                .when().post()
+                .then()
+                .statusCode(201)
+                .extract().body().as(FeedbackResponse.class);
+
+        var voted = given()
+                .contentType("application/json")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .body(new VoteRequest("down"))
+                .when().post(created.id() + "/upvote")
+                .then()
+                .statusCode(200)
+                .extract().body().as(FeedbackResponse.class);
+        assertThat(voted.userVote()).isEqualTo("down");
+
+        var detail = given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .when().get(created.id())
+                .then()
+                .statusCode(200)
+                .extract().body().as(FeedbackResponse.class);
+        assertThat(detail.userVote()).isEqualTo("down");
+
+        var page = given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("sortBy", "newest")
+                .queryParam("pageSize", 20)
+                .when().get()
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedFeedbackResponse.class);
+        assertThat(page.items()).allSatisfy(item -> assertThat(item.userVote()).isNotNull());
+        assertThat(page.items())
+                .filteredOn(item -> item.id().equals(created.id()))
+                .singleElement()
+                .satisfies(item -> assertThat(item.userVote()).isEqualTo("down"));
+    }
+
+    @Test
+    @DisplayName("testExport_Ndjson - Export streams one JSON object per line")
+    void testExport_Ndjson() {
+        String body = given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .when()
+                .get("/export")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract().asString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).isNotEmpty();
+        assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+    }
+
+    @Test
+    @DisplayName("testExport_Csv - Export streams a header row followed by one row per feedback")
+    void testExport_Csv() {
+        String body = given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("format", "csv")
+                .when()
+                .get("/export")
+                .then()
+                .statusCode(200)
+                .contentType("text/csv")
+                .header("Content-Disposition", containsString("feedback.csv"))
+                .extract().asString();
+
+        assertThat(body).startsWith("id,title,description,sentiment,upvotes");
+        assertThat(body.split("\n").length).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("testExport_InvalidFormat - Unknown export format returns 400")
+    void testExport_InvalidFormat() {
+        given()
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN)
+                .queryParam("format", "xml")
+                .when()
+                .get("/export")
+                .then()
+                .statusCode(400);
+    }
+
 }
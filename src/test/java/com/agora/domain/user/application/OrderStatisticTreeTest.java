@@ -0,0 +1,63 @@
+package com.agora.domain.user.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for OrderStatisticTree.
+ * <p>
+ * Checks positional queries against a {@link TreeSet} after random inserts and removals.
+ * </p>
+ */
+@DisplayName("OrderStatisticTree Tests")
+class OrderStatisticTreeTest {
+
+    @Test
+    @DisplayName("testAddRemove - Duplicates and missing keys are rejected")
+    void testAddRemove() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+
+        assertThat(tree.add(5)).isTrue();
+        assertThat(tree.add(5)).isFalse();
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.remove(7)).isFalse();
+        assertThat(tree.remove(5)).isTrue();
+        assertThat(tree.contains(5)).isFalse();
+        assertThat(tree.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("testPositions - Ranks and ranges match a sorted set")
+    void testPositions() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(tree.add(key)).isEqualTo(expected.add(key));
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.range(0, expected.size())).containsExactlyElementsOf(expected);
+        for (int key = -1; key <= 2000; key += 7) {
+            assertThat(tree.countLess(key)).isEqualTo(expected.headSet(key).size());
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertThat(tree.range(100, 10)).containsExactlyElementsOf(sorted.subList(100, 110));
+        assertThat(tree.range(sorted.size() - 3, 10)).containsExactlyElementsOf(sorted.subList(sorted.size() - 3, sorted.size()));
+        assertThat(tree.range(sorted.size(), 10)).isEqualTo(Collections.emptyList());
+    }
+}
@@ -0,0 +1,135 @@
+package com.agora.domain.user.application;
+
+import com.agora.domain.feedback.application.FeedbackApplicationService;
+import com.agora.domain.feedback.application.dto.CreateFeedbackCommand;
+import com.agora.domain.feedback.application.dto.UpdateFeedbackCommand;
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.feedback.model.dto.CreateCommentRequest;
+import com.agora.domain.feedback.model.entity.FeedbackStatus;
+import com.agora.domain.user.model.repository.ReputationEventRepository;
+import com.agora.domain.user.model.repository.UserRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the reputation ledger and its aggregation job.
+ * <p>
+ * Verifies that votes, comments and status changes only append reputation events, and
+ * that the aggregation job folds them into user scores and the in-memory ranking.
+ * </p>
+ */
+@QuarkusTest
+@DisplayName("Reputation Aggregation Tests")
+class ReputationAggregationJobTest {
+
+    private static final Long AUTHOR_ID = 117457749108987388L;
+    private static final Long COMMENTER_ID = 117457749108987389L;
+    private static final Long VOTER_ID = 117457749108987390L;
+
+    @Inject
+    ReputationAggregationJob reputationAggregationJob;
+
+    @Inject
+    ReputationEventRepository reputationEventRepository;
+
+    @Inject
+    ReputationRanking reputationRanking;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    FeedbackApplicationService feedbackService;
+
+    private Long feedbackId;
+
+    @BeforeEach
+    void setUp() {
+        // Fold events left behind by other tests
+        reputationAggregationJob.aggregate();
+        feedbackId = IdHelper.toLong(feedbackService.createFeedback(CreateFeedbackCommand.builder()
+                .title("Reputation feedback")
+                .description("Feedback used to verify reputation aggregation")
+                .build(), IdHelper.toString(AUTHOR_ID)).id());
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedbackService.deleteFeedback(feedbackId);
+    }
+
+    @Test
+    @DisplayName("testVotesAndCommentsAreAggregated - Events are folded into scores once per user")
+    void testVotesAndCommentsAreAggregated() {
+        int authorScore = scoreOf(AUTHOR_ID);
+        int commenterScore = scoreOf(COMMENTER_ID);
+
+        feedbackService.voteFeedback(feedbackId, COMMENTER_ID, "up");
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "down");
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
+        // Neither a repeated vote nor a vote on one's own feedback earns reputation
+        feedbackService.voteFeedback(feedbackId, VOTER_ID, "up");
+        feedbackService.voteFeedback(feedbackId, AUTHOR_ID, "up");
+        feedbackService.addComment(feedbackId, COMMENTER_ID, new CreateCommentRequest("Reputation comment"));
+
+        assertThat(QuarkusTransaction.requiringNew().call(() ->
+                reputationEventRepository.count("feedbackId = ?1 and aggregated = false", feedbackId))).isEqualTo(4);
+        assertThat(scoreOf(AUTHOR_ID)).isEqualTo(authorScore);
+
+        assertThat(reputationAggregationJob.aggregate()).isEqualTo(4);
+
+        // +10, -2, then +12 for the vote changed from down to up
+        assertThat(scoreOf(AUTHOR_ID)).isEqualTo(authorScore + 20);
+        assertThat(scoreOf(COMMENTER_ID)).isEqualTo(commenterScore + 2);
+        assertThat(reputationRanking.find(AUTHOR_ID)).hasValueSatisfying(entry ->
+                assertThat(entry.reputationScore()).isEqualTo(authorScore + 20));
+        assertThat(reputationAggregationJob.aggregate()).isZero();
+    }
+
+    @Test
+    @DisplayName("testCommentVotesAreNotCredited - Anonymous comment votes append no reputation events")
+    void testCommentVotesAreNotCredited() {
+        Long commentId = IdHelper.toLong(feedbackService.addComment(feedbackId, COMMENTER_ID,
+                new CreateCommentRequest("Comment voted on repeatedly")).id());
+        reputationAggregationJob.aggregate();
+        int commenterScore = scoreOf(COMMENTER_ID);
+
+        feedbackService.voteComment(feedbackId, commentId, "up");
+        feedbackService.voteComment(feedbackId, commentId, "up");
+        feedbackService.voteComment(feedbackId, commentId, "down");
+        feedbackService.voteComment(feedbackId, commentId, "down");
+
+        assertThat(reputationAggregationJob.aggregate()).isZero();
+        assertThat(scoreOf(COMMENTER_ID)).isEqualTo(commenterScore);
+    }
+
+    @Test
+    @DisplayName("testStatusChangesAreAggregated - Reverting a status gives its reputation back")
+    void testStatusChangesAreAggregated() {
+        int authorScore = scoreOf(AUTHOR_ID);
+
+        feedbackService.updateFeedback(feedbackId, UpdateFeedbackCommand.builder()
+                .title("Reputation feedback")
+                .description("Feedback used to verify reputation aggregation")
+                .status(FeedbackStatus.COMPLETED)
+                .authorId(AUTHOR_ID)
+                .build());
+        assertThat(reputationAggregationJob.aggregate()).isEqualTo(1);
+        assertThat(scoreOf(AUTHOR_ID)).isEqualTo(authorScore + 25);
+
+        feedbackService.reopenFeedback(feedbackId);
+        assertThat(reputationAggregationJob.aggregate()).isEqualTo(1);
+        assertThat(scoreOf(AUTHOR_ID)).isEqualTo(authorScore);
+    }
+
+    private int scoreOf(Long userId) {
+        return QuarkusTransaction.requiringNew().call(() -> userRepository.findById(userId).reputationScore);
+    }
+}
@@ -1,17 +1,26 @@
 package com.agora.domain.user.resource;
 
+import com.agora.domain.feedback.common.IdHelper;
+import com.agora.domain.user.application.LeaderboardWindowJob;
+import com.agora.domain.user.application.ReputationAggregationJob;
+import com.agora.domain.user.application.ReputationRanking;
+import com.agora.domain.user.model.ReputationEventType;
 import com.agora.domain.user.model.Role;
 import com.agora.domain.user.model.User;
 import com.agora.domain.user.model.dto.LeaderboardEntry;
 import com.agora.domain.user.model.dto.PaginatedLeaderboardResponse;
+import com.agora.domain.user.model.repository.ReputationEventRepository;
 import com.agora.domain.user.model.repository.UserRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.*;
 
@@ -23,15 +32,40 @@ import static org.assertj.core.api.Assertions.*;
 class UserResourceTest {
 
     private static final String USERS_URL = "/api/v1/users";
+    private static final Long CATEGORY_ID = 117457749108987394L;
+    private static final Long OTHER_CATEGORY_ID = 117457749108987397L;
+    /** Seeded feedback items in {@link #CATEGORY_ID} and in another category. */
+    private static final Long CATEGORY_FEEDBACK_ID = 117457749108987401L;
+    private static final Long OTHER_CATEGORY_FEEDBACK_ID = 117457749108987481L;
 
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    ReputationRanking reputationRanking;
+
+    @Inject
+    ReputationEventRepository reputationEventRepository;
+
+    @Inject
+    ReputationAggregationJob reputationAggregationJob;
+
+    @Inject
+    LeaderboardWindowJob leaderboardWindowJob;
+
+    private final List<Long> userIds = new ArrayList<>();
+
     @BeforeEach
-    @Transactional
     void setUp() {
+        QuarkusTransaction.requiringNew().run(this::createUsers);
+        // The bulk delete bypasses the entity listener, so rebuild the ranking
+        reputationRanking.reload();
+    }
+
+    private void createUsers() {
         // Clear existing users and create test users with varying reputation scores
         userRepository.deleteAll();
+        userIds.clear();
 
         long timestamp = System.nanoTime();
 
@@ -46,6 +80,7 @@ class UserResourceTest {
             user.reputationScore = i * 100; // 100, 200, 300, 400, 500
             user.role = Role.USER;
             userRepository.persist(user);
+            userIds.add(user.getId());
         }
     }
 
@@ -128,6 +163,53 @@ class UserResourceTest {
         assertThat(response.currentPage()).isGreaterThan(0);
     }
 
+    @Test
+    @DisplayName("testGetLeaderboard_CursorPagination - Cursor pages continue the ranking without gaps")
+    void testGetLeaderboard_CursorPagination() {
+        List<Integer> scores = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = given().queryParam("pageSize", 2);
+            if (cursor != null) {
+                request.queryParam("cursor", cursor);
+            }
+            var response = request
+                    .when().get(USERS_URL + "/leaderboard")
+                    .then()
+                    .statusCode(200)
+                    .extract().body().as(PaginatedLeaderboardResponse.class);
+
+            response.entries().forEach(entry -> scores.add(entry.reputationScore()));
+            cursor = response.next();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(scores).containsExactly(500, 400, 300, 200, 100);
+
+        // Page numbers are served from the same ordering
+        var secondPage = given()
+                .queryParam("page", 2)
+                .queryParam("pageSize", 2)
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedLeaderboardResponse.class);
+
+        assertThat(secondPage.entries()).extracting(LeaderboardEntry::reputationScore).containsExactly(300, 200);
+    }
+
+    @Test
+    @DisplayName("testGetLeaderboard_InvalidCursor - Returns 400 for a malformed cursor")
+    void testGetLeaderboard_InvalidCursor() {
+        given()
+                .queryParam("cursor", "not-a-cursor")
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     @DisplayName("testGetTopUsers_Success - Retrieve top users")
     void testGetTopUsers_Success() {
@@ -202,4 +284,243 @@ class UserResourceTest {
         assertThat(entry.displayName()).isNotNull();
         assertThat(entry.reputationScore()).isNotNull();
     }
+
+    @Test
+    @DisplayName("testGetRank_Success - Returns the user's entry with their rank")
+    void testGetRank_Success() {
+        var entry = given()
+                .when().get(USERS_URL + "/" + IdHelper.toString(userIds.get(2)) + "/rank")
+                .then()
+                .statusCode(200)
+                .extract().body().as(LeaderboardEntry.class);
+
+        assertThat(entry.reputationScore()).isEqualTo(300);
+        assertThat(entry.rank()).isEqualTo(3);
+
+        var leaderboard = given()
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedLeaderboardResponse.class);
+
+        assertThat(leaderboard.entries()).extracting(LeaderboardEntry::rank).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(leaderboard.totalUsers()).isEqualTo(5);
+        assertThat(leaderboard.approximate()).isFalse();
+    }
+
+    @Test
+    @DisplayName("testGetRank_UserNotFound - Returns 404 for an unknown user")
+    void testGetRank_UserNotFound() {
+        given()
+                .when().get(USERS_URL + "/999999999/rank")
+                .then()
+                .statusCode(404);
+
+        given()
+                .when().get(USERS_URL + "/999999999/rank/neighborhood")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @DisplayName("testGetNeighborhood_Success - Returns the users ranked around a user")
+    void testGetNeighborhood_Success() {
+        var around = given()
+                .queryParam("radius", 1)
+                .when().get(USERS_URL + "/" + IdHelper.toString(userIds.get(2)) + "/rank/neighborhood")
+                .then()
+                .statusCode(200)
+                .extract().body().as(LeaderboardEntry[].class);
+
+        assertThat(around).extracting(LeaderboardEntry::reputationScore).containsExactly(400, 300, 200);
+        assertThat(around).extracting(LeaderboardEntry::rank).containsExactly(2L, 3L, 4L);
+
+        // The window is clipped at the top of the leaderboard
+        var top = given()
+                .queryParam("radius", 2)
+                .when().get(USERS_URL + "/" + IdHelper.toString(userIds.get(4)) + "/rank/neighborhood")
+                .then()
+                .statusCode(200)
+                .extract().body().as(LeaderboardEntry[].class);
+
+        assertThat(top).extracting(LeaderboardEntry::reputationScore).containsExactly(500, 400, 300);
+    }
+
+    @Test
+    @DisplayName("testRanking_UpdatedAfterCommit - An aggregated reputation change moves the user")
+    void testRanking_UpdatedAfterCommit() {
+        Long userId = userIds.getFirst();
+        QuarkusTransaction.requiringNew().run(() -> reputationEventRepository.record(userId,
+                ReputationEventType.FEEDBACK_STATUS, 350, null, null, null));
+        reputationAggregationJob.aggregate();
+
+        var entry = given()
+                .when().get(USERS_URL + "/" + IdHelper.toString(userId) + "/rank")
+                .then()
+                .statusCode(200)
+                .extract().body().as(LeaderboardEntry.class);
+
+        assertThat(entry.rank()).isEqualTo(2);
+
+        var top = given()
+                .queryParam("limit", 3)
+                .when().get(USERS_URL + "/leaderboard/top")
+                .then()
+                .statusCode(200)
+                .extract().body().as(LeaderboardEntry[].class);
+
+        assertThat(top).extracting(LeaderboardEntry::reputationScore).containsExactly(500, 450, 400);
+    }
+
+    @Test
+    @DisplayName("testGetLeaderboard_Window - Rolling windows rank the reputation earned recently")
+    void testGetLeaderboard_Window() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            reputationEventRepository.record(userIds.get(0), ReputationEventType.COMMENT_POSTED, 30, null, null, null);
+            reputationEventRepository.record(userIds.get(1), ReputationEventType.COMMENT_POSTED, 20, null, null, null);
+            reputationEventRepository.record(userIds.get(1), ReputationEventType.COMMENT_POSTED, 30, null, null, null);
+        });
+        reputationAggregationJob.aggregate();
+        leaderboardWindowJob.refresh();
+
+        var firstPage = given()
+                .queryParam("window", "7d")
+                .queryParam("pageSize", 1)
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedLeaderboardResponse.class);
+
+        assertThat(firstPage.entries()).extracting(LeaderboardEntry::userId)
+                .containsExactly(IdHelper.toString(userIds.get(1)));
+        assertThat(firstPage.entries()).extracting(LeaderboardEntry::reputationScore).containsExactly(50);
+        assertThat(firstPage.totalUsers()).isEqualTo(2);
+        assertThat(firstPage.next()).isNotNull();
+
+        var secondPage = given()
+                .queryParam("window", "7d")
+                .queryParam("pageSize", 1)
+                .queryParam("cursor", firstPage.next())
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedLeaderboardResponse.class);
+
+        assertThat(secondPage.entries()).extracting(LeaderboardEntry::reputationScore).containsExactly(30);
+        assertThat(secondPage.entries()).extracting(LeaderboardEntry::rank).containsExactly(2L);
+        assertThat(secondPage.next()).isNull();
+
+        // All-time scores include the reputation held before the window
+        var allTime = given()
+                .queryParam("window", "all")
+                .queryParam("pageSize", 1)
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedLeaderboardResponse.class);
+
+        assertThat(allTime.entries()).extracting(LeaderboardEntry::reputationScore).containsExactly(500);
+
+        // Cursors hold a position or a score depending on the window, so they only page their own window
+        given()
+                .queryParam("window", "all")
+                .queryParam("cursor", firstPage.next())
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(400);
+        given()
+                .queryParam("window", "7d")
+                .queryParam("cursor", allTime.next())
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testGetLeaderboard_InvalidWindow - Returns 400 for an unknown window")
+    void testGetLeaderboard_InvalidWindow() {
+        given()
+                .queryParam("window", "1y")
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testGetLeaderboard_Category - Ranks the reputation earned on feedback in the category")
+    void testGetLeaderboard_Category() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            reputationEventRepository.record(userIds.get(0), ReputationEventType.FEEDBACK_VOTE, 10,
+                    CATEGORY_FEEDBACK_ID, null, null);
+            reputationEventRepository.record(userIds.get(0), ReputationEventType.FEEDBACK_VOTE, 10,
+                    CATEGORY_FEEDBACK_ID, null, null);
+            reputationEventRepository.record(userIds.get(1), ReputationEventType.COMMENT_POSTED, 2,
+                    CATEGORY_FEEDBACK_ID, null, null);
+            // Earned in another category, or on no feedback at all
+            reputationEventRepository.record(userIds.get(2), ReputationEventType.FEEDBACK_VOTE, 50,
+                    OTHER_CATEGORY_FEEDBACK_ID, null, null);
+            reputationEventRepository.record(userIds.get(3), ReputationEventType.FEEDBACK_STATUS, 50,
+                    null, null, null);
+        });
+        reputationAggregationJob.aggregate();
+
+        var firstPage = given()
+                .queryParam("categoryId", CATEGORY_ID)
+                .queryParam("pageSize", 1)
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedLeaderboardResponse.class);
+
+        assertThat(firstPage.entries()).extracting(LeaderboardEntry::userId)
+                .containsExactly(IdHelper.toString(userIds.get(0)));
+        assertThat(firstPage.entries()).extracting(LeaderboardEntry::reputationScore).containsExactly(20);
+        assertThat(firstPage.totalUsers()).isEqualTo(2);
+        assertThat(firstPage.approximate()).isFalse();
+        assertThat(firstPage.next()).isNotNull();
+
+        var secondPage = given()
+                .queryParam("categoryId", CATEGORY_ID)
+                .queryParam("pageSize", 1)
+                .queryParam("cursor", firstPage.next())
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(200)
+                .extract().body().as(PaginatedLeaderboardResponse.class);
+
+        assertThat(secondPage.entries()).extracting(LeaderboardEntry::userId)
+                .containsExactly(IdHelper.toString(userIds.get(1)));
+        assertThat(secondPage.entries()).extracting(LeaderboardEntry::rank).containsExactly(2L);
+        assertThat(secondPage.next()).isNull();
+
+        // A cursor holds a score and rank within its category, so it only pages that category
+        given()
+                .queryParam("categoryId", OTHER_CATEGORY_ID)
+                .queryParam("pageSize", 1)
+                .queryParam("cursor", firstPage.next())
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("testGetLeaderboard_CategoryNotFound - Returns 404 for an unknown category")
+    void testGetLeaderboard_CategoryNotFound() {
+        given()
+                .queryParam("categoryId", 999999999L)
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @DisplayName("testGetLeaderboard_CategoryWithWindow - Returns 400 when a category is combined with a window")
+    void testGetLeaderboard_CategoryWithWindow() {
+        given()
+                .queryParam("categoryId", CATEGORY_ID)
+                .queryParam("window", "7d")
+                .when().get(USERS_URL + "/leaderboard")
+                .then()
+                .statusCode(400);
+    }
 }